@@ -0,0 +1,64 @@
+package smiinii.object_oriented_library.jmh;
+
+import org.openjdk.jmh.annotations.*;
+import smiinii.object_oriented_library.domain.Book;
+import smiinii.object_oriented_library.domain.reservation.Reservation;
+import smiinii.object_oriented_library.domain.reservation.Reservations;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BookReservationBenchmark {
+
+    @Param({"1", "100", "10000"})
+    private int copyCount;
+
+    @Param({"1", "100", "10000"})
+    private int queueSize;
+
+    private final Clock clock = Clock.fixed(Instant.parse("2025-11-18T10:00:00Z"), ZoneId.of("UTC"));
+    private Book book;
+    private Reservations reservations;
+
+    // 소장본 수만큼의 선두 예약자가 보류 중이므로, 보류할 수 있는 소장본이 많을수록 첫 QUEUED 예약이 뒤로 밀린다.
+    @Setup
+    public void setUp() {
+        book = DomainFixtures.bookWithAllCopiesLoaned(copyCount);
+        DomainFixtures.fillQueue(book, queueSize, clock);
+        reservations = new Reservations();
+        DomainFixtures.fillQueue(reservations, book, queueSize, clock);
+
+        int holds = Math.min(copyCount, queueSize) - 1;
+        DomainFixtures.prepareHolds(book.getReservations(), holds, clock);
+        DomainFixtures.prepareHolds(reservations.getReservations(), holds, clock);
+    }
+
+    // 대기열 맨 끝 회원의 재예약은 대기열 전체를 훑고 거절되므로 애그리거트 상태를 바꾸지 않는다.
+    @Benchmark
+    public boolean tryReserve() {
+        return book.tryReserve((long) (queueSize - 1), queueSize, clock);
+    }
+
+    @Benchmark
+    public Optional<Reservation> headQueued() {
+        return reservations.headQueued();
+    }
+
+    // 선두 회원의 연장 여부 판단. 다른 회원의 활성 예약은 두 번째 항목에서 찾지만 대기열 복사 비용이 함께 잡힌다.
+    @Benchmark
+    public boolean hasActiveReservationByOtherMember() {
+        return book.hasActiveReservationByOtherMember(0L);
+    }
+
+    @Benchmark
+    public List<Reservation> getReservations() {
+        return book.getReservations();
+    }
+}
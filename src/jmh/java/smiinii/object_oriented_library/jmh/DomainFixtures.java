@@ -0,0 +1,56 @@
+package smiinii.object_oriented_library.jmh;
+
+import smiinii.object_oriented_library.domain.Book;
+import smiinii.object_oriented_library.domain.reservation.Reservation;
+import smiinii.object_oriented_library.domain.reservation.Reservations;
+import smiinii.object_oriented_library.domain.storedbook.StoredBook;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+
+final class DomainFixtures {
+
+    private DomainFixtures() {}
+
+    // 마지막 한 권만 AVAILABLE로 남겨 소장본 전체를 훑는 최악의 경우를 만든다.
+    static Book bookWithLastCopyAvailable(int copyCount) {
+        Book book = Book.registerNew("벤치마크", "벤치마크", copyCount);
+        List<StoredBook> copies = book.getStoredBooks().getStoredBooks();
+        for (int i = 0; i < copies.size() - 1; i++) {
+            copies.get(i).loan();
+        }
+        return book;
+    }
+
+    static Book bookWithAllCopiesLoaned(int copyCount) {
+        Book book = Book.registerNew("벤치마크", "벤치마크", copyCount);
+        book.getStoredBooks().getStoredBooks().forEach(StoredBook::loan);
+        return book;
+    }
+
+    // 예약은 애그리거트의 도메인 API로만 쌓는다. 회원 ID는 0부터 차례로 쓴다.
+    static void fillQueue(Book book, int queueSize, Clock clock) {
+        for (int i = 0; i < queueSize; i++) {
+            if (!book.tryReserve((long) i, queueSize, clock)) {
+                throw new IllegalStateException("예약 대기열을 채울 수 없습니다.");
+            }
+        }
+    }
+
+    static void fillQueue(Reservations reservations, Book book, int queueSize, Clock clock) {
+        for (int i = 0; i < queueSize; i++) {
+            if (!reservations.tryReserve(book, (long) i, queueSize, clock)) {
+                throw new IllegalStateException("예약 대기열을 채울 수 없습니다.");
+            }
+        }
+    }
+
+    // 대기열 앞에서부터 count명에게 보류를 건다. 소장본 ID는 예약 순서대로 쓴다.
+    static void prepareHolds(List<Reservation> queue, int count, Clock clock) {
+        LocalDateTime holdUntil = LocalDateTime.now(clock).plusDays(3);
+        for (int i = 0; i < count; i++) {
+            queue.get(i).prepareHold((long) i, holdUntil);
+        }
+    }
+}
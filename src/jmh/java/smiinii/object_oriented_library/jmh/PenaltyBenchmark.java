@@ -0,0 +1,21 @@
+package smiinii.object_oriented_library.jmh;
+
+import org.openjdk.jmh.annotations.*;
+import smiinii.object_oriented_library.domain.Penalty;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PenaltyBenchmark {
+
+    private final LocalDateTime now = LocalDateTime.of(2025, 11, 18, 10, 0);
+    private final Penalty penalty = Penalty.of(now.minusDays(1), now.plusDays(2), "연체 3일");
+
+    @Benchmark
+    public boolean isActive() {
+        return penalty.isActive(now);
+    }
+}
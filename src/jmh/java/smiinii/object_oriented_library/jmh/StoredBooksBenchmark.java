@@ -0,0 +1,44 @@
+package smiinii.object_oriented_library.jmh;
+
+import org.openjdk.jmh.annotations.*;
+import smiinii.object_oriented_library.domain.Book;
+import smiinii.object_oriented_library.domain.storedbook.StoredBook;
+import smiinii.object_oriented_library.domain.storedbook.StoredBookCounts;
+import smiinii.object_oriented_library.domain.storedbook.StoredBooks;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StoredBooksBenchmark {
+
+    @Param({"1", "100", "10000"})
+    private int copyCount;
+
+    private StoredBooks storedBooks;
+    private StoredBookCounts storedBookCounts;
+
+    @Setup
+    public void setUp() {
+        Book book = DomainFixtures.bookWithLastCopyAvailable(copyCount);
+        storedBooks = book.getStoredBooks();
+        storedBookCounts = book.getStoredBookCounts();
+    }
+
+    @Benchmark
+    public Optional<StoredBook> firstAvailable() {
+        return storedBooks.firstAvailable();
+    }
+
+    @Benchmark
+    public boolean allLoanedByScan() {
+        return storedBooks.allLoaned();
+    }
+
+    @Benchmark
+    public boolean allLoanedByCounter() {
+        return storedBookCounts.allLoaned();
+    }
+}
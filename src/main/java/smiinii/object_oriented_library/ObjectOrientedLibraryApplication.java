@@ -2,11 +2,17 @@ package smiinii.object_oriented_library;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import smiinii.object_oriented_library.cli.CatalogImportCommand;
 
 @SpringBootApplication
 public class ObjectOrientedLibraryApplication {
 	public static void main(String[] args) {
-		SpringApplication.run(ObjectOrientedLibraryApplication.class, args);
+		ConfigurableApplicationContext context = SpringApplication.run(ObjectOrientedLibraryApplication.class, args);
+		// 카탈로그 등록 CLI로 실행했으면 스케줄러 스레드가 남지 않도록 컨텍스트를 닫고 등록 결과를 종료 코드로 돌려준다.
+		if (context.getBean(CatalogImportCommand.class).isExecuted()) {
+			System.exit(SpringApplication.exit(context));
+		}
 	}
 
 }
@@ -0,0 +1,70 @@
+package smiinii.object_oriented_library.cli;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.ExitCodeGenerator;
+import org.springframework.stereotype.Component;
+import smiinii.object_oriented_library.service.CatalogFormat;
+import smiinii.object_oriented_library.service.CatalogImportReport;
+import smiinii.object_oriented_library.service.CatalogImportService;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+// --import-catalog=<파일> [--import-format=csv|ndjson] 으로 실행하면 등록을 마치고 종료한다.
+// 형식을 주지 않으면 확장자(.ndjson, .jsonl)로 판단하고 나머지는 CSV로 읽는다.
+// 종료는 main이 맡고, 거절된 행이 있으면 종료 코드 2를 돌려준다.
+@Component
+public class CatalogImportCommand implements ApplicationRunner, ExitCodeGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogImportCommand.class);
+
+    private final CatalogImportService catalogImportService;
+    private volatile boolean executed;
+    private volatile int exitCode;
+
+    public CatalogImportCommand(CatalogImportService catalogImportService) {
+        this.catalogImportService = catalogImportService;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        if (!args.containsOption("import-catalog")) {
+            return;
+        }
+        Path path = Path.of(args.getOptionValues("import-catalog").get(0));
+        CatalogFormat format = args.containsOption("import-format")
+                ? CatalogFormat.of(args.getOptionValues("import-format").get(0))
+                : formatOf(path);
+
+        CatalogImportReport report;
+        try (InputStream in = Files.newInputStream(path)) {
+            report = catalogImportService.importCatalog(in, format);
+        }
+        report.getRejectedRows().forEach(row ->
+                log.warn("거절된 행 {}: {}", row.getLineNumber(), row.getReason()));
+        exitCode = report.getRejected() > 0 ? 2 : 0;
+        executed = true;
+    }
+
+    public boolean isExecuted() {
+        return executed;
+    }
+
+    @Override
+    public int getExitCode() {
+        return exitCode;
+    }
+
+    private CatalogFormat formatOf(Path path) {
+        String name = path.getFileName().toString().toLowerCase();
+        if (name.endsWith(".ndjson") || name.endsWith(".jsonl")) {
+            return CatalogFormat.NDJSON;
+        }
+        return CatalogFormat.CSV;
+    }
+}
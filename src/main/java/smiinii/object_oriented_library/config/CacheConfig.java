@@ -0,0 +1,40 @@
+package smiinii.object_oriented_library.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import smiinii.object_oriented_library.support.cache.CacheNames;
+
+import java.time.Duration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${library.cache.book.max-size:10000}") long bookMaxSize,
+            @Value("${library.cache.book.ttl-seconds:600}") long bookTtlSeconds,
+            @Value("${library.cache.book-page.max-size:500}") long bookPageMaxSize,
+            @Value("${library.cache.book-page.ttl-seconds:30}") long bookPageTtlSeconds
+    ) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        // recordStats()로 cache.gets(hit/miss), cache.evictions 메트릭이 Actuator에 노출된다.
+        cacheManager.registerCustomCache(CacheNames.BOOK, Caffeine.newBuilder()
+                .maximumSize(bookMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(bookTtlSeconds))
+                .recordStats()
+                .build());
+        // 목록은 변경된 도서가 속한 페이지만 골라 비운다. TTL은 DB를 직접 고친 경우를 위한 안전망이다.
+        cacheManager.registerCustomCache(CacheNames.BOOK_PAGE, Caffeine.newBuilder()
+                .maximumSize(bookPageMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(bookPageTtlSeconds))
+                .recordStats()
+                .build());
+        return cacheManager;
+    }
+}
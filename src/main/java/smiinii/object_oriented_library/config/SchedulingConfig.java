@@ -0,0 +1,35 @@
+package smiinii.object_oriented_library.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    public static final String TIMER_WHEEL_SCHEDULER = "timerWheelScheduler";
+
+    // 릴레이, 연체 탐지, 스윕, 재계산, 정리 작업이 나눠 쓰는 기본 스케줄러. 이름으로 @Scheduled의 기본값이 된다.
+    // 한 작업이 오래 걸려도(재계산, 연체 탐지 등) 아웃박스 릴레이가 밀리지 않도록 스레드를 여러 개 둔다.
+    @Bean(destroyMethod = "shutdown")
+    public ThreadPoolTaskScheduler taskScheduler(
+            @Value("${library.scheduling.pool-size:4}") int poolSize
+    ) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("scheduling-");
+        return scheduler;
+    }
+
+    // 보류 마감 휠(100ms)과 패널티 휠(1초) 틱 전용. 다른 작업이 기본 스케줄러를 붙잡고 있어도 틱이 밀리지 않는다.
+    @Bean(name = TIMER_WHEEL_SCHEDULER, destroyMethod = "shutdown")
+    public ThreadPoolTaskScheduler timerWheelScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(2);
+        scheduler.setThreadNamePrefix("timer-wheel-");
+        return scheduler;
+    }
+}
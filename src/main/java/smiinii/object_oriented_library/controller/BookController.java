@@ -1,13 +1,26 @@
 package smiinii.object_oriented_library.controller;
 
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import smiinii.object_oriented_library.dto.book.AddBooksRequest;
 import smiinii.object_oriented_library.dto.book.BookCreateRequest;
+import smiinii.object_oriented_library.dto.book.BookPageResponse;
 import smiinii.object_oriented_library.dto.book.BookResponse;
+import smiinii.object_oriented_library.dto.book.BookSearchResponse;
+import smiinii.object_oriented_library.dto.book.BookSuggestResponse;
+import smiinii.object_oriented_library.service.BookSearchService;
 import smiinii.object_oriented_library.service.BookService;
+import smiinii.object_oriented_library.service.BookSuggestService;
+import smiinii.object_oriented_library.service.CatalogFormat;
+import smiinii.object_oriented_library.service.CatalogImportReport;
+import smiinii.object_oriented_library.service.CatalogImportService;
+import smiinii.object_oriented_library.service.ExportFormat;
+import smiinii.object_oriented_library.service.ExportService;
 
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
@@ -15,9 +28,21 @@ import java.util.List;
 public class BookController {
 
     private final BookService bookService;
+    private final CatalogImportService catalogImportService;
+    private final ExportService exportService;
+    private final BookSearchService bookSearchService;
+    private final BookSuggestService bookSuggestService;
 
-    public BookController(BookService bookService) {
+    public BookController(BookService bookService,
+                          CatalogImportService catalogImportService,
+                          ExportService exportService,
+                          BookSearchService bookSearchService,
+                          BookSuggestService bookSuggestService) {
         this.bookService = bookService;
+        this.catalogImportService = catalogImportService;
+        this.exportService = exportService;
+        this.bookSearchService = bookSearchService;
+        this.bookSuggestService = bookSuggestService;
     }
 
     @PostMapping
@@ -30,6 +55,33 @@ public class BookController {
         return ResponseEntity.status(HttpStatus.CREATED).body(bookId);
     }
 
+    // 요청 본문을 그대로 스트림으로 읽는다. (format=csv|ndjson)
+    @PostMapping("/import")
+    public ResponseEntity<CatalogImportReport> importCatalog(@RequestParam(defaultValue = "csv") String format,
+                                                             InputStream body) {
+        return ResponseEntity.ok(catalogImportService.importCatalog(body, CatalogFormat.of(format)));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<BookSearchResponse>> searchBooks(@RequestParam String q,
+                                                                @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(bookSearchService.search(q, size));
+    }
+
+    @GetMapping("/suggest")
+    public ResponseEntity<List<BookSuggestResponse>> suggestTitles(@RequestParam String prefix,
+                                                                   @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(bookSuggestService.suggest(prefix, size));
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportBooks(@RequestParam(defaultValue = "ndjson") String format) {
+        ExportFormat exportFormat = ExportFormat.of(format);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .body(out -> exportService.exportBooks(out, exportFormat));
+    }
+
     @PostMapping("/{bookId}/copies")
     public ResponseEntity<Void> addStoredBooks(@PathVariable Long bookId,
                                                @RequestBody AddBooksRequest request) {
@@ -43,7 +95,8 @@ public class BookController {
     }
 
     @GetMapping
-    public ResponseEntity<List<BookResponse>> getBooks() {
-        return ResponseEntity.ok(bookService.getBooks());
+    public ResponseEntity<BookPageResponse> getBooks(@RequestParam(required = false) Long after,
+                                                     @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(bookService.getBooks(after, size));
     }
 }
@@ -1,19 +1,30 @@
 package smiinii.object_oriented_library.controller;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import smiinii.object_oriented_library.dto.loan.LoanBatchItemResponse;
+import smiinii.object_oriented_library.dto.loan.LoanBatchRequest;
 import smiinii.object_oriented_library.dto.loan.LoanCreateRequest;
 import smiinii.object_oriented_library.dto.loan.LoanCreateResponse;
+import smiinii.object_oriented_library.dto.loan.ReturnBatchRequest;
+import smiinii.object_oriented_library.service.ExportFormat;
+import smiinii.object_oriented_library.service.ExportService;
 import smiinii.object_oriented_library.service.LoanService;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/loans")
 public class LoanController {
 
     private final LoanService loanService;
+    private final ExportService exportService;
 
-    public LoanController(LoanService loanService) {
+    public LoanController(LoanService loanService, ExportService exportService) {
         this.loanService = loanService;
+        this.exportService = exportService;
     }
 
     @PostMapping
@@ -22,6 +33,24 @@ public class LoanController {
         return ResponseEntity.ok(new LoanCreateResponse(loanId));
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<List<LoanBatchItemResponse>> createLoans(@RequestBody LoanBatchRequest request) {
+        return ResponseEntity.ok(loanService.loanAll(request.getMemberId(), request.getBookIds()));
+    }
+
+    @PostMapping("/returns/batch")
+    public ResponseEntity<List<LoanBatchItemResponse>> returnBooks(@RequestBody ReturnBatchRequest request) {
+        return ResponseEntity.ok(loanService.returnAll(request.getLoanIds()));
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportLoans(@RequestParam(defaultValue = "ndjson") String format) {
+        ExportFormat exportFormat = ExportFormat.of(format);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .body(out -> exportService.exportLoans(out, exportFormat));
+    }
+
     @PostMapping("/{loanId}/return")
     public ResponseEntity<Void> returnBook(@PathVariable Long loanId) {
         loanService.returnBook(loanId);
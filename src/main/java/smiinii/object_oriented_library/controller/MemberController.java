@@ -1,6 +1,7 @@
 package smiinii.object_oriented_library.controller;
 
 import org.springframework.web.bind.annotation.*;
+import smiinii.object_oriented_library.dto.loan.MemberLoanPageResponse;
 import smiinii.object_oriented_library.dto.member.MemberCreateRequest;
 import smiinii.object_oriented_library.dto.member.MemberCreateResponse;
 import smiinii.object_oriented_library.service.MemberService;
@@ -20,4 +21,12 @@ public class MemberController {
         Long memberId = memberService.register(request.getName());
         return new MemberCreateResponse(memberId);
     }
+
+    @GetMapping("/{memberId}/loans")
+    public MemberLoanPageResponse getLoans(@PathVariable Long memberId,
+                                           @RequestParam(required = false) Boolean active,
+                                           @RequestParam(required = false) String after,
+                                           @RequestParam(defaultValue = "20") int size) {
+        return memberService.getLoans(memberId, active, after, size);
+    }
 }
@@ -4,6 +4,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import smiinii.object_oriented_library.domain.reservation.Reservation;
+import smiinii.object_oriented_library.dto.reservation.ReservationHistoryPageResponse;
 import smiinii.object_oriented_library.dto.reservation.ReservationRequest;
 import smiinii.object_oriented_library.dto.reservation.ReservationResponse;
 import smiinii.object_oriented_library.service.ReservationService;
@@ -37,4 +38,12 @@ public class ReservationController {
 
         return ResponseEntity.ok(responses);
     }
+
+    @GetMapping("/books/{bookId}/history")
+    public ResponseEntity<ReservationHistoryPageResponse> getReservationHistory(
+            @PathVariable Long bookId,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(reservationService.getReservationHistory(bookId, after, size));
+    }
 }
@@ -1,9 +1,13 @@
 package smiinii.object_oriented_library.domain;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.OptimisticLock;
 import smiinii.object_oriented_library.domain.reservation.Reservation;
 import smiinii.object_oriented_library.domain.reservation.Reservations;
 import smiinii.object_oriented_library.domain.storedbook.StoredBook;
+import smiinii.object_oriented_library.domain.storedbook.StoredBookCountChange;
+import smiinii.object_oriented_library.domain.storedbook.StoredBookCounts;
+import smiinii.object_oriented_library.domain.storedbook.StoredBookStatus;
 import smiinii.object_oriented_library.domain.storedbook.StoredBooks;
 
 import java.time.Clock;
@@ -18,12 +22,19 @@ public class Book {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private long id;
 
+    @Version
+    private long version;
+
     private String title;
     private String author;
 
     @Embedded
     private StoredBooks storedBooks = new StoredBooks();
 
+    @Embedded
+    @OptimisticLock(excluded = true)
+    private StoredBookCounts storedBookCounts = new StoredBookCounts();
+
     @Embedded
     private Reservations reservations = new Reservations();
 
@@ -35,6 +46,16 @@ public class Book {
     }
 
     public static Book registerNew(String title, String author, int initialCount) {
+        validateNew(title, author, initialCount);
+        Book book = new Book(title, author);
+        book.addAvailableStoredBooks(initialCount);
+        // 새 도서의 카운터는 INSERT에 그대로 실리므로 상대 갱신할 변화량은 없다.
+        book.storedBookCounts.drainChange();
+        return book;
+    }
+
+    // 카탈로그 일괄 등록도 같은 규칙으로 행을 검증한다.
+    public static void validateNew(String title, String author, int initialCount) {
         if (title == null || title.isBlank()) {
             throw new IllegalArgumentException("제목이 필요합니다.");
         }
@@ -44,9 +65,6 @@ public class Book {
         if (initialCount <= 0) {
             throw new IllegalArgumentException("초기 소장본 수는 1개 이상이어야 합니다.");
         }
-        Book book = new Book(title, author);
-        book.addAvailableStoredBooks(initialCount);
-        return book;
     }
 
     public void addAvailableStoredBooks(int count) {
@@ -56,14 +74,30 @@ public class Book {
         }
     }
 
+    // 소장본 행은 저장소에서 일괄 삽입하고, 애그리거트는 카운터만 반영한다.
+    public void registerBulkAvailableStoredBooks(int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("추가할 소장본 수는 1개 이상이어야 합니다.");
+        }
+        storedBookCounts.increase(StoredBookStatus.AVAILABLE, count);
+    }
+
+    public boolean acceptsReservation() {
+        return storedBookCounts.allLoaned();
+    }
+
+    // 가용 소장본이 남아 있으면 카운터만으로 거절하고, 대기열(활성 예약)은 불러오지 않는다.
     public boolean tryReserve(Long memberId, int maxQueueSize, Clock clock) {
-        if (!storedBooks.allLoaned()) {
+        if (!acceptsReservation()) {
             return false;
         }
         return reservations.tryReserve(this, memberId, maxQueueSize, clock);
     }
 
     public void assignHoldIfReservationExists(Duration holdDuration, Clock clock) {
+        if (!storedBookCounts.hasAvailable()) {
+            return;
+        }
         Optional<StoredBook> firstStoredBook = storedBooks.firstAvailable();
         if (firstStoredBook.isEmpty()) {
             return;
@@ -79,6 +113,32 @@ public class Book {
         }
     }
 
+    // 반납되거나 보류가 풀린 소장본을 대기열 선두에게 보류한다. 선두가 없으면 비어 있는 결과를 돌려준다.
+    public Optional<Reservation> assignHoldToQueueHead(Long storedBookId, Duration holdDuration, Clock clock) {
+        return reservations.assignHoldToHeadIfExists(storedBookId, holdDuration, clock);
+    }
+
+    // 소장본의 상태 전이마다 StoredBook이 호출해 카운터를 함께 갱신한다.
+    public void onStoredBookCreated(StoredBookStatus status) {
+        storedBookCounts.increase(status);
+    }
+
+    public void onStoredBookStatusChanged(StoredBookStatus from, StoredBookStatus to) {
+        storedBookCounts.move(from, to);
+    }
+
+    public StoredBookCountChange drainStoredBookCountChange() {
+        return storedBookCounts.drainChange();
+    }
+
+    public boolean repairStoredBookCounts(int availableCount, int loanedCount, int onHoldCount) {
+        if (storedBookCounts.matches(availableCount, loanedCount, onHoldCount)) {
+            return false;
+        }
+        storedBookCounts.reset(availableCount, loanedCount, onHoldCount);
+        return true;
+    }
+
     public boolean hasActiveReservationByOtherMember(Long memberId) {
         return reservations.getReservations().stream()
                 .anyMatch(r -> r.isActive() && !r.sameMember(memberId));
@@ -96,6 +156,10 @@ public class Book {
         return storedBooks;
     }
 
+    public StoredBookCounts getStoredBookCounts() {
+        return storedBookCounts;
+    }
+
     public Long getId() {
         return id;
     }
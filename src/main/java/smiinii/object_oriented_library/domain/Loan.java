@@ -6,12 +6,23 @@ import smiinii.object_oriented_library.domain.storedbook.StoredBook;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(indexes = {
+        // 회원별 대출 이력 키셋 조회
+        @Index(name = "idx_loan_member_loaned_at", columnList = "member_id, loaned_at, id"),
+        // 회원별 대출 중(returned_at IS NULL) 이력 키셋 조회
+        @Index(name = "idx_loan_member_returned_at_loaned_at", columnList = "member_id, returned_at, loaned_at, id"),
+        // 반납되지 않은(returned_at IS NULL) 대출을 반납 예정일 순으로 훑는 연체 탐지용
+        @Index(name = "idx_loan_returned_at_due_date", columnList = "returned_at, due_date, id")
+})
 public class Loan {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private long id;
 
+    @Version
+    private long version;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "member_id", nullable = false)
     private Member member;
@@ -50,10 +61,11 @@ public class Loan {
             throw new IllegalStateException("대출 중인 도서만 연장할 수 있습니다.");
         }
         if (isOverdue(now)) {
-            throw new IllegalStateException("연체 중인 도서는 연장할 수 없습니다.");
+            throw new RuleViolationException(RuleViolationException.Rule.OVERDUE_EXTENSION, "연체 중인 도서는 연장할 수 없습니다.");
         }
         if (hasReservation) {
-            throw new IllegalStateException("다른 회원의 예약 대기열이 존재해 연장할 수 없습니다.");
+            throw new RuleViolationException(RuleViolationException.Rule.RESERVED_BY_OTHER,
+                    "다른 회원의 예약 대기열이 존재해 연장할 수 없습니다.");
         }
         this.dueDate = newDueDate;
     }
@@ -6,12 +6,19 @@ import java.time.Clock;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(indexes = {
+        // 만료된 패널티 일괄 해제와 곧 끝나는 패널티 조회에 쓴다.
+        @Index(name = "idx_member_status_ends_at", columnList = "member_status, ends_at")
+})
 public class Member {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @Version
+    private long version;
+
     @Enumerated(EnumType.STRING)
     private MemberStatus memberStatus;
 
@@ -33,8 +40,12 @@ public class Member {
         return new Member(name);
     }
 
-    public boolean canBorrow() {
-        return memberStatus == MemberStatus.ACTIVE;
+    // 만료된 패널티는 스케줄러가 일괄로 해제한다. 해제 전이라도 기간이 끝났으면 쓰기 없이 대출 가능으로 본다.
+    public boolean canBorrow(Clock clock) {
+        if (memberStatus == MemberStatus.ACTIVE) {
+            return true;
+        }
+        return penalty != null && !penalty.isActive(LocalDateTime.now(clock));
     }
 
     public void applyPenalty(Penalty penalty) {
@@ -42,18 +53,6 @@ public class Member {
         this.memberStatus = MemberStatus.SUSPENDED;
     }
 
-    public void releasePenaltyIfExpired(Clock clock) {
-        if (penalty == null) {
-            return;
-        }
-        LocalDateTime now = LocalDateTime.now(clock);
-
-        if (!penalty.isActive(now)) {
-            this.penalty = null;
-            this.memberStatus = MemberStatus.ACTIVE;
-        }
-    }
-
     public boolean hasPenalty() {
         return penalty != null;
     }
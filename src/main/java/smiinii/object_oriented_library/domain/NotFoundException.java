@@ -0,0 +1,9 @@
+package smiinii.object_oriented_library.domain;
+
+// 요청이 가리키는 회원, 도서, 대출 등이 없다. 실패 사유는 메시지가 아니라 타입으로 구분한다.
+public class NotFoundException extends IllegalArgumentException {
+
+    public NotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,103 @@
+package smiinii.object_oriented_library.domain;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+// 연체 대출 한 건당 하나. 탐지 잡은 연체 일수가 늘거나 반납 예정일이 바뀐 경우에만 "지금 반납하면 받을 패널티"를 다시 계산한다.
+// 반납되면 resolvedAt을 채워 닫는다.
+@Entity
+@Table(indexes = {
+        @Index(name = "uk_overdue_notice_loan_id", columnList = "loan_id", unique = true),
+        @Index(name = "idx_overdue_notice_member_id", columnList = "member_id")
+})
+public class OverdueNotice {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "loan_id", nullable = false)
+    private Long loanId;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    private LocalDateTime dueDate;
+    private long overdueDays;
+    private LocalDateTime penaltyPreviewEndsAt; // 지금 반납했을 때 패널티 종료 시각
+    private LocalDateTime firstNoticedAt;
+    private LocalDateTime lastNoticedAt;
+    private LocalDateTime resolvedAt;
+
+    protected OverdueNotice() {}
+
+    private OverdueNotice(Long loanId, Long memberId, LocalDateTime dueDate, LocalDateTime now) {
+        this.loanId = loanId;
+        this.memberId = memberId;
+        this.dueDate = dueDate;
+        this.firstNoticedAt = now;
+        refresh(now);
+    }
+
+    public static OverdueNotice open(Long loanId, Long memberId, LocalDateTime dueDate, LocalDateTime now) {
+        if (!now.isAfter(dueDate)) {
+            throw new IllegalArgumentException("반납 예정일이 지나지 않은 대출입니다.");
+        }
+        return new OverdueNotice(loanId, memberId, dueDate, now);
+    }
+
+    // 연장으로 반납 예정일이 바뀌었을 수 있으므로 최신 값으로 맞춘 뒤 다시 계산한다.
+    // 같은 날 반복 탐지로는 행을 다시 쓰지 않도록, 바뀐 것이 없으면 false를 돌려준다.
+    public boolean refresh(LocalDateTime dueDate, LocalDateTime now) {
+        if (this.dueDate.equals(dueDate) && overdueDays == Penalty.overdueDays(dueDate, now)) {
+            return false;
+        }
+        this.dueDate = dueDate;
+        refresh(now);
+        return true;
+    }
+
+    private void refresh(LocalDateTime now) {
+        Penalty preview = Penalty.forOverdue(dueDate, now);
+        this.overdueDays = Penalty.overdueDays(dueDate, now);
+        this.penaltyPreviewEndsAt = preview.getEndsAt();
+        this.lastNoticedAt = now;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getLoanId() {
+        return loanId;
+    }
+
+    public Long getMemberId() {
+        return memberId;
+    }
+
+    public LocalDateTime getDueDate() {
+        return dueDate;
+    }
+
+    public long getOverdueDays() {
+        return overdueDays;
+    }
+
+    public LocalDateTime getPenaltyPreviewEndsAt() {
+        return penaltyPreviewEndsAt;
+    }
+
+    public LocalDateTime getFirstNoticedAt() {
+        return firstNoticedAt;
+    }
+
+    public LocalDateTime getLastNoticedAt() {
+        return lastNoticedAt;
+    }
+
+    public LocalDateTime getResolvedAt() {
+        return resolvedAt;
+    }
+}
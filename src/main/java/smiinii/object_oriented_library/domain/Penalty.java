@@ -2,6 +2,7 @@ package smiinii.object_oriented_library.domain;
 
 import jakarta.persistence.Embeddable;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 
 @Embeddable
@@ -23,6 +24,16 @@ public class Penalty {
         return new Penalty(startsAt, endsAt, reason);
     }
 
+    // 연체 일수(최소 1일)만큼 now부터 대출을 막는다.
+    public static Penalty forOverdue(LocalDateTime dueDate, LocalDateTime now) {
+        long overdueDays = overdueDays(dueDate, now);
+        return new Penalty(now, now.plusDays(overdueDays), "연체 " + overdueDays + "일");
+    }
+
+    public static long overdueDays(LocalDateTime dueDate, LocalDateTime now) {
+        return Math.max(1, Duration.between(dueDate, now).toDays());
+    }
+
     public boolean isActive(LocalDateTime now) {
         return !now.isBefore(startsAt) && now.isBefore(endsAt);
     }
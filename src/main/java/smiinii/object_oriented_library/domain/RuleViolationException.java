@@ -0,0 +1,25 @@
+package smiinii.object_oriented_library.domain;
+
+// 대출/예약/연장 규칙에 막힌 요청. 메시지 문구를 바꿔도 실패 사유(Rule)는 그대로 남는다.
+public class RuleViolationException extends IllegalStateException {
+
+    public enum Rule {
+        MEMBER_SUSPENDED,
+        NO_AVAILABLE_COPY,
+        RESERVATION_REJECTED, // 중복 예약 또는 대기열 초과
+        OVERDUE_EXTENSION,
+        RESERVED_BY_OTHER,
+        ALREADY_RETURNED
+    }
+
+    private final Rule rule;
+
+    public RuleViolationException(Rule rule, String message) {
+        super(message);
+        this.rule = rule;
+    }
+
+    public Rule getRule() {
+        return rule;
+    }
+}
@@ -7,12 +7,19 @@ import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_reservation_status_hold_until", columnList = "reservation_status, hold_until"),
+        @Index(name = "idx_reservation_book_status_created", columnList = "book_id, reservation_status, created_at")
+})
 public class Reservation {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @Version
+    private long version;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "book_id", nullable = false)
     private Book book;
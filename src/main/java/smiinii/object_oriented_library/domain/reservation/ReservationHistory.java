@@ -0,0 +1,84 @@
+package smiinii.object_oriented_library.domain.reservation;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(indexes = {
+        @Index(name = "idx_reservation_history_book_id", columnList = "book_id, id")
+})
+public class ReservationHistory {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long reservationId; // 원래 예약 ID
+
+    @Column(name = "book_id", nullable = false)
+    private Long bookId;
+
+    private Long memberId;
+
+    @Enumerated(EnumType.STRING)
+    private ReservationStatus reservationStatus;
+
+    private LocalDateTime createdAt; // 예약 시간
+    private LocalDateTime archivedAt; // 보관 시간
+
+    protected ReservationHistory() {}
+
+    private ReservationHistory(Long reservationId, Long bookId, Long memberId,
+                               ReservationStatus reservationStatus, LocalDateTime createdAt, LocalDateTime archivedAt) {
+        this.reservationId = reservationId;
+        this.bookId = bookId;
+        this.memberId = memberId;
+        this.reservationStatus = reservationStatus;
+        this.createdAt = createdAt;
+        this.archivedAt = archivedAt;
+    }
+
+    public static ReservationHistory archive(Reservation reservation, LocalDateTime archivedAt) {
+        if (reservation.isActive()) {
+            throw new IllegalStateException("진행 중인 예약은 보관할 수 없습니다.");
+        }
+        return new ReservationHistory(
+                reservation.getId(),
+                reservation.getBook().getId(),
+                reservation.getMemberId(),
+                reservation.getReservationStatus(),
+                reservation.getCreatedAt(),
+                archivedAt
+        );
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getReservationId() {
+        return reservationId;
+    }
+
+    public Long getBookId() {
+        return bookId;
+    }
+
+    public Long getMemberId() {
+        return memberId;
+    }
+
+    public ReservationStatus getReservationStatus() {
+        return reservationStatus;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getArchivedAt() {
+        return archivedAt;
+    }
+}
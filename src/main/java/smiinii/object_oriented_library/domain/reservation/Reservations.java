@@ -1,6 +1,8 @@
 package smiinii.object_oriented_library.domain.reservation;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.SQLRestriction;
 import smiinii.object_oriented_library.domain.Book;
 
 import java.time.*;
@@ -11,8 +13,13 @@ import java.util.Optional;
 @Embeddable
 public class Reservations {
 
+    // 종료된 예약(EXPIRED/LOAN_COMPLETE)은 애그리거트로 불러오지 않는다. 이력은 ReservationHistory로 보관된다.
+    // 활성 예약만 (book_id, reservation_status, created_at) 인덱스로 읽으므로 목록 크기는 대기열 상한을 넘지 않는다.
+    // 일괄 반납처럼 여러 도서의 대기열을 함께 다룰 때는 한 번의 IN 조회로 묶어 불러온다.
     @OneToMany(mappedBy = "book", fetch = FetchType.LAZY, cascade = CascadeType.ALL)
+    @SQLRestriction("reservation_status in ('QUEUED', 'HOLD_READY')")
     @OrderBy("createdAt ASC, id ASC")
+    @BatchSize(size = 50)
     private List<Reservation> reservations = new ArrayList<>();
 
     public boolean tryReserve(Book book, Long memberId, int maxQueueSize, Clock clock) {
@@ -4,12 +4,18 @@ import jakarta.persistence.*;
 import smiinii.object_oriented_library.domain.Book;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_stored_book_book_status", columnList = "book_id, status")
+})
 public class StoredBook {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private long id;
 
+    @Version
+    private long version;
+
     @Enumerated(EnumType.STRING)
     private StoredBookStatus status;
 
@@ -22,6 +28,7 @@ public class StoredBook {
     private StoredBook(Book book, StoredBookStatus status) {
         this.book = book;
         this.status = status;
+        book.onStoredBookCreated(status);
     }
 
     public static StoredBook createAvailable(Book book) {
@@ -39,7 +46,7 @@ public class StoredBook {
         if (status.isOnHold()) {
             throw new IllegalStateException("다른 회원이 예약 중입니다.");
         }
-        this.status = StoredBookStatus.LOANED;
+        changeStatus(StoredBookStatus.LOANED);
     }
 
     public void returnBook(boolean isReservation) {
@@ -47,21 +54,27 @@ public class StoredBook {
             throw new IllegalStateException("대출 중인 도서만 반납할 수 있습니다.");
         }
         if (isReservation) {
-            this.status = StoredBookStatus.ON_HOLD;
+            changeStatus(StoredBookStatus.ON_HOLD);
             return;
         }
-        this.status = StoredBookStatus.AVAILABLE;
+        changeStatus(StoredBookStatus.AVAILABLE);
     }
 
     public void toOnHold() {
         if (!status.isAvailable()) {
             throw new IllegalStateException("예약은 AVAILABLE 상태에서만 가능합니다.");
         }
-        this.status = StoredBookStatus.ON_HOLD;
+        changeStatus(StoredBookStatus.ON_HOLD);
     }
 
     public void returnToAvailable() {
-        this.status = StoredBookStatus.AVAILABLE;
+        changeStatus(StoredBookStatus.AVAILABLE);
+    }
+
+    private void changeStatus(StoredBookStatus next) {
+        StoredBookStatus previous = this.status;
+        this.status = next;
+        book.onStoredBookStatusChanged(previous, next);
     }
 
     public boolean isAvailable() {
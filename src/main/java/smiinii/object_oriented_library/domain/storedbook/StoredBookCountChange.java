@@ -0,0 +1,40 @@
+package smiinii.object_oriented_library.domain.storedbook;
+
+// 한 트랜잭션에서 쌓인 카운터 변화량. 저장소가 "x = x + delta" 형태의 상대 UPDATE로 반영한다.
+public final class StoredBookCountChange {
+
+    private static final StoredBookCountChange NONE = new StoredBookCountChange(0, 0, 0);
+
+    private final int availableDelta;
+    private final int loanedDelta;
+    private final int onHoldDelta;
+
+    private StoredBookCountChange(int availableDelta, int loanedDelta, int onHoldDelta) {
+        this.availableDelta = availableDelta;
+        this.loanedDelta = loanedDelta;
+        this.onHoldDelta = onHoldDelta;
+    }
+
+    public static StoredBookCountChange of(int availableDelta, int loanedDelta, int onHoldDelta) {
+        if (availableDelta == 0 && loanedDelta == 0 && onHoldDelta == 0) {
+            return NONE;
+        }
+        return new StoredBookCountChange(availableDelta, loanedDelta, onHoldDelta);
+    }
+
+    public boolean isEmpty() {
+        return this == NONE;
+    }
+
+    public int getAvailableDelta() {
+        return availableDelta;
+    }
+
+    public int getLoanedDelta() {
+        return loanedDelta;
+    }
+
+    public int getOnHoldDelta() {
+        return onHoldDelta;
+    }
+}
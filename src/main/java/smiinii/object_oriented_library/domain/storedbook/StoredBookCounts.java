@@ -0,0 +1,107 @@
+package smiinii.object_oriented_library.domain.storedbook;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Transient;
+
+// 카운터 컬럼은 INSERT에만 싣고 dirty checking으로는 갱신하지 않는다.
+// 로드 이후의 변화량을 모아 두었다가 저장소가 상대 UPDATE로 반영하므로, 다른 소장본의 동시 대출끼리 Book 버전이 충돌하지 않는다.
+@Embeddable
+public class StoredBookCounts {
+
+    @Column(updatable = false)
+    private int availableCount;
+    @Column(updatable = false)
+    private int loanedCount;
+    @Column(updatable = false)
+    private int onHoldCount;
+
+    @Transient
+    private int availableDelta;
+    @Transient
+    private int loanedDelta;
+    @Transient
+    private int onHoldDelta;
+
+    public void increase(StoredBookStatus status) {
+        add(status, 1);
+    }
+
+    public void increase(StoredBookStatus status, int count) {
+        add(status, count);
+    }
+
+    public void move(StoredBookStatus from, StoredBookStatus to) {
+        if (from == to) {
+            return;
+        }
+        add(from, -1);
+        add(to, 1);
+    }
+
+    public boolean allLoaned() {
+        if (total() == 0) {
+            throw new IllegalArgumentException("소장본이 비어있습니다.");
+        }
+        return loanedCount == total();
+    }
+
+    public boolean hasAvailable() {
+        return availableCount > 0;
+    }
+
+    public boolean matches(int availableCount, int loanedCount, int onHoldCount) {
+        return this.availableCount == availableCount
+                && this.loanedCount == loanedCount
+                && this.onHoldCount == onHoldCount;
+    }
+
+    // 보정은 절대값으로 덮어쓰므로 쌓인 변화량도 함께 버린다.
+    public void reset(int availableCount, int loanedCount, int onHoldCount) {
+        this.availableCount = availableCount;
+        this.loanedCount = loanedCount;
+        this.onHoldCount = onHoldCount;
+        drainChange();
+    }
+
+    public StoredBookCountChange drainChange() {
+        StoredBookCountChange change = StoredBookCountChange.of(availableDelta, loanedDelta, onHoldDelta);
+        availableDelta = 0;
+        loanedDelta = 0;
+        onHoldDelta = 0;
+        return change;
+    }
+
+    private void add(StoredBookStatus status, int delta) {
+        switch (status) {
+            case AVAILABLE -> {
+                availableCount += delta;
+                availableDelta += delta;
+            }
+            case LOANED -> {
+                loanedCount += delta;
+                loanedDelta += delta;
+            }
+            case ON_HOLD -> {
+                onHoldCount += delta;
+                onHoldDelta += delta;
+            }
+        }
+    }
+
+    public int total() {
+        return availableCount + loanedCount + onHoldCount;
+    }
+
+    public int getAvailableCount() {
+        return availableCount;
+    }
+
+    public int getLoanedCount() {
+        return loanedCount;
+    }
+
+    public int getOnHoldCount() {
+        return onHoldCount;
+    }
+}
@@ -0,0 +1,30 @@
+package smiinii.object_oriented_library.dto.book;
+
+import java.util.List;
+
+public class BookPageResponse {
+
+    private final List<BookResponse> books;
+    private final Long nextCursor;
+
+    public BookPageResponse(List<BookResponse> books, Long nextCursor) {
+        this.books = books;
+        this.nextCursor = nextCursor;
+    }
+
+    public static BookPageResponse of(List<BookResponse> fetched, int size) {
+        if (fetched.size() <= size) {
+            return new BookPageResponse(List.copyOf(fetched), null);
+        }
+        List<BookResponse> page = List.copyOf(fetched.subList(0, size));
+        return new BookPageResponse(page, page.get(size - 1).getId());
+    }
+
+    public List<BookResponse> getBooks() {
+        return books;
+    }
+
+    public Long getNextCursor() {
+        return nextCursor;
+    }
+}
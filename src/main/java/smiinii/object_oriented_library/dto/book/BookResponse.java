@@ -1,6 +1,7 @@
 package smiinii.object_oriented_library.dto.book;
 
 import smiinii.object_oriented_library.domain.Book;
+import smiinii.object_oriented_library.domain.storedbook.StoredBookCounts;
 
 public class BookResponse {
 
@@ -8,20 +9,24 @@ public class BookResponse {
     private final String title;
     private final String author;
     private final int copyCount;
+    private final int availableCount;
 
-    public BookResponse(Long id, String title, String author, int copyCount) {
+    public BookResponse(Long id, String title, String author, int copyCount, int availableCount) {
         this.id = id;
         this.title = title;
         this.author = author;
         this.copyCount = copyCount;
+        this.availableCount = availableCount;
     }
 
     public static BookResponse from(Book book) {
+        StoredBookCounts counts = book.getStoredBookCounts();
         return new BookResponse(
                 book.getId(),
                 book.getTitle(),
                 book.getAuthor(),
-                book.getStoredBooks().size()
+                counts.total(),
+                counts.getAvailableCount()
         );
     }
 
@@ -40,4 +45,8 @@ public class BookResponse {
     public int getCopyCount() {
         return copyCount;
     }
+
+    public int getAvailableCount() {
+        return availableCount;
+    }
 }
@@ -0,0 +1,32 @@
+package smiinii.object_oriented_library.dto.book;
+
+public class BookSearchResponse {
+
+    private final Long id;
+    private final String title;
+    private final String author;
+    private final double score;
+
+    public BookSearchResponse(Long id, String title, String author, double score) {
+        this.id = id;
+        this.title = title;
+        this.author = author;
+        this.score = score;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getAuthor() {
+        return author;
+    }
+
+    public double getScore() {
+        return score;
+    }
+}
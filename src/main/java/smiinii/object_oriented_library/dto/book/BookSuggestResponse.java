@@ -0,0 +1,26 @@
+package smiinii.object_oriented_library.dto.book;
+
+public class BookSuggestResponse {
+
+    private final Long id;
+    private final String title;
+    private final long loanCount;
+
+    public BookSuggestResponse(Long id, String title, long loanCount) {
+        this.id = id;
+        this.title = title;
+        this.loanCount = loanCount;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public long getLoanCount() {
+        return loanCount;
+    }
+}
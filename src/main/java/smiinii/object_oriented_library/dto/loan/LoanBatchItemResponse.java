@@ -0,0 +1,40 @@
+package smiinii.object_oriented_library.dto.loan;
+
+public class LoanBatchItemResponse {
+
+    private final Long requestedId; // 대출 요청이면 도서 ID, 반납 요청이면 대출 ID
+    private final boolean success;
+    private final Long loanId;
+    private final String message;
+
+    private LoanBatchItemResponse(Long requestedId, boolean success, Long loanId, String message) {
+        this.requestedId = requestedId;
+        this.success = success;
+        this.loanId = loanId;
+        this.message = message;
+    }
+
+    public static LoanBatchItemResponse succeeded(Long requestedId, Long loanId) {
+        return new LoanBatchItemResponse(requestedId, true, loanId, null);
+    }
+
+    public static LoanBatchItemResponse failed(Long requestedId, String message) {
+        return new LoanBatchItemResponse(requestedId, false, null, message);
+    }
+
+    public Long getRequestedId() {
+        return requestedId;
+    }
+
+    public boolean isSuccess() {
+        return success;
+    }
+
+    public Long getLoanId() {
+        return loanId;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+}
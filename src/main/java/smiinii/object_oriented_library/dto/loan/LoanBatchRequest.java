@@ -0,0 +1,30 @@
+package smiinii.object_oriented_library.dto.loan;
+
+import java.util.List;
+
+public class LoanBatchRequest {
+
+    private Long memberId;
+    private List<Long> bookIds;
+
+    public LoanBatchRequest(Long memberId, List<Long> bookIds) {
+        this.memberId = memberId;
+        this.bookIds = bookIds;
+    }
+
+    public Long getMemberId() {
+        return memberId;
+    }
+
+    public List<Long> getBookIds() {
+        return bookIds;
+    }
+
+    public void setMemberId(Long memberId) {
+        this.memberId = memberId;
+    }
+
+    public void setBookIds(List<Long> bookIds) {
+        this.bookIds = bookIds;
+    }
+}
@@ -0,0 +1,53 @@
+package smiinii.object_oriented_library.dto.loan;
+
+import java.time.LocalDateTime;
+
+public class LoanExportRow {
+
+    private final Long id;
+    private final Long memberId;
+    private final Long bookId;
+    private final Long storedBookId;
+    private final LocalDateTime loanedAt;
+    private final LocalDateTime dueDate;
+    private final LocalDateTime returnedAt;
+
+    public LoanExportRow(Long id, Long memberId, Long bookId, Long storedBookId,
+                         LocalDateTime loanedAt, LocalDateTime dueDate, LocalDateTime returnedAt) {
+        this.id = id;
+        this.memberId = memberId;
+        this.bookId = bookId;
+        this.storedBookId = storedBookId;
+        this.loanedAt = loanedAt;
+        this.dueDate = dueDate;
+        this.returnedAt = returnedAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getMemberId() {
+        return memberId;
+    }
+
+    public Long getBookId() {
+        return bookId;
+    }
+
+    public Long getStoredBookId() {
+        return storedBookId;
+    }
+
+    public LocalDateTime getLoanedAt() {
+        return loanedAt;
+    }
+
+    public LocalDateTime getDueDate() {
+        return dueDate;
+    }
+
+    public LocalDateTime getReturnedAt() {
+        return returnedAt;
+    }
+}
@@ -0,0 +1,34 @@
+package smiinii.object_oriented_library.dto.loan;
+
+import java.util.List;
+
+public class MemberLoanPageResponse {
+
+    public static final String CURSOR_SEPARATOR = "_";
+
+    private final List<MemberLoanResponse> loans;
+    private final String nextCursor;
+
+    public MemberLoanPageResponse(List<MemberLoanResponse> loans, String nextCursor) {
+        this.loans = loans;
+        this.nextCursor = nextCursor;
+    }
+
+    // 커서는 마지막 행의 (대출 시각, 대출 ID)로, 정렬 키와 같아 다음 페이지를 인덱스에서 바로 이어 읽는다.
+    public static MemberLoanPageResponse of(List<MemberLoanResponse> fetched, int size) {
+        if (fetched.size() <= size) {
+            return new MemberLoanPageResponse(List.copyOf(fetched), null);
+        }
+        List<MemberLoanResponse> page = List.copyOf(fetched.subList(0, size));
+        MemberLoanResponse last = page.get(size - 1);
+        return new MemberLoanPageResponse(page, last.getLoanedAt() + CURSOR_SEPARATOR + last.getLoanId());
+    }
+
+    public List<MemberLoanResponse> getLoans() {
+        return loans;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+}
@@ -0,0 +1,62 @@
+package smiinii.object_oriented_library.dto.loan;
+
+import java.time.LocalDateTime;
+
+public class MemberLoanResponse {
+
+    private final Long loanId;
+    private final Long bookId;
+    private final String title;
+    private final Long storedBookId;
+    private final LocalDateTime loanedAt;
+    private final LocalDateTime dueDate;
+    private final LocalDateTime returnedAt;
+
+    public MemberLoanResponse(Long loanId,
+                              Long bookId,
+                              String title,
+                              Long storedBookId,
+                              LocalDateTime loanedAt,
+                              LocalDateTime dueDate,
+                              LocalDateTime returnedAt) {
+        this.loanId = loanId;
+        this.bookId = bookId;
+        this.title = title;
+        this.storedBookId = storedBookId;
+        this.loanedAt = loanedAt;
+        this.dueDate = dueDate;
+        this.returnedAt = returnedAt;
+    }
+
+    public Long getLoanId() {
+        return loanId;
+    }
+
+    public Long getBookId() {
+        return bookId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public Long getStoredBookId() {
+        return storedBookId;
+    }
+
+    public LocalDateTime getLoanedAt() {
+        return loanedAt;
+    }
+
+    public LocalDateTime getDueDate() {
+        return dueDate;
+    }
+
+    public LocalDateTime getReturnedAt() {
+        return returnedAt;
+    }
+
+    public boolean isActive() {
+        return returnedAt == null;
+    }
+}
@@ -0,0 +1,20 @@
+package smiinii.object_oriented_library.dto.loan;
+
+import java.util.List;
+
+public class ReturnBatchRequest {
+
+    private List<Long> loanIds;
+
+    public ReturnBatchRequest(List<Long> loanIds) {
+        this.loanIds = loanIds;
+    }
+
+    public List<Long> getLoanIds() {
+        return loanIds;
+    }
+
+    public void setLoanIds(List<Long> loanIds) {
+        this.loanIds = loanIds;
+    }
+}
@@ -0,0 +1,30 @@
+package smiinii.object_oriented_library.dto.reservation;
+
+import java.util.List;
+
+public class ReservationHistoryPageResponse {
+
+    private final List<ReservationHistoryResponse> histories;
+    private final Long nextCursor;
+
+    public ReservationHistoryPageResponse(List<ReservationHistoryResponse> histories, Long nextCursor) {
+        this.histories = histories;
+        this.nextCursor = nextCursor;
+    }
+
+    public static ReservationHistoryPageResponse of(List<ReservationHistoryResponse> fetched, int size) {
+        if (fetched.size() <= size) {
+            return new ReservationHistoryPageResponse(List.copyOf(fetched), null);
+        }
+        List<ReservationHistoryResponse> page = List.copyOf(fetched.subList(0, size));
+        return new ReservationHistoryPageResponse(page, page.get(size - 1).getHistoryId());
+    }
+
+    public List<ReservationHistoryResponse> getHistories() {
+        return histories;
+    }
+
+    public Long getNextCursor() {
+        return nextCursor;
+    }
+}
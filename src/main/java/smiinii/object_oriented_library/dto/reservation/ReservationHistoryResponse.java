@@ -0,0 +1,72 @@
+package smiinii.object_oriented_library.dto.reservation;
+
+import smiinii.object_oriented_library.domain.reservation.ReservationHistory;
+
+import java.time.LocalDateTime;
+
+public class ReservationHistoryResponse {
+
+    private final Long historyId;
+    private final Long reservationId;
+    private final Long memberId;
+    private final Long bookId;
+    private final String status;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime archivedAt;
+
+    public ReservationHistoryResponse(Long historyId,
+                                      Long reservationId,
+                                      Long memberId,
+                                      Long bookId,
+                                      String status,
+                                      LocalDateTime createdAt,
+                                      LocalDateTime archivedAt) {
+        this.historyId = historyId;
+        this.reservationId = reservationId;
+        this.memberId = memberId;
+        this.bookId = bookId;
+        this.status = status;
+        this.createdAt = createdAt;
+        this.archivedAt = archivedAt;
+    }
+
+    public static ReservationHistoryResponse from(ReservationHistory history) {
+        return new ReservationHistoryResponse(
+                history.getId(),
+                history.getReservationId(),
+                history.getMemberId(),
+                history.getBookId(),
+                history.getReservationStatus().name(),
+                history.getCreatedAt(),
+                history.getArchivedAt()
+        );
+    }
+
+    public Long getHistoryId() {
+        return historyId;
+    }
+
+    public Long getReservationId() {
+        return reservationId;
+    }
+
+    public Long getMemberId() {
+        return memberId;
+    }
+
+    public Long getBookId() {
+        return bookId;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getArchivedAt() {
+        return archivedAt;
+    }
+}
@@ -0,0 +1,88 @@
+package smiinii.object_oriented_library.repository;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import smiinii.object_oriented_library.domain.storedbook.StoredBookCountChange;
+import smiinii.object_oriented_library.service.CatalogRecord;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+// 도서 행을 JPA를 거치지 않고 다룬다. 카탈로그 일괄 등록과 소장본 카운터의 상대 갱신을 맡는다.
+@Repository
+public class BookJdbcRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO book (title, author, available_count, loaned_count, on_hold_count, version)
+            VALUES (?, ?, ?, 0, 0, 0)
+            """;
+
+    // 카운터는 Book 버전을 올리지 않는다. 동시에 다른 소장본을 대출해도 서로의 변화량이 더해질 뿐 충돌하지 않는다.
+    private static final String APPLY_COUNT_CHANGE_SQL = """
+            UPDATE book
+            SET available_count = available_count + ?,
+                loaned_count = loaned_count + ?,
+                on_hold_count = on_hold_count + ?
+            WHERE id = ?
+            """;
+
+    // 읽어 둔 값이 그대로일 때만 덮어쓴다. 그 사이 상대 갱신이 끼어들었다면 다음 보정 주기에 다시 계산한다.
+    private static final String RESET_COUNTS_SQL = """
+            UPDATE book
+            SET available_count = ?, loaned_count = ?, on_hold_count = ?
+            WHERE id = ? AND available_count = ? AND loaned_count = ? AND on_hold_count = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public BookJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public List<Long> insertAll(List<CatalogRecord> records) {
+        return jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                for (CatalogRecord record : records) {
+                    ps.setString(1, record.getTitle());
+                    ps.setString(2, record.getAuthor());
+                    ps.setInt(3, record.getCopies());
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+                List<Long> ids = new ArrayList<>(records.size());
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    while (keys.next()) {
+                        ids.add(keys.getLong(1));
+                    }
+                }
+                if (ids.size() != records.size()) {
+                    throw new IllegalStateException("생성된 도서 ID 수가 입력 수와 다릅니다.");
+                }
+                return ids;
+            }
+        });
+    }
+
+    public void applyCountChanges(Map<Long, StoredBookCountChange> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = new ArrayList<>(changes.size());
+        changes.forEach((bookId, change) -> args.add(new Object[]{
+                change.getAvailableDelta(), change.getLoanedDelta(), change.getOnHoldDelta(), bookId}));
+        jdbcTemplate.batchUpdate(APPLY_COUNT_CHANGE_SQL, args);
+    }
+
+    public boolean resetCounts(long bookId,
+                               int expectedAvailable, int expectedLoaned, int expectedOnHold,
+                               int availableCount, int loanedCount, int onHoldCount) {
+        return jdbcTemplate.update(RESET_COUNTS_SQL,
+                availableCount, loanedCount, onHoldCount,
+                bookId, expectedAvailable, expectedLoaned, expectedOnHold) == 1;
+    }
+}
@@ -0,0 +1,8 @@
+package smiinii.object_oriented_library.repository;
+
+public interface BookLoanCount {
+
+    Long getBookId();
+
+    long getTotal();
+}
@@ -1,7 +1,34 @@
 package smiinii.object_oriented_library.repository;
 
+import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import smiinii.object_oriented_library.domain.Book;
+import smiinii.object_oriented_library.dto.book.BookResponse;
+
+import java.util.List;
+import java.util.Optional;
 
 public interface BookRepository extends JpaRepository<Book, Long> {
+
+    @Query("""
+            select new smiinii.object_oriented_library.dto.book.BookResponse(
+                b.id, b.title, b.author,
+                b.storedBookCounts.availableCount + b.storedBookCounts.loanedCount + b.storedBookCounts.onHoldCount,
+                b.storedBookCounts.availableCount)
+            from Book b
+            where b.id > :afterId
+            order by b.id asc
+            """)
+    List<BookResponse> findPageAfter(@Param("afterId") long afterId, Pageable pageable);
+
+    List<Book> findByIdGreaterThanOrderByIdAsc(long afterId, Pageable pageable);
+
+    // 예약 행만 추가되는 경우에도 Book 버전을 올려 대기열 상한 검사가 동시 요청 사이에서 깨지지 않게 한다.
+    @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+    @Query("select b from Book b where b.id = :id")
+    Optional<Book> findByIdForReservation(@Param("id") Long id);
 }
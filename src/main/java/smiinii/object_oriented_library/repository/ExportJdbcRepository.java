@@ -0,0 +1,68 @@
+package smiinii.object_oriented_library.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import smiinii.object_oriented_library.dto.book.BookResponse;
+import smiinii.object_oriented_library.dto.loan.LoanExportRow;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 내보내기용 조회. 엔티티를 만들지 않고 id 키셋 조건(id > 마지막 id)과 LIMIT으로 한 청크씩 따로 조회한다.
+// 청크마다 쿼리가 끝나므로 결과 집합 전체를 커서로 열어 두지 않고, 한 번에 메모리에 올리는 행도 청크 크기를 넘지 않는다.
+@Repository
+public class ExportJdbcRepository {
+
+    private static final String BOOK_CHUNK_SQL = """
+            SELECT id, title, author, available_count + loaned_count + on_hold_count AS copy_count, available_count
+            FROM book
+            WHERE id > ?
+            ORDER BY id
+            LIMIT ?
+            """;
+
+    private static final String LOAN_CHUNK_SQL = """
+            SELECT l.id, l.member_id, sb.book_id, l.stored_book_id, l.loaned_at, l.due_date, l.returned_at
+            FROM loan l
+            JOIN stored_book sb ON sb.id = l.stored_book_id
+            WHERE l.id > ?
+            ORDER BY l.id
+            LIMIT ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ExportJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public List<BookResponse> findBooksAfter(long afterId, int limit) {
+        return jdbcTemplate.query(BOOK_CHUNK_SQL, (rs, rowNum) -> new BookResponse(
+                rs.getLong("id"),
+                rs.getString("title"),
+                rs.getString("author"),
+                rs.getInt("copy_count"),
+                rs.getInt("available_count")
+        ), afterId, limit);
+    }
+
+    public List<LoanExportRow> findLoansAfter(long afterId, int limit) {
+        return jdbcTemplate.query(LOAN_CHUNK_SQL, (rs, rowNum) -> new LoanExportRow(
+                rs.getLong("id"),
+                rs.getLong("member_id"),
+                rs.getLong("book_id"),
+                rs.getLong("stored_book_id"),
+                toLocalDateTime(rs, "loaned_at"),
+                toLocalDateTime(rs, "due_date"),
+                toLocalDateTime(rs, "returned_at")
+        ), afterId, limit);
+    }
+
+    private LocalDateTime toLocalDateTime(ResultSet rs, String column) throws SQLException {
+        Timestamp timestamp = rs.getTimestamp(column);
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+}
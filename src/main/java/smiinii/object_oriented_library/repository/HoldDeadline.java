@@ -0,0 +1,10 @@
+package smiinii.object_oriented_library.repository;
+
+import java.time.LocalDateTime;
+
+public interface HoldDeadline {
+
+    Long getReservationId();
+
+    LocalDateTime getHoldUntil();
+}
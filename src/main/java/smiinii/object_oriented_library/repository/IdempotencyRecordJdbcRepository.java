@@ -0,0 +1,48 @@
+package smiinii.object_oriented_library.repository;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+// Idempotency-Key 선점을 조회 없이 문장 하나씩으로 끝낸다. 각 문장이 원자적이므로 여러 노드가 같은 키를 동시에 가져가지 못한다.
+@Repository
+public class IdempotencyRecordJdbcRepository {
+
+    private static final String INSERT_PENDING_SQL = """
+            INSERT INTO idempotency_record (idempotency_key, fingerprint, status, created_at, expires_at)
+            VALUES (?, ?, 'PENDING', ?, ?)
+            """;
+
+    // 기간이 지난 행만 새 PENDING 선점으로 덮어쓴다. 기간 조건은 잠금 읽기로 다시 평가되므로 둘 중 한쪽만 성공한다.
+    private static final String TAKE_OVER_EXPIRED_SQL = """
+            UPDATE idempotency_record
+            SET fingerprint = ?, status = 'PENDING', response_status = NULL, response_content_type = NULL,
+                response_body = NULL, created_at = ?, expires_at = ?
+            WHERE idempotency_key = ? AND expires_at <= ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public IdempotencyRecordJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // 처음 보는 키면 PENDING 행을 넣고 true, 이미 행이 있으면 false
+    public boolean insertPending(String key, String fingerprint, LocalDateTime now, LocalDateTime pendingUntil) {
+        try {
+            return jdbcTemplate.update(INSERT_PENDING_SQL,
+                    key, fingerprint, Timestamp.valueOf(now), Timestamp.valueOf(pendingUntil)) == 1;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    // 보관 기간이 지났거나 처리하던 노드가 응답을 남기지 못한 키를 가져오면 true
+    public boolean takeOverExpired(String key, String fingerprint, LocalDateTime now, LocalDateTime pendingUntil) {
+        return jdbcTemplate.update(TAKE_OVER_EXPIRED_SQL,
+                fingerprint, Timestamp.valueOf(now), Timestamp.valueOf(pendingUntil), key, Timestamp.valueOf(now)) == 1;
+    }
+}
@@ -0,0 +1,16 @@
+package smiinii.object_oriented_library.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import smiinii.object_oriented_library.support.idempotency.IdempotencyRecord;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+
+    @Query("select r.idempotencyKey from IdempotencyRecord r where r.expiresAt <= :now")
+    List<String> findExpiredKeys(@Param("now") LocalDateTime now, Pageable pageable);
+}
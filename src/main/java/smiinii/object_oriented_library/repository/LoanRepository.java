@@ -1,7 +1,139 @@
 package smiinii.object_oriented_library.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import smiinii.object_oriented_library.domain.Loan;
+import smiinii.object_oriented_library.dto.loan.MemberLoanResponse;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 public interface LoanRepository extends JpaRepository<Loan, Long> {
+
+    long countByReturnedAtIsNull();
+
+    @Query("""
+            select l from Loan l
+            join fetch l.member
+            join fetch l.storedBook sb
+            join fetch sb.book
+            where l.id in :loanIds
+            """)
+    List<Loan> findAllForReturn(@Param("loanIds") Collection<Long> loanIds);
+
+    @Query("select sb.book.id from Loan l join l.storedBook sb where l.id = :loanId")
+    Optional<Long> findBookIdByLoanId(@Param("loanId") Long loanId);
+
+    @Query("select distinct sb.book.id from Loan l join l.storedBook sb where l.id in :loanIds")
+    List<Long> findBookIdsByLoanIds(@Param("loanIds") Collection<Long> loanIds);
+
+    @Query("""
+            select sb.book.id as bookId, count(l) as total
+            from Loan l
+            join l.storedBook sb
+            group by sb.book.id
+            """)
+    List<BookLoanCount> countByBook();
+
+    // idx_loan_returned_at_due_date를 (due_date, id) 순서로 이어 읽는다.
+    @Query("""
+            select l.id as loanId, l.member.id as memberId, l.dueDate as dueDate
+            from Loan l
+            where l.returnedAt is null
+              and l.dueDate < :now
+              and (l.dueDate > :afterDueDate or (l.dueDate = :afterDueDate and l.id > :afterId))
+            order by l.dueDate asc, l.id asc
+            """)
+    List<OverdueLoan> findOverdueChunk(@Param("now") LocalDateTime now,
+                                       @Param("afterDueDate") LocalDateTime afterDueDate,
+                                       @Param("afterId") long afterId,
+                                       Pageable pageable);
+
+    // 전체/반납 이력은 (member_id, loaned_at, id), 대출 중 이력은 (member_id, returned_at, loaned_at, id) 인덱스를 역순으로 읽는다.
+    // 첫 페이지는 커서 조건 없이 따로 조회한다. 도서 정보는 조인해 DTO로 바로 만든다.
+    @Query("""
+            select new smiinii.object_oriented_library.dto.loan.MemberLoanResponse(
+                l.id, b.id, b.title, sb.id, l.loanedAt, l.dueDate, l.returnedAt)
+            from Loan l
+            join l.storedBook sb
+            join sb.book b
+            where l.member.id = :memberId
+            order by l.loanedAt desc, l.id desc
+            """)
+    List<MemberLoanResponse> findFirstPageByMember(@Param("memberId") Long memberId, Pageable pageable);
+
+    @Query("""
+            select new smiinii.object_oriented_library.dto.loan.MemberLoanResponse(
+                l.id, b.id, b.title, sb.id, l.loanedAt, l.dueDate, l.returnedAt)
+            from Loan l
+            join l.storedBook sb
+            join sb.book b
+            where l.member.id = :memberId
+              and (l.loanedAt < :loanedAt or (l.loanedAt = :loanedAt and l.id < :loanId))
+            order by l.loanedAt desc, l.id desc
+            """)
+    List<MemberLoanResponse> findPageByMember(@Param("memberId") Long memberId,
+                                              @Param("loanedAt") LocalDateTime loanedAt,
+                                              @Param("loanId") long loanId,
+                                              Pageable pageable);
+
+    @Query("""
+            select new smiinii.object_oriented_library.dto.loan.MemberLoanResponse(
+                l.id, b.id, b.title, sb.id, l.loanedAt, l.dueDate, l.returnedAt)
+            from Loan l
+            join l.storedBook sb
+            join sb.book b
+            where l.member.id = :memberId
+              and l.returnedAt is null
+            order by l.loanedAt desc, l.id desc
+            """)
+    List<MemberLoanResponse> findActiveFirstPageByMember(@Param("memberId") Long memberId, Pageable pageable);
+
+    @Query("""
+            select new smiinii.object_oriented_library.dto.loan.MemberLoanResponse(
+                l.id, b.id, b.title, sb.id, l.loanedAt, l.dueDate, l.returnedAt)
+            from Loan l
+            join l.storedBook sb
+            join sb.book b
+            where l.member.id = :memberId
+              and l.returnedAt is null
+              and (l.loanedAt < :loanedAt or (l.loanedAt = :loanedAt and l.id < :loanId))
+            order by l.loanedAt desc, l.id desc
+            """)
+    List<MemberLoanResponse> findActivePageByMember(@Param("memberId") Long memberId,
+                                                    @Param("loanedAt") LocalDateTime loanedAt,
+                                                    @Param("loanId") long loanId,
+                                                    Pageable pageable);
+
+    @Query("""
+            select new smiinii.object_oriented_library.dto.loan.MemberLoanResponse(
+                l.id, b.id, b.title, sb.id, l.loanedAt, l.dueDate, l.returnedAt)
+            from Loan l
+            join l.storedBook sb
+            join sb.book b
+            where l.member.id = :memberId
+              and l.returnedAt is not null
+            order by l.loanedAt desc, l.id desc
+            """)
+    List<MemberLoanResponse> findReturnedFirstPageByMember(@Param("memberId") Long memberId, Pageable pageable);
+
+    @Query("""
+            select new smiinii.object_oriented_library.dto.loan.MemberLoanResponse(
+                l.id, b.id, b.title, sb.id, l.loanedAt, l.dueDate, l.returnedAt)
+            from Loan l
+            join l.storedBook sb
+            join sb.book b
+            where l.member.id = :memberId
+              and l.returnedAt is not null
+              and (l.loanedAt < :loanedAt or (l.loanedAt = :loanedAt and l.id < :loanId))
+            order by l.loanedAt desc, l.id desc
+            """)
+    List<MemberLoanResponse> findReturnedPageByMember(@Param("memberId") Long memberId,
+                                                      @Param("loanedAt") LocalDateTime loanedAt,
+                                                      @Param("loanId") long loanId,
+                                                      Pageable pageable);
 }
@@ -0,0 +1,47 @@
+package smiinii.object_oriented_library.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// 만료된 패널티를 엔티티를 읽지 않고 UPDATE 한 번으로 해제한다.
+// version을 올려 두면 같은 회원을 읽어 둔 트랜잭션(반납 중 패널티 부여 등)은 낙관적 락 충돌로 재시도된다.
+@Repository
+public class MemberJdbcRepository {
+
+    private static final String RELEASE_SET =
+            "UPDATE member SET member_status = 'ACTIVE', starts_at = NULL, ends_at = NULL, reason = NULL, "
+                    + "version = version + 1 ";
+
+    private static final String RELEASE_EXPIRED_SQL = RELEASE_SET
+            + "WHERE member_status = 'SUSPENDED' AND ends_at <= ? ORDER BY ends_at LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public MemberJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // (member_status, ends_at) 인덱스 순서로 limit건까지 해제한다.
+    public int releaseExpiredPenalties(LocalDateTime now, int limit) {
+        return jdbcTemplate.update(RELEASE_EXPIRED_SQL, Timestamp.valueOf(now), limit);
+    }
+
+    // 그 사이 새 패널티가 부여됐을 수 있으므로 만료 조건을 다시 확인한다.
+    public int releaseExpiredPenalties(List<Long> memberIds, LocalDateTime now) {
+        if (memberIds.isEmpty()) {
+            return 0;
+        }
+        String placeholders = String.join(", ", Collections.nCopies(memberIds.size(), "?"));
+        String sql = RELEASE_SET
+                + "WHERE id IN (" + placeholders + ") AND member_status = 'SUSPENDED' AND ends_at <= ?";
+        List<Object> args = new ArrayList<>(memberIds);
+        args.add(Timestamp.valueOf(now));
+        return jdbcTemplate.update(sql, args.toArray());
+    }
+}
@@ -1,7 +1,26 @@
 package smiinii.object_oriented_library.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import smiinii.object_oriented_library.domain.Member;
+import smiinii.object_oriented_library.domain.MemberStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
+
+    long countByMemberStatus(MemberStatus memberStatus);
+
+    // (member_status, ends_at) 인덱스 범위 조회
+    @Query("""
+            select m.id as memberId, m.penalty.endsAt as endsAt
+            from Member m
+            where m.memberStatus = :status
+              and m.penalty.endsAt > :from and m.penalty.endsAt <= :to
+            """)
+    List<PenaltyDeadline> findPenaltiesEndingBetween(@Param("status") MemberStatus status,
+                                                     @Param("from") LocalDateTime from,
+                                                     @Param("to") LocalDateTime to);
 }
@@ -0,0 +1,10 @@
+package smiinii.object_oriented_library.repository;
+
+import smiinii.object_oriented_library.support.outbox.OutboxEventType;
+
+public interface OutboxAggregate {
+
+    OutboxEventType getEventType();
+
+    Long getAggregateId();
+}
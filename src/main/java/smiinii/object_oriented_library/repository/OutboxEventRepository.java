@@ -0,0 +1,36 @@
+package smiinii.object_oriented_library.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import smiinii.object_oriented_library.support.outbox.OutboxEvent;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // SKIP LOCKED 없이 잠가 여러 인스턴스의 릴레이가 동시에 돌아도 id 순서대로 한 곳에서만 전달한다.
+    // 보류된 이벤트는 건너뛰어, 계속 실패하는 이벤트가 배치 앞자리를 차지하지 않게 한다.
+    @Query(value = """
+            SELECT * FROM outbox_event
+            WHERE published_at IS NULL AND parked_at IS NULL
+            ORDER BY id
+            LIMIT :limit
+            FOR UPDATE
+            """, nativeQuery = true)
+    List<OutboxEvent> lockPending(@Param("limit") int limit);
+
+    long countByPublishedAtIsNullAndParkedAtIsNull();
+
+    long countByPublishedAtIsNullAndParkedAtIsNotNull();
+
+    // 보류된 이벤트가 있는 애그리거트. 그 뒤 이벤트도 순서를 지키려 함께 보류한다.
+    @Query("select distinct e.eventType as eventType, e.aggregateId as aggregateId from OutboxEvent e " +
+            "where e.publishedAt is null and e.parkedAt is not null")
+    List<OutboxAggregate> findParkedAggregates();
+
+    @Query("select e.id from OutboxEvent e where e.publishedAt < :cutoff order by e.id asc")
+    List<Long> findPublishedIdsBefore(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+}
@@ -0,0 +1,12 @@
+package smiinii.object_oriented_library.repository;
+
+import java.time.LocalDateTime;
+
+public interface OverdueLoan {
+
+    Long getLoanId();
+
+    Long getMemberId();
+
+    LocalDateTime getDueDate();
+}
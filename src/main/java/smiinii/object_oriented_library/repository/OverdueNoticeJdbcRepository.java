@@ -0,0 +1,77 @@
+package smiinii.object_oriented_library.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import smiinii.object_oriented_library.domain.OverdueNotice;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+// 알림 id도 IDENTITY라 Hibernate가 insert를 배치로 묶지 못하므로, 새로 탐지된 알림은 JDBC 배치로 넣는다.
+// 탐지와 반납은 서로 잠그지 않으므로, 두 문장 모두 반납된 대출의 알림을 건드리지 않도록 조건을 문장 안에 둔다.
+@Repository
+public class OverdueNoticeJdbcRepository {
+
+    // 대출이 아직 반납되지 않았을 때만 넣는다. InnoDB는 INSERT ... SELECT가 읽는 대출 행에 공유 잠금을 걸기 때문에,
+    // 반납 트랜잭션과 겹치면 반납이 커밋된 뒤의 returned_at을 보고 넣지 않거나, 반납이 이 알림을 닫는다.
+    private static final String INSERT_SQL = """
+            INSERT INTO overdue_notice
+                (loan_id, member_id, due_date, overdue_days, penalty_preview_ends_at, first_noticed_at, last_noticed_at)
+            SELECT ?, ?, ?, ?, ?, ?, ?
+            FROM loan
+            WHERE id = ? AND returned_at IS NULL
+            """;
+
+    // 바뀐 열만 쓰고 닫힌 알림은 건너뛴다. 엔티티 전체를 다시 쓰면 그 사이 반납이 채운 resolved_at을 NULL로 되돌린다.
+    private static final String REFRESH_SQL = """
+            UPDATE overdue_notice
+            SET due_date = ?, overdue_days = ?, penalty_preview_ends_at = ?, last_noticed_at = ?
+            WHERE loan_id = ? AND resolved_at IS NULL
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public OverdueNoticeJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // 실제로 들어간 알림만 돌려준다. 드라이버가 건수를 알려주지 않으면(SUCCESS_NO_INFO, -2) 들어간 것으로 본다.
+    public List<OverdueNotice> insertOpen(List<OverdueNotice> notices) {
+        int[][] counts = jdbcTemplate.batchUpdate(INSERT_SQL, notices, notices.size(), (ps, notice) -> {
+            ps.setLong(1, notice.getLoanId());
+            ps.setLong(2, notice.getMemberId());
+            ps.setTimestamp(3, Timestamp.valueOf(notice.getDueDate()));
+            ps.setLong(4, notice.getOverdueDays());
+            ps.setTimestamp(5, Timestamp.valueOf(notice.getPenaltyPreviewEndsAt()));
+            ps.setTimestamp(6, Timestamp.valueOf(notice.getFirstNoticedAt()));
+            ps.setTimestamp(7, Timestamp.valueOf(notice.getLastNoticedAt()));
+            ps.setLong(8, notice.getLoanId());
+        });
+        List<OverdueNotice> inserted = new ArrayList<>();
+        for (int i = 0; i < notices.size(); i++) {
+            if (counts[0][i] != 0) {
+                inserted.add(notices.get(i));
+            }
+        }
+        return inserted;
+    }
+
+    // 아직 열려 있어 갱신된 알림 수
+    public int refreshOpen(List<OverdueNotice> notices) {
+        int[][] counts = jdbcTemplate.batchUpdate(REFRESH_SQL, notices, notices.size(), (ps, notice) -> {
+            ps.setTimestamp(1, Timestamp.valueOf(notice.getDueDate()));
+            ps.setLong(2, notice.getOverdueDays());
+            ps.setTimestamp(3, Timestamp.valueOf(notice.getPenaltyPreviewEndsAt()));
+            ps.setTimestamp(4, Timestamp.valueOf(notice.getLastNoticedAt()));
+            ps.setLong(5, notice.getLoanId());
+        });
+        int refreshed = 0;
+        for (int count : counts[0]) {
+            if (count != 0) {
+                refreshed++;
+            }
+        }
+        return refreshed;
+    }
+}
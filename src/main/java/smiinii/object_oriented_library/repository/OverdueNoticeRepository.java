@@ -0,0 +1,25 @@
+package smiinii.object_oriented_library.repository;
+
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import smiinii.object_oriented_library.domain.OverdueNotice;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface OverdueNoticeRepository extends JpaRepository<OverdueNotice, Long> {
+
+    // 갱신은 OverdueNoticeJdbcRepository가 바뀐 열만 쓰므로, 읽은 엔티티는 더티 체킹으로 다시 쓰지 않게 읽기 전용으로 둔다.
+    @QueryHints(@QueryHint(name = "org.hibernate.readOnly", value = "true"))
+    List<OverdueNotice> findByLoanIdIn(Collection<Long> loanIds);
+
+    // 반납된 연체 대출의 알림을 닫는다. uk_overdue_notice_loan_id로 한 행만 건드린다.
+    @Modifying
+    @Query("update OverdueNotice n set n.resolvedAt = :now where n.loanId = :loanId and n.resolvedAt is null")
+    int resolve(@Param("loanId") Long loanId, @Param("now") LocalDateTime now);
+}
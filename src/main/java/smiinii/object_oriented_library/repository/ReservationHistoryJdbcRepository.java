@@ -0,0 +1,41 @@
+package smiinii.object_oriented_library.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import smiinii.object_oriented_library.domain.reservation.ReservationHistory;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 이력 id도 IDENTITY라 Hibernate가 insert를 배치로 묶지 못하므로, 보관 청크는 JDBC 배치로 직접 넣는다.
+@Repository
+public class ReservationHistoryJdbcRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO reservation_history
+                (reservation_id, book_id, member_id, reservation_status, created_at, archived_at)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ReservationHistoryJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void insertAll(List<ReservationHistory> histories) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, histories, histories.size(), (ps, history) -> {
+            ps.setLong(1, history.getReservationId());
+            ps.setLong(2, history.getBookId());
+            ps.setObject(3, history.getMemberId());
+            ps.setString(4, history.getReservationStatus().name());
+            ps.setTimestamp(5, toTimestamp(history.getCreatedAt()));
+            ps.setTimestamp(6, toTimestamp(history.getArchivedAt()));
+        });
+    }
+
+    private Timestamp toTimestamp(LocalDateTime value) {
+        return value == null ? null : Timestamp.valueOf(value);
+    }
+}
@@ -0,0 +1,21 @@
+package smiinii.object_oriented_library.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import smiinii.object_oriented_library.domain.reservation.ReservationHistory;
+
+import java.util.List;
+
+public interface ReservationHistoryRepository extends JpaRepository<ReservationHistory, Long> {
+
+    @Query("""
+            select h from ReservationHistory h
+            where h.bookId = :bookId and h.id < :beforeId
+            order by h.id desc
+            """)
+    List<ReservationHistory> findPageByBook(@Param("bookId") Long bookId,
+                                            @Param("beforeId") long beforeId,
+                                            Pageable pageable);
+}
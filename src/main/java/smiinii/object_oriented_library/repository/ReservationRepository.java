@@ -0,0 +1,46 @@
+package smiinii.object_oriented_library.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import smiinii.object_oriented_library.domain.reservation.Reservation;
+import smiinii.object_oriented_library.domain.reservation.ReservationStatus;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface ReservationRepository extends JpaRepository<Reservation, Long> {
+
+    @Query("""
+            select r.id from Reservation r
+            where r.reservationStatus = :status
+              and r.holdUntil < :now
+            order by r.holdUntil asc, r.id asc
+            """)
+    List<Long> findIdsByStatusAndHoldUntilBefore(@Param("status") ReservationStatus status,
+                                                 @Param("now") LocalDateTime now,
+                                                 Pageable pageable);
+
+    @Query("select distinct r.book.id from Reservation r where r.id in :reservationIds")
+    List<Long> findBookIdsByReservationIds(@Param("reservationIds") Collection<Long> reservationIds);
+
+    // (reservation_status, hold_until) 인덱스를 (hold_until, id) 키셋으로 읽는다.
+    @Query("""
+            select r.id as reservationId, r.holdUntil as holdUntil
+            from Reservation r
+            where r.reservationStatus = :status
+              and (r.holdUntil > :afterHoldUntil or (r.holdUntil = :afterHoldUntil and r.id > :afterId))
+            order by r.holdUntil asc, r.id asc
+            """)
+    List<HoldDeadline> findHoldDeadlines(@Param("status") ReservationStatus status,
+                                         @Param("afterHoldUntil") LocalDateTime afterHoldUntil,
+                                         @Param("afterId") long afterId,
+                                         Pageable pageable);
+
+    List<Reservation> findByReservationStatusInOrderByIdAsc(
+            Collection<ReservationStatus> reservationStatuses, Pageable pageable);
+
+    long countByReservationStatus(ReservationStatus reservationStatus);
+}
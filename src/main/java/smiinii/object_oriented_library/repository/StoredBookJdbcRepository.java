@@ -0,0 +1,57 @@
+package smiinii.object_oriented_library.repository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import smiinii.object_oriented_library.domain.storedbook.StoredBookStatus;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// IDENTITY 전략은 Hibernate의 insert 배치를 막기 때문에 대량 입고는 JDBC 배치로 직접 넣는다.
+@Repository
+public class StoredBookJdbcRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO stored_book (book_id, status, version) VALUES (?, ?, 0)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    public StoredBookJdbcRepository(
+            JdbcTemplate jdbcTemplate,
+            @Value("${library.stored-book.insert-batch-size:1000}") int batchSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
+
+    public void insertAvailable(Long bookId, int count) {
+        insertAvailable(Collections.nCopies(count, bookId));
+    }
+
+    // 소장본 행을 한꺼번에 만들지 않고 batchSize만큼 채울 때마다 보낸다.
+    public void insertAvailable(List<Long> bookIds, List<Integer> counts) {
+        List<Long> rows = new ArrayList<>(batchSize);
+        for (int i = 0; i < bookIds.size(); i++) {
+            for (int copy = 0; copy < counts.get(i); copy++) {
+                rows.add(bookIds.get(i));
+                if (rows.size() == batchSize) {
+                    insertAvailable(rows);
+                    rows.clear();
+                }
+            }
+        }
+        if (!rows.isEmpty()) {
+            insertAvailable(rows);
+        }
+    }
+
+    private void insertAvailable(List<Long> rows) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows, batchSize, (ps, id) -> {
+            ps.setLong(1, id);
+            ps.setString(2, StoredBookStatus.AVAILABLE.name());
+        });
+    }
+}
@@ -0,0 +1,38 @@
+package smiinii.object_oriented_library.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import smiinii.object_oriented_library.domain.storedbook.StoredBook;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface StoredBookRepository extends JpaRepository<StoredBook, Long> {
+
+    // 다른 트랜잭션이 잡고 있는 소장본은 건너뛰어 동시 대출이 같은 소장본을 고르지 않게 한다.
+    @Query(value = """
+            SELECT * FROM stored_book
+            WHERE book_id = :bookId AND status = 'AVAILABLE'
+            LIMIT 1
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    Optional<StoredBook> claimAvailable(@Param("bookId") Long bookId);
+
+    @Query(value = """
+            SELECT * FROM stored_book
+            WHERE book_id = :bookId AND status = 'AVAILABLE'
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<StoredBook> claimAvailable(@Param("bookId") Long bookId, @Param("limit") int limit);
+
+    @Query("""
+            select sb.book.id as bookId, sb.status as status, count(sb) as total
+            from StoredBook sb
+            where sb.book.id in :bookIds
+            group by sb.book.id, sb.status
+            """)
+    List<StoredBookStatusCount> countByStatusForBooks(@Param("bookIds") Collection<Long> bookIds);
+}
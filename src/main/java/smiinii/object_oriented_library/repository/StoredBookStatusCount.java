@@ -0,0 +1,12 @@
+package smiinii.object_oriented_library.repository;
+
+import smiinii.object_oriented_library.domain.storedbook.StoredBookStatus;
+
+public interface StoredBookStatusCount {
+
+    Long getBookId();
+
+    StoredBookStatus getStatus();
+
+    long getTotal();
+}
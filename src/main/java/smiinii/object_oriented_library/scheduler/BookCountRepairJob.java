@@ -0,0 +1,70 @@
+package smiinii.object_oriented_library.scheduler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import smiinii.object_oriented_library.service.BookCountRepairResult;
+import smiinii.object_oriented_library.service.BookCountRepairService;
+
+@Component
+public class BookCountRepairJob {
+
+    private static final Logger log = LoggerFactory.getLogger(BookCountRepairJob.class);
+
+    private final BookCountRepairService bookCountRepairService;
+    private final int chunkSize;
+    private final boolean runOnStartup;
+    private final Counter checkedCounter;
+    private final Counter driftCounter;
+
+    public BookCountRepairJob(
+            BookCountRepairService bookCountRepairService,
+            MeterRegistry meterRegistry,
+            @Value("${library.book-count-repair.chunk-size:500}") int chunkSize,
+            @Value("${library.book-count-repair.on-startup:true}") boolean runOnStartup
+    ) {
+        this.bookCountRepairService = bookCountRepairService;
+        this.chunkSize = chunkSize;
+        this.runOnStartup = runOnStartup;
+        this.checkedCounter = Counter.builder("library.book.counts.checked")
+                .description("카운터를 검증한 도서 수")
+                .register(meterRegistry);
+        this.driftCounter = Counter.builder("library.book.counts.drift")
+                .description("stored_book과 카운터가 어긋나 보정한 도서 수")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void repairOnStartup() {
+        if (runOnStartup) {
+            repair();
+        }
+    }
+
+    @Scheduled(cron = "${library.book-count-repair.cron:0 0 4 * * *}")
+    public void repair() {
+        long afterBookId = 0L;
+        int checked = 0;
+        int drifted = 0;
+        while (true) {
+            BookCountRepairResult result = bookCountRepairService.repairChunk(afterBookId, chunkSize);
+            checked += result.getChecked();
+            drifted += result.getDrifted();
+            if (result.getLastBookId() == null || result.getChecked() < chunkSize) {
+                break;
+            }
+            afterBookId = result.getLastBookId();
+        }
+        checkedCounter.increment(checked);
+        driftCounter.increment(drifted);
+        if (drifted > 0) {
+            log.warn("도서 소장본 카운터 보정: {}권 중 {}권 불일치", checked, drifted);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package smiinii.object_oriented_library.scheduler;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import smiinii.object_oriented_library.service.BookSearchService;
+
+@Component
+public class BookSearchIndexLoader {
+
+    private final BookSearchService bookSearchService;
+    private final boolean rebuildOnStartup;
+
+    public BookSearchIndexLoader(
+            BookSearchService bookSearchService,
+            @Value("${library.search.rebuild-on-startup:true}") boolean rebuildOnStartup
+    ) {
+        this.bookSearchService = bookSearchService;
+        this.rebuildOnStartup = rebuildOnStartup;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (rebuildOnStartup) {
+            bookSearchService.rebuild();
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package smiinii.object_oriented_library.scheduler;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import smiinii.object_oriented_library.config.SchedulingConfig;
+import smiinii.object_oriented_library.repository.HoldDeadline;
+import smiinii.object_oriented_library.service.HoldExpiryService;
+import smiinii.object_oriented_library.support.outbox.OutboxEventType;
+import smiinii.object_oriented_library.support.outbox.OutboxMessage;
+import smiinii.object_oriented_library.support.timer.HierarchicalTimingWheel;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// HOLD_READY 예약의 holdUntil을 타이밍 휠에 올려 두고 마감 틱에 바로 만료와 다음 대기자 승계를 실행한다.
+// 시작할 때 DB에서 다시 채우고, 이후에는 아웃박스의 HOLD_PREPARED를 받아 갱신한다.
+// 휠 범위를 넘거나 놓친 보류는 HoldExpirySweeper가 마저 처리한다.
+@Component
+public class HoldDeadlineWheel {
+
+    private static final Logger log = LoggerFactory.getLogger(HoldDeadlineWheel.class);
+
+    private static final LocalDateTime FIRST_HOLD_UNTIL = LocalDateTime.of(1970, 1, 1, 0, 0);
+    // 틱 100ms 기준 64^4틱, 약 19일 범위
+    private static final int WHEEL_SIZE = 64;
+    private static final int WHEEL_LEVELS = 4;
+
+    private final HoldExpiryService holdExpiryService;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+    private final int loadChunkSize;
+    private final int expireBatchSize;
+    private final HierarchicalTimingWheel<Long> wheel;
+    private final Map<Long, HierarchicalTimingWheel.Timeout<Long>> timeouts = new HashMap<>();
+    private final Timer lagTimer;
+    private final Counter expiredCounter;
+
+    public HoldDeadlineWheel(
+            HoldExpiryService holdExpiryService,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            Clock clock,
+            @Value("${library.hold-wheel.tick-ms:100}") long tickMillis,
+            @Value("${library.hold-wheel.load-chunk-size:1000}") int loadChunkSize,
+            @Value("${library.hold-wheel.expire-batch-size:100}") int expireBatchSize
+    ) {
+        this.holdExpiryService = holdExpiryService;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+        this.loadChunkSize = loadChunkSize;
+        this.expireBatchSize = expireBatchSize;
+        this.wheel = new HierarchicalTimingWheel<>(tickMillis, WHEEL_SIZE, WHEEL_LEVELS, clock.millis());
+        this.lagTimer = Timer.builder("library.hold.wheel.lag")
+                .description("보류 마감부터 만료 처리 완료까지 걸린 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.expiredCounter = Counter.builder("library.hold.wheel.expired")
+                .description("타이밍 휠이 만료시킨 보류 건수")
+                .register(meterRegistry);
+        Gauge.builder("library.hold.wheel.size", this, HoldDeadlineWheel::size)
+                .description("타이밍 휠에 올라 있는 보류 수")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        LocalDateTime afterHoldUntil = FIRST_HOLD_UNTIL;
+        long afterId = 0L;
+        int loaded = 0;
+        while (true) {
+            List<HoldDeadline> chunk = holdExpiryService.findHoldDeadlines(afterHoldUntil, afterId, loadChunkSize);
+            for (HoldDeadline deadline : chunk) {
+                schedule(deadline.getReservationId(), deadline.getHoldUntil());
+            }
+            loaded += chunk.size();
+            if (chunk.size() < loadChunkSize) {
+                break;
+            }
+            HoldDeadline last = chunk.get(chunk.size() - 1);
+            afterHoldUntil = last.getHoldUntil();
+            afterId = last.getReservationId();
+        }
+        log.info("보류 마감 적재: {}건", loaded);
+    }
+
+    // 예외를 던지면 같은 예약의 뒤 이벤트까지 다음 배치로 미뤄진다. 해석할 수 없는 이벤트는 스윕에 맡긴다.
+    @EventListener
+    public void onOutboxMessage(OutboxMessage message) {
+        if (message.getEventType() == OutboxEventType.HOLD_EXPIRED) {
+            cancel(message.getAggregateId());
+            return;
+        }
+        if (message.getEventType() != OutboxEventType.HOLD_PREPARED) {
+            return;
+        }
+        try {
+            JsonNode holdUntil = objectMapper.readTree(message.getPayload()).path("holdUntil");
+            schedule(message.getAggregateId(), LocalDateTime.parse(holdUntil.asText()));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("보류 마감을 읽지 못했습니다: outboxId={}", message.getId(), e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${library.hold-wheel.tick-ms:100}", scheduler = SchedulingConfig.TIMER_WHEEL_SCHEDULER)
+    public void tick() {
+        List<Long> reservationIds;
+        List<Long> deadlines = new ArrayList<>();
+        synchronized (this) {
+            reservationIds = wheel.advanceTo(clock.millis());
+            for (Long reservationId : reservationIds) {
+                deadlines.add(timeouts.remove(reservationId).getDeadlineMillis());
+            }
+        }
+        for (int from = 0; from < reservationIds.size(); from += expireBatchSize) {
+            int to = Math.min(from + expireBatchSize, reservationIds.size());
+            try {
+                expiredCounter.increment(holdExpiryService.expireHolds(reservationIds.subList(from, to)));
+            } catch (RuntimeException e) {
+                log.warn("보류 만료 실패: {}건", to - from, e);
+                continue;
+            }
+            long finishedAt = clock.millis();
+            for (int i = from; i < to; i++) {
+                lagTimer.record(finishedAt - deadlines.get(i), TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    // expireIfOverdue는 holdUntil을 지나야 만료시키므로 1ms 뒤로 건다. 같은 예약을 다시 받으면 마감을 바꾼다.
+    private synchronized void schedule(Long reservationId, LocalDateTime holdUntil) {
+        long deadlineMillis = holdUntil.atZone(clock.getZone()).toInstant().toEpochMilli() + 1;
+        HierarchicalTimingWheel.Timeout<Long> previous = timeouts.remove(reservationId);
+        if (previous != null) {
+            previous.cancel();
+        }
+        HierarchicalTimingWheel.Timeout<Long> timeout = wheel.schedule(reservationId, deadlineMillis);
+        if (timeout != null) {
+            timeouts.put(reservationId, timeout);
+        }
+    }
+
+    private synchronized void cancel(Long reservationId) {
+        HierarchicalTimingWheel.Timeout<Long> timeout = timeouts.remove(reservationId);
+        if (timeout != null) {
+            timeout.cancel();
+        }
+    }
+
+    private synchronized int size() {
+        return wheel.size();
+    }
+}
@@ -0,0 +1,65 @@
+package smiinii.object_oriented_library.scheduler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import smiinii.object_oriented_library.service.HoldExpiryService;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class HoldExpirySweeper {
+
+    private static final Logger log = LoggerFactory.getLogger(HoldExpirySweeper.class);
+
+    private final HoldExpiryService holdExpiryService;
+    private final int chunkSize;
+    private final int maxChunks;
+    private final Timer sweepTimer;
+    private final Counter processedCounter;
+
+    public HoldExpirySweeper(
+            HoldExpiryService holdExpiryService,
+            MeterRegistry meterRegistry,
+            @Value("${library.hold-expiry.chunk-size:100}") int chunkSize,
+            @Value("${library.hold-expiry.max-chunks:50}") int maxChunks
+    ) {
+        this.holdExpiryService = holdExpiryService;
+        this.chunkSize = chunkSize;
+        this.maxChunks = maxChunks;
+        this.sweepTimer = Timer.builder("library.hold.expiry.sweep")
+                .description("보류 만료 스윕 1회 소요 시간")
+                .register(meterRegistry);
+        this.processedCounter = Counter.builder("library.hold.expiry.processed")
+                .description("만료 처리된 보류 건수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${library.hold-expiry.fixed-delay-ms:60000}")
+    public void sweep() {
+        long startedAt = System.nanoTime();
+        int total = 0;
+        for (int chunk = 0; chunk < maxChunks; chunk++) {
+            List<Long> overdueHoldIds = holdExpiryService.findOverdueHoldIds(chunkSize);
+            if (!overdueHoldIds.isEmpty()) {
+                total += holdExpiryService.expireHolds(overdueHoldIds);
+            }
+            if (overdueHoldIds.size() < chunkSize) {
+                break;
+            }
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+
+        sweepTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        processedCounter.increment(total);
+        if (total > 0) {
+            log.info("보류 만료 처리: {}건, {}ms", total, elapsedNanos / 1_000_000);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package smiinii.object_oriented_library.scheduler;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import smiinii.object_oriented_library.support.idempotency.IdempotencyStore;
+
+// 보관 기간이 지난 Idempotency-Key 기록과 처리 중에 버려진 선점 행을 chunkSize씩 지운다.
+@Component
+public class IdempotencyPurgeJob {
+
+    private final IdempotencyStore idempotencyStore;
+    private final int chunkSize;
+
+    public IdempotencyPurgeJob(
+            IdempotencyStore idempotencyStore,
+            @Value("${library.idempotency.purge-chunk-size:500}") int chunkSize
+    ) {
+        this.idempotencyStore = idempotencyStore;
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(fixedDelayString = "${library.idempotency.purge-delay-ms:600000}")
+    public void purge() {
+        int purged;
+        do {
+            purged = idempotencyStore.purgeExpired(chunkSize);
+        } while (purged == chunkSize);
+    }
+}
@@ -0,0 +1,52 @@
+package smiinii.object_oriented_library.scheduler;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import smiinii.object_oriented_library.domain.MemberStatus;
+import smiinii.object_oriented_library.domain.reservation.ReservationStatus;
+import smiinii.object_oriented_library.repository.LoanRepository;
+import smiinii.object_oriented_library.repository.MemberRepository;
+import smiinii.object_oriented_library.repository.ReservationRepository;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// 스크레이프마다 DB를 조회하지 않도록, 집계 값은 주기적으로 갱신해 두고 게이지는 그 값만 읽는다.
+@Component
+public class LibraryGaugeRefresher {
+
+    private final LoanRepository loanRepository;
+    private final ReservationRepository reservationRepository;
+    private final MemberRepository memberRepository;
+    private final AtomicLong activeLoans = new AtomicLong();
+    private final AtomicLong queuedReservations = new AtomicLong();
+    private final AtomicLong suspendedMembers = new AtomicLong();
+
+    public LibraryGaugeRefresher(
+            LoanRepository loanRepository,
+            ReservationRepository reservationRepository,
+            MemberRepository memberRepository,
+            MeterRegistry meterRegistry
+    ) {
+        this.loanRepository = loanRepository;
+        this.reservationRepository = reservationRepository;
+        this.memberRepository = memberRepository;
+        Gauge.builder("library.loans.active", activeLoans, AtomicLong::get)
+                .description("반납되지 않은 대출 수")
+                .register(meterRegistry);
+        Gauge.builder("library.reservations.queued", queuedReservations, AtomicLong::get)
+                .description("대기열에 있는 예약 수")
+                .register(meterRegistry);
+        Gauge.builder("library.members.suspended", suspendedMembers, AtomicLong::get)
+                .description("정지 상태인 회원 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${library.metrics.gauge-refresh-ms:30000}")
+    public void refresh() {
+        activeLoans.set(loanRepository.countByReturnedAtIsNull());
+        queuedReservations.set(reservationRepository.countByReservationStatus(ReservationStatus.QUEUED));
+        suspendedMembers.set(memberRepository.countByMemberStatus(MemberStatus.SUSPENDED));
+    }
+}
@@ -0,0 +1,89 @@
+package smiinii.object_oriented_library.scheduler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import smiinii.object_oriented_library.service.OutboxRelayResult;
+import smiinii.object_oriented_library.service.OutboxRelayService;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class OutboxRelayJob {
+
+    private final OutboxRelayService outboxRelayService;
+    private final int batchSize;
+    private final int maxBatches;
+    private final Duration retention;
+    private final Counter deliveredCounter;
+    private final Counter failedCounter;
+    private final Counter parkedCounter;
+    private final Timer deliveryLagTimer;
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong parked = new AtomicLong();
+
+    public OutboxRelayJob(
+            OutboxRelayService outboxRelayService,
+            MeterRegistry meterRegistry,
+            @Value("${library.outbox.batch-size:200}") int batchSize,
+            @Value("${library.outbox.max-batches:50}") int maxBatches,
+            @Value("${library.outbox.retention-hours:72}") long retentionHours
+    ) {
+        this.outboxRelayService = outboxRelayService;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.retention = Duration.ofHours(retentionHours);
+        this.deliveredCounter = Counter.builder("library.outbox.delivered")
+                .description("전달된 아웃박스 이벤트 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("library.outbox.failed")
+                .description("소비자 실패로 중단된 릴레이 배치 수")
+                .register(meterRegistry);
+        this.parkedCounter = Counter.builder("library.outbox.parked.events")
+                .description("전달 실패가 반복되어 보류된 아웃박스 이벤트 수")
+                .register(meterRegistry);
+        this.deliveryLagTimer = Timer.builder("library.outbox.delivery.lag")
+                .description("이벤트 발생부터 전달까지 걸린 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("library.outbox.pending", pending, AtomicLong::get)
+                .description("아직 전달되지 않은 아웃박스 이벤트 수 (보류 제외)")
+                .register(meterRegistry);
+        Gauge.builder("library.outbox.parked", parked, AtomicLong::get)
+                .description("보류되어 운영자 확인을 기다리는 아웃박스 이벤트 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${library.outbox.relay-delay-ms:1000}")
+    public void relay() {
+        for (int batch = 0; batch < maxBatches; batch++) {
+            OutboxRelayResult result = outboxRelayService.relayBatch(batchSize);
+            deliveredCounter.increment(result.getDelivered());
+            parkedCounter.increment(result.getParked());
+            result.getDeliveryLags().forEach(deliveryLagTimer::record);
+            if (result.isFailed()) {
+                failedCounter.increment();
+                break;
+            }
+            if (result.getFetched() < batchSize) {
+                break;
+            }
+        }
+        pending.set(outboxRelayService.countPending());
+        parked.set(outboxRelayService.countParked());
+    }
+
+    // 보관 기간이 지난 전달 완료 이벤트를 batchSize씩 지운다.
+    @Scheduled(fixedDelayString = "${library.outbox.purge-delay-ms:3600000}")
+    public void purge() {
+        int purged;
+        do {
+            purged = outboxRelayService.purgePublished(retention, batchSize);
+        } while (purged == batchSize);
+    }
+}
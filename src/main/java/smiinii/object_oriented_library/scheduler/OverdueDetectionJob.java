@@ -0,0 +1,137 @@
+package smiinii.object_oriented_library.scheduler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import smiinii.object_oriented_library.repository.OverdueLoan;
+import smiinii.object_oriented_library.service.OverdueChunkResult;
+import smiinii.object_oriented_library.service.OverdueService;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 청크는 스케줄러 스레드가 키셋으로 순서대로 읽고, 알림 기록은 워커 풀에 넘긴다.
+// 동시에 처리 중인 청크는 워커 수로 제한해 읽기가 쓰기를 앞질러 메모리에 쌓이지 않게 한다.
+@Component
+public class OverdueDetectionJob {
+
+    private static final Logger log = LoggerFactory.getLogger(OverdueDetectionJob.class);
+    private static final LocalDateTime FIRST_DUE_DATE = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final OverdueService overdueService;
+    private final Clock clock;
+    private final int chunkSize;
+    private final ExecutorService workers;
+    private final Semaphore inFlight;
+    private final Timer runTimer;
+    private final Counter processedCounter;
+    private final Counter openedCounter;
+    private final Timer detectionLagTimer;
+    private final AtomicLong oldestOverdueSeconds = new AtomicLong();
+
+    public OverdueDetectionJob(
+            OverdueService overdueService,
+            MeterRegistry meterRegistry,
+            Clock clock,
+            @Value("${library.overdue.chunk-size:500}") int chunkSize,
+            @Value("${library.overdue.workers:4}") int workerCount
+    ) {
+        this.overdueService = overdueService;
+        this.clock = clock;
+        this.chunkSize = chunkSize;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(workerCount,
+                runnable -> new Thread(runnable, "overdue-worker-" + threadNumber.incrementAndGet()));
+        this.inFlight = new Semaphore(workerCount);
+        this.runTimer = Timer.builder("library.overdue.run")
+                .description("연체 탐지 1회 소요 시간")
+                .register(meterRegistry);
+        this.processedCounter = Counter.builder("library.overdue.processed")
+                .description("연체 탐지에서 처리한 대출 수")
+                .register(meterRegistry);
+        this.openedCounter = Counter.builder("library.overdue.opened")
+                .description("새로 탐지된 연체 대출 수")
+                .register(meterRegistry);
+        this.detectionLagTimer = Timer.builder("library.overdue.detection.lag")
+                .description("반납 예정일이 지난 뒤 처음 탐지되기까지 걸린 시간")
+                .register(meterRegistry);
+        Gauge.builder("library.overdue.oldest.seconds", oldestOverdueSeconds, AtomicLong::get)
+                .description("반납되지 않은 가장 오래된 연체의 경과 시간(초)")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${library.overdue.fixed-delay-ms:300000}")
+    public void detect() {
+        long startedAt = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<CompletableFuture<OverdueChunkResult>> tasks = new ArrayList<>();
+        LocalDateTime afterDueDate = FIRST_DUE_DATE;
+        long afterId = 0L;
+        boolean first = true;
+        while (true) {
+            List<OverdueLoan> chunk = overdueService.findOverdueChunk(now, afterDueDate, afterId, chunkSize);
+            if (first) {
+                oldestOverdueSeconds.set(chunk.isEmpty() ? 0 : Duration.between(chunk.get(0).getDueDate(), now).toSeconds());
+                first = false;
+            }
+            if (chunk.isEmpty()) {
+                break;
+            }
+            inFlight.acquireUninterruptibly();
+            tasks.add(CompletableFuture
+                    .supplyAsync(() -> overdueService.recordNotices(chunk, now), workers)
+                    .whenComplete((result, error) -> inFlight.release()));
+            if (chunk.size() < chunkSize) {
+                break;
+            }
+            OverdueLoan last = chunk.get(chunk.size() - 1);
+            afterDueDate = last.getDueDate();
+            afterId = last.getLoanId();
+        }
+
+        int processed = 0;
+        int opened = 0;
+        for (CompletableFuture<OverdueChunkResult> task : tasks) {
+            try {
+                OverdueChunkResult result = task.join();
+                processed += result.getProcessed();
+                opened += result.getOpenedDueDates().size();
+                result.getOpenedDueDates().forEach(dueDate ->
+                        detectionLagTimer.record(Duration.between(dueDate, now)));
+            } catch (RuntimeException e) {
+                // 실패한 청크는 다음 실행에서 다시 탐지된다.
+                log.warn("연체 알림 기록 실패", e);
+            }
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+
+        runTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        processedCounter.increment(processed);
+        openedCounter.increment(opened);
+        if (processed > 0) {
+            log.info("연체 탐지: {}건 (신규 {}건), {}ms", processed, opened, elapsedNanos / 1_000_000);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdown();
+    }
+}
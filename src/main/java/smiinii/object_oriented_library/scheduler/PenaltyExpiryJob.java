@@ -0,0 +1,130 @@
+package smiinii.object_oriented_library.scheduler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import smiinii.object_oriented_library.config.SchedulingConfig;
+import smiinii.object_oriented_library.repository.PenaltyDeadline;
+import smiinii.object_oriented_library.service.PenaltyReleaseService;
+import smiinii.object_oriented_library.support.timer.HierarchicalTimingWheel;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 만료된 패널티를 요청 경로 밖에서 해제한다.
+// 스윕은 (member_status, ends_at) 인덱스로 이미 만료된 패널티를 batchSize씩 UPDATE 하고,
+// 앞으로 한 시간 안에 끝나는 패널티는 타이밍 휠에 올려 만료 시각에 바로 해제한다.
+// 다시 읽은 종료 시각이 달라졌으면(새 패널티 부여) 이전 예약을 취소하고 새 시각으로 올린다.
+@Component
+public class PenaltyExpiryJob {
+
+    private static final Logger log = LoggerFactory.getLogger(PenaltyExpiryJob.class);
+
+    // 틱 1초 기준 60 x 60 = 1시간 범위
+    private static final int WHEEL_SIZE = 60;
+    private static final int WHEEL_LEVELS = 2;
+
+    private final PenaltyReleaseService penaltyReleaseService;
+    private final Clock clock;
+    private final int batchSize;
+    private final int maxBatches;
+    private final HierarchicalTimingWheel<Long> wheel;
+    private final Map<Long, HierarchicalTimingWheel.Timeout<Long>> timeouts = new HashMap<>();
+    private final Counter sweepReleasedCounter;
+    private final Counter wheelReleasedCounter;
+
+    public PenaltyExpiryJob(
+            PenaltyReleaseService penaltyReleaseService,
+            MeterRegistry meterRegistry,
+            Clock clock,
+            @Value("${library.penalty-expiry.batch-size:500}") int batchSize,
+            @Value("${library.penalty-expiry.max-batches:20}") int maxBatches,
+            @Value("${library.penalty-expiry.tick-ms:1000}") long tickMillis
+    ) {
+        this.penaltyReleaseService = penaltyReleaseService;
+        this.clock = clock;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.wheel = new HierarchicalTimingWheel<>(tickMillis, WHEEL_SIZE, WHEEL_LEVELS, clock.millis());
+        this.sweepReleasedCounter = Counter.builder("library.penalty.released")
+                .description("해제된 패널티 수")
+                .tag("source", "sweep")
+                .register(meterRegistry);
+        this.wheelReleasedCounter = Counter.builder("library.penalty.released")
+                .description("해제된 패널티 수")
+                .tag("source", "wheel")
+                .register(meterRegistry);
+        Gauge.builder("library.penalty.wheel.size", this, PenaltyExpiryJob::wheelSize)
+                .description("타이밍 휠에 올라 있는 패널티 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${library.penalty-expiry.sweep-delay-ms:600000}")
+    public void sweep() {
+        int total = 0;
+        for (int batch = 0; batch < maxBatches; batch++) {
+            int released = penaltyReleaseService.releaseExpired(batchSize);
+            total += released;
+            if (released < batchSize) {
+                break;
+            }
+        }
+        sweepReleasedCounter.increment(total);
+        if (total > 0) {
+            log.info("만료 패널티 일괄 해제: {}건", total);
+        }
+        loadUpcoming();
+    }
+
+    @Scheduled(fixedDelayString = "${library.penalty-expiry.tick-ms:1000}", scheduler = SchedulingConfig.TIMER_WHEEL_SCHEDULER)
+    public void tick() {
+        List<Long> expired;
+        synchronized (this) {
+            expired = wheel.advanceTo(clock.millis());
+            expired.forEach(timeouts::remove);
+        }
+        for (int from = 0; from < expired.size(); from += batchSize) {
+            List<Long> memberIds = expired.subList(from, Math.min(from + batchSize, expired.size()));
+            try {
+                wheelReleasedCounter.increment(penaltyReleaseService.releaseExpired(memberIds));
+            } catch (RuntimeException e) {
+                // 놓친 회원은 다음 스윕이 해제한다.
+                log.warn("패널티 해제 실패: {}건", memberIds.size(), e);
+            }
+        }
+    }
+
+    private void loadUpcoming() {
+        Duration window = Duration.ofMillis(wheel.horizonMillis());
+        List<PenaltyDeadline> upcoming = penaltyReleaseService.findEndingWithin(window);
+        synchronized (this) {
+            for (PenaltyDeadline deadline : upcoming) {
+                long deadlineMillis = deadline.getEndsAt().atZone(clock.getZone()).toInstant().toEpochMilli();
+                HierarchicalTimingWheel.Timeout<Long> previous = timeouts.get(deadline.getMemberId());
+                if (previous != null) {
+                    if (previous.getDeadlineMillis() == deadlineMillis) {
+                        continue;
+                    }
+                    previous.cancel();
+                    timeouts.remove(deadline.getMemberId());
+                }
+                HierarchicalTimingWheel.Timeout<Long> timeout = wheel.schedule(deadline.getMemberId(), deadlineMillis);
+                if (timeout != null) {
+                    timeouts.put(deadline.getMemberId(), timeout);
+                }
+            }
+        }
+    }
+
+    private synchronized int wheelSize() {
+        return wheel.size();
+    }
+}
@@ -0,0 +1,42 @@
+package smiinii.object_oriented_library.scheduler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import smiinii.object_oriented_library.service.ReservationArchiveService;
+
+@Component
+public class ReservationArchiveJob {
+
+    private final ReservationArchiveService reservationArchiveService;
+    private final int chunkSize;
+    private final int maxChunks;
+    private final Counter archivedCounter;
+
+    public ReservationArchiveJob(
+            ReservationArchiveService reservationArchiveService,
+            MeterRegistry meterRegistry,
+            @Value("${library.reservation-archive.chunk-size:500}") int chunkSize,
+            @Value("${library.reservation-archive.max-chunks:20}") int maxChunks
+    ) {
+        this.reservationArchiveService = reservationArchiveService;
+        this.chunkSize = chunkSize;
+        this.maxChunks = maxChunks;
+        this.archivedCounter = Counter.builder("library.reservation.archived")
+                .description("이력 저장소로 옮긴 종료 예약 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${library.reservation-archive.fixed-delay-ms:600000}")
+    public void archive() {
+        for (int chunk = 0; chunk < maxChunks; chunk++) {
+            int archived = reservationArchiveService.archiveChunk(chunkSize);
+            archivedCounter.increment(archived);
+            if (archived < chunkSize) {
+                return;
+            }
+        }
+    }
+}
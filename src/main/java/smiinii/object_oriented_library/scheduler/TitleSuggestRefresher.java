@@ -0,0 +1,29 @@
+package smiinii.object_oriented_library.scheduler;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import smiinii.object_oriented_library.service.BookSuggestService;
+
+// 대출 인기도는 계속 바뀌므로 시작 시 한 번 만들고 주기적으로 다시 만든다.
+@Component
+public class TitleSuggestRefresher {
+
+    private final BookSuggestService bookSuggestService;
+
+    public TitleSuggestRefresher(BookSuggestService bookSuggestService) {
+        this.bookSuggestService = bookSuggestService;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        bookSuggestService.rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${library.suggest.refresh-ms:3600000}",
+            initialDelayString = "${library.suggest.refresh-ms:3600000}")
+    public void refresh() {
+        bookSuggestService.rebuild();
+    }
+}
@@ -0,0 +1,26 @@
+package smiinii.object_oriented_library.service;
+
+public class BookCountRepairResult {
+
+    private final Long lastBookId;
+    private final int checked;
+    private final int drifted;
+
+    public BookCountRepairResult(Long lastBookId, int checked, int drifted) {
+        this.lastBookId = lastBookId;
+        this.checked = checked;
+        this.drifted = drifted;
+    }
+
+    public Long getLastBookId() {
+        return lastBookId;
+    }
+
+    public int getChecked() {
+        return checked;
+    }
+
+    public int getDrifted() {
+        return drifted;
+    }
+}
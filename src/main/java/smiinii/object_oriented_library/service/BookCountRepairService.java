@@ -0,0 +1,68 @@
+package smiinii.object_oriented_library.service;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import smiinii.object_oriented_library.domain.Book;
+import smiinii.object_oriented_library.domain.storedbook.StoredBookStatus;
+import smiinii.object_oriented_library.repository.BookRepository;
+import smiinii.object_oriented_library.repository.StoredBookRepository;
+import smiinii.object_oriented_library.repository.StoredBookStatusCount;
+import smiinii.object_oriented_library.support.retry.RetryOnConflict;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@Transactional(readOnly = true)
+public class BookCountRepairService {
+
+    private final BookRepository bookRepository;
+    private final StoredBookRepository storedBookRepository;
+    private final BookCountWriter bookCountWriter;
+
+    public BookCountRepairService(BookRepository bookRepository,
+                                  StoredBookRepository storedBookRepository,
+                                  BookCountWriter bookCountWriter) {
+        this.bookRepository = bookRepository;
+        this.storedBookRepository = storedBookRepository;
+        this.bookCountWriter = bookCountWriter;
+    }
+
+    // stored_book 기준으로 afterBookId 이후 도서 chunkSize 권의 카운터를 다시 계산한다.
+    @Transactional
+    @RetryOnConflict
+    public BookCountRepairResult repairChunk(long afterBookId, int chunkSize) {
+        List<Book> books = bookRepository.findByIdGreaterThanOrderByIdAsc(afterBookId, PageRequest.of(0, chunkSize));
+        if (books.isEmpty()) {
+            return new BookCountRepairResult(null, 0, 0);
+        }
+        List<Long> bookIds = books.stream().map(Book::getId).toList();
+        Map<Long, Map<StoredBookStatus, Integer>> actualCounts = countByBook(bookIds);
+
+        int drifted = 0;
+        for (Book book : books) {
+            Map<StoredBookStatus, Integer> counts = actualCounts.getOrDefault(book.getId(), Map.of());
+            boolean repaired = bookCountWriter.repair(book,
+                    counts.getOrDefault(StoredBookStatus.AVAILABLE, 0),
+                    counts.getOrDefault(StoredBookStatus.LOANED, 0),
+                    counts.getOrDefault(StoredBookStatus.ON_HOLD, 0)
+            );
+            if (repaired) {
+                drifted++;
+            }
+        }
+        return new BookCountRepairResult(bookIds.get(bookIds.size() - 1), books.size(), drifted);
+    }
+
+    private Map<Long, Map<StoredBookStatus, Integer>> countByBook(List<Long> bookIds) {
+        Map<Long, Map<StoredBookStatus, Integer>> result = new HashMap<>();
+        for (StoredBookStatusCount row : storedBookRepository.countByStatusForBooks(bookIds)) {
+            result.computeIfAbsent(row.getBookId(), id -> new EnumMap<>(StoredBookStatus.class))
+                    .put(row.getStatus(), Math.toIntExact(row.getTotal()));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,63 @@
+package smiinii.object_oriented_library.service;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import smiinii.object_oriented_library.domain.Book;
+import smiinii.object_oriented_library.domain.storedbook.StoredBookCountChange;
+import smiinii.object_oriented_library.domain.storedbook.StoredBookCounts;
+import smiinii.object_oriented_library.repository.BookJdbcRepository;
+import smiinii.object_oriented_library.support.cache.BookChangedEvent;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// 소장본 상태를 바꾼 서비스가 같은 트랜잭션 안에서 호출해 Book 카운터 변화량을 행에 반영한다.
+@Component
+public class BookCountWriter {
+
+    private final BookJdbcRepository bookJdbcRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public BookCountWriter(BookJdbcRepository bookJdbcRepository, ApplicationEventPublisher eventPublisher) {
+        this.bookJdbcRepository = bookJdbcRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void flush(Collection<Book> books) {
+        Map<Long, StoredBookCountChange> changes = new LinkedHashMap<>();
+        for (Book book : books) {
+            if (changes.containsKey(book.getId())) {
+                continue;
+            }
+            StoredBookCountChange change = book.drainStoredBookCountChange();
+            if (!change.isEmpty()) {
+                changes.put(book.getId(), change);
+            }
+        }
+        bookJdbcRepository.applyCountChanges(changes);
+        changes.keySet().forEach(bookId -> eventPublisher.publishEvent(new BookChangedEvent(bookId)));
+    }
+
+    // 실제 소장본 수와 다르면 읽어 둔 값 기준으로 덮어쓴다. 그 사이 다른 트랜잭션이 카운터를 바꿨다면 건너뛴다.
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean repair(Book book, int availableCount, int loanedCount, int onHoldCount) {
+        StoredBookCounts counts = book.getStoredBookCounts();
+        int expectedAvailable = counts.getAvailableCount();
+        int expectedLoaned = counts.getLoanedCount();
+        int expectedOnHold = counts.getOnHoldCount();
+        if (!book.repairStoredBookCounts(availableCount, loanedCount, onHoldCount)) {
+            return false;
+        }
+        boolean repaired = bookJdbcRepository.resetCounts(book.getId(),
+                expectedAvailable, expectedLoaned, expectedOnHold,
+                availableCount, loanedCount, onHoldCount);
+        if (repaired) {
+            eventPublisher.publishEvent(new BookChangedEvent(book.getId()));
+        }
+        return repaired;
+    }
+}
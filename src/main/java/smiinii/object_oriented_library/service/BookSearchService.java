@@ -0,0 +1,83 @@
+package smiinii.object_oriented_library.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import smiinii.object_oriented_library.dto.book.BookResponse;
+import smiinii.object_oriented_library.dto.book.BookSearchResponse;
+import smiinii.object_oriented_library.repository.BookRepository;
+import smiinii.object_oriented_library.support.search.BookDocument;
+import smiinii.object_oriented_library.support.search.BookSearchIndex;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Service
+public class BookSearchService {
+
+    private static final Logger log = LoggerFactory.getLogger(BookSearchService.class);
+    private static final int MAX_RESULT_SIZE = 100;
+
+    private final BookRepository bookRepository;
+    private final BookSearchIndex bookSearchIndex;
+    private final int chunkSize;
+    private final int parallelism;
+
+    public BookSearchService(
+            BookRepository bookRepository,
+            BookSearchIndex bookSearchIndex,
+            @Value("${library.search.rebuild-chunk-size:5000}") int chunkSize,
+            @Value("${library.search.rebuild-parallelism:0}") int parallelism
+    ) {
+        this.bookRepository = bookRepository;
+        this.bookSearchIndex = bookSearchIndex;
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
+
+    public List<BookSearchResponse> search(String query, int size) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("검색어가 필요합니다.");
+        }
+        if (size < 1 || size > MAX_RESULT_SIZE) {
+            throw new IllegalArgumentException("검색 결과 수는 1 이상 " + MAX_RESULT_SIZE + " 이하여야 합니다.");
+        }
+        return bookSearchIndex.search(query, size);
+    }
+
+    // 청크는 순서대로 읽고 토큰화는 여러 스레드에 나눠 맡긴다. 이미 색인된 도서는 건너뛰므로
+    // 재구성 도중 들어온 신규 등록과 겹쳐도 중복되지 않는다.
+    public int rebuild() {
+        long startedAt = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            List<CompletableFuture<Void>> tasks = new ArrayList<>();
+            long afterId = 0L;
+            while (true) {
+                List<BookResponse> chunk = bookRepository.findPageAfter(afterId, PageRequest.of(0, chunkSize));
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                List<BookDocument> documents = chunk.stream()
+                        .map(book -> new BookDocument(book.getId(), book.getTitle(), book.getAuthor()))
+                        .toList();
+                tasks.add(CompletableFuture.runAsync(() -> bookSearchIndex.index(documents), executor));
+                if (chunk.size() < chunkSize) {
+                    break;
+                }
+                afterId = chunk.get(chunk.size() - 1).getId();
+            }
+            CompletableFuture.allOf(tasks.toArray(CompletableFuture[]::new)).join();
+        } finally {
+            executor.shutdown();
+        }
+        int indexed = bookSearchIndex.size();
+        log.info("도서 검색 색인 재구성: {}권, {}ms", indexed, (System.nanoTime() - startedAt) / 1_000_000);
+        return indexed;
+    }
+}
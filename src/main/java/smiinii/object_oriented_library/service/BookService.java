@@ -1,47 +1,74 @@
 package smiinii.object_oriented_library.service;
 
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import smiinii.object_oriented_library.domain.Book;
+import smiinii.object_oriented_library.domain.NotFoundException;
+import smiinii.object_oriented_library.dto.book.BookPageResponse;
 import smiinii.object_oriented_library.dto.book.BookResponse;
 import smiinii.object_oriented_library.repository.BookRepository;
+import smiinii.object_oriented_library.repository.StoredBookJdbcRepository;
+import smiinii.object_oriented_library.support.cache.CacheNames;
+import smiinii.object_oriented_library.support.search.BookRegisteredEvent;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @Transactional(readOnly = true)
 public class BookService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final BookRepository bookRepository;
+    private final StoredBookJdbcRepository storedBookJdbcRepository;
+    private final BookCountWriter bookCountWriter;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public BookService(BookRepository bookRepository) {
+    public BookService(BookRepository bookRepository,
+                       StoredBookJdbcRepository storedBookJdbcRepository,
+                       BookCountWriter bookCountWriter,
+                       ApplicationEventPublisher eventPublisher) {
         this.bookRepository = bookRepository;
+        this.storedBookJdbcRepository = storedBookJdbcRepository;
+        this.bookCountWriter = bookCountWriter;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
     public Long registerBook(String title, String author, int initialCount) {
         Book book = Book.registerNew(title, author, initialCount);
         Book saved = bookRepository.save(book);
+        eventPublisher.publishEvent(BookRegisteredEvent.of(saved.getId(), title, author));
         return saved.getId();
     }
 
     @Transactional
     public void addStoredBooks(Long bookId, int count) {
         Book book = bookRepository.findById(bookId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 도서입니다."));
-        book.addAvailableStoredBooks(count);
+                .orElseThrow(() -> new NotFoundException("존재하지 않는 도서입니다."));
+        book.registerBulkAvailableStoredBooks(count);
+        storedBookJdbcRepository.insertAvailable(book.getId(), count);
+        bookCountWriter.flush(List.of(book));
     }
 
+    @Cacheable(cacheNames = CacheNames.BOOK, key = "#bookId")
     public BookResponse getBook(Long bookId) {
         Book book = bookRepository.findById(bookId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 도서입니다."));
+                .orElseThrow(() -> new NotFoundException("존재하지 않는 도서입니다."));
         return BookResponse.from(book);
     }
 
-    public List<BookResponse> getBooks() {
-        return bookRepository.findAll().stream()
-                .map(BookResponse::from)
-                .collect(Collectors.toList());
+    @Cacheable(cacheNames = CacheNames.BOOK_PAGE, key = "#after + ':' + #size")
+    public BookPageResponse getBooks(Long after, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        long afterId = after == null ? 0L : after;
+        // 한 건을 더 조회해 다음 페이지 존재 여부를 판단한다.
+        List<BookResponse> books = bookRepository.findPageAfter(afterId, PageRequest.of(0, size + 1));
+        return BookPageResponse.of(books, size);
     }
 }
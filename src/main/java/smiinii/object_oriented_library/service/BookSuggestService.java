@@ -0,0 +1,81 @@
+package smiinii.object_oriented_library.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import smiinii.object_oriented_library.dto.book.BookResponse;
+import smiinii.object_oriented_library.dto.book.BookSuggestResponse;
+import smiinii.object_oriented_library.repository.BookLoanCount;
+import smiinii.object_oriented_library.repository.BookRepository;
+import smiinii.object_oriented_library.repository.LoanRepository;
+import smiinii.object_oriented_library.support.suggest.TitleSuggestIndex;
+import smiinii.object_oriented_library.support.suggest.TitleSuggestion;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class BookSuggestService {
+
+    private static final Logger log = LoggerFactory.getLogger(BookSuggestService.class);
+
+    private final BookRepository bookRepository;
+    private final LoanRepository loanRepository;
+    private final TitleSuggestIndex titleSuggestIndex;
+    private final int chunkSize;
+
+    public BookSuggestService(
+            BookRepository bookRepository,
+            LoanRepository loanRepository,
+            TitleSuggestIndex titleSuggestIndex,
+            @Value("${library.suggest.rebuild-chunk-size:5000}") int chunkSize
+    ) {
+        this.bookRepository = bookRepository;
+        this.loanRepository = loanRepository;
+        this.titleSuggestIndex = titleSuggestIndex;
+        this.chunkSize = chunkSize;
+    }
+
+    public List<BookSuggestResponse> suggest(String prefix, int size) {
+        if (size < 1 || size > titleSuggestIndex.getTopN()) {
+            throw new IllegalArgumentException("추천 결과 수는 1 이상 " + titleSuggestIndex.getTopN() + " 이하여야 합니다.");
+        }
+        if (prefix == null || prefix.isBlank()) {
+            return List.of();
+        }
+        return titleSuggestIndex.suggest(prefix, size).stream()
+                .map(suggestion -> new BookSuggestResponse(
+                        suggestion.getBookId(), suggestion.getTitle(), suggestion.getLoanCount()))
+                .toList();
+    }
+
+    // 대출 수는 한 번에 집계하고, 도서는 id 키셋 청크로 읽어 새 trie를 만든 뒤 교체한다.
+    public synchronized int rebuild() {
+        long startedAt = System.nanoTime();
+        Map<Long, Long> loanCounts = new HashMap<>();
+        for (BookLoanCount count : loanRepository.countByBook()) {
+            loanCounts.put(count.getBookId(), count.getTotal());
+        }
+
+        TitleSuggestIndex.Rebuild rebuild = titleSuggestIndex.startRebuild();
+        int indexed = 0;
+        long afterId = 0L;
+        while (true) {
+            List<BookResponse> chunk = bookRepository.findPageAfter(afterId, PageRequest.of(0, chunkSize));
+            for (BookResponse book : chunk) {
+                rebuild.add(new TitleSuggestion(book.getId(), book.getTitle(), loanCounts.getOrDefault(book.getId(), 0L)));
+            }
+            indexed += chunk.size();
+            if (chunk.size() < chunkSize) {
+                break;
+            }
+            afterId = chunk.get(chunk.size() - 1).getId();
+        }
+        rebuild.commit();
+        log.info("제목 자동완성 재구성: {}권, {}ms", indexed, (System.nanoTime() - startedAt) / 1_000_000);
+        return indexed;
+    }
+}
@@ -0,0 +1,47 @@
+package smiinii.object_oriented_library.service;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import smiinii.object_oriented_library.repository.BookJdbcRepository;
+import smiinii.object_oriented_library.repository.StoredBookJdbcRepository;
+import smiinii.object_oriented_library.support.search.BookDocument;
+import smiinii.object_oriented_library.support.search.BookRegisteredEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+@Transactional(readOnly = true)
+public class CatalogBatchService {
+
+    private final BookJdbcRepository bookJdbcRepository;
+    private final StoredBookJdbcRepository storedBookJdbcRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public CatalogBatchService(BookJdbcRepository bookJdbcRepository,
+                               StoredBookJdbcRepository storedBookJdbcRepository,
+                               ApplicationEventPublisher eventPublisher) {
+        this.bookJdbcRepository = bookJdbcRepository;
+        this.storedBookJdbcRepository = storedBookJdbcRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    // 검증을 통과한 레코드 한 묶음을 한 트랜잭션으로 넣는다.
+    // 등록 이벤트 하나가 검색 색인 반영과 목록 캐시(마지막 페이지) 제거를 함께 맡는다.
+    @Transactional
+    public List<Long> importBatch(List<CatalogRecord> records) {
+        if (records.isEmpty()) {
+            return List.of();
+        }
+        List<Long> bookIds = bookJdbcRepository.insertAll(records);
+        List<Integer> counts = records.stream().map(CatalogRecord::getCopies).toList();
+        storedBookJdbcRepository.insertAvailable(bookIds, counts);
+        List<BookDocument> documents = new ArrayList<>(records.size());
+        for (int i = 0; i < records.size(); i++) {
+            documents.add(new BookDocument(bookIds.get(i), records.get(i).getTitle(), records.get(i).getAuthor()));
+        }
+        eventPublisher.publishEvent(new BookRegisteredEvent(documents));
+        return bookIds;
+    }
+}
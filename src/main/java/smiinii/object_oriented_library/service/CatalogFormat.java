@@ -0,0 +1,106 @@
+package smiinii.object_oriented_library.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public enum CatalogFormat {
+
+    // title,author,copies (첫 줄이 헤더면 건너뛴다. 큰따옴표로 감싼 필드 안의 쉼표를 허용한다.)
+    CSV {
+        @Override
+        boolean isHeader(String line) {
+            return line.trim().toLowerCase().startsWith("title,");
+        }
+
+        @Override
+        CatalogRecord parse(String line) {
+            List<String> fields = splitCsv(line);
+            if (fields.size() != 3) {
+                throw new IllegalArgumentException("필드는 title,author,copies 3개여야 합니다.");
+            }
+            return new CatalogRecord(fields.get(0).trim(), fields.get(1).trim(), parseCopies(fields.get(2).trim()));
+        }
+    },
+
+    // {"title": "...", "author": "...", "copies": 3}
+    NDJSON {
+        @Override
+        boolean isHeader(String line) {
+            return false;
+        }
+
+        @Override
+        CatalogRecord parse(String line) {
+            JsonNode node;
+            try {
+                node = OBJECT_MAPPER.readTree(line);
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException("JSON 형식이 올바르지 않습니다.");
+            }
+            JsonNode copies = node.get("copies");
+            if (copies == null || !copies.canConvertToInt()) {
+                throw new IllegalArgumentException("소장본 수가 숫자가 아닙니다.");
+            }
+            return new CatalogRecord(text(node, "title"), text(node, "author"), copies.asInt());
+        }
+    };
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    abstract boolean isHeader(String line);
+
+    abstract CatalogRecord parse(String line);
+
+    public static CatalogFormat of(String name) {
+        try {
+            return valueOf(name.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("지원하지 않는 형식입니다: " + name);
+        }
+    }
+
+    private static int parseCopies(String value) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("소장본 수가 숫자가 아닙니다.");
+        }
+    }
+
+    private static String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+    private static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
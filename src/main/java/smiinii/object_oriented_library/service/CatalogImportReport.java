@@ -0,0 +1,65 @@
+package smiinii.object_oriented_library.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class CatalogImportReport {
+
+    private final int rejectedSampleSize;
+    private long importedBooks;
+    private long importedCopies;
+    private long rejected;
+    private final List<RejectedRow> rejectedRows = new ArrayList<>();
+
+    public CatalogImportReport(int rejectedSampleSize) {
+        this.rejectedSampleSize = rejectedSampleSize;
+    }
+
+    void imported(List<CatalogRecord> records) {
+        importedBooks += records.size();
+        importedCopies += records.stream().mapToLong(CatalogRecord::getCopies).sum();
+    }
+
+    // 거절된 행은 모두 세되, 응답이 커지지 않도록 앞쪽 일부만 사유와 함께 남긴다.
+    void rejected(long lineNumber, String reason) {
+        rejected++;
+        if (rejectedRows.size() < rejectedSampleSize) {
+            rejectedRows.add(new RejectedRow(lineNumber, reason));
+        }
+    }
+
+    public long getImportedBooks() {
+        return importedBooks;
+    }
+
+    public long getImportedCopies() {
+        return importedCopies;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+
+    public List<RejectedRow> getRejectedRows() {
+        return List.copyOf(rejectedRows);
+    }
+
+    public static class RejectedRow {
+
+        private final long lineNumber;
+        private final String reason;
+
+        public RejectedRow(long lineNumber, String reason) {
+            this.lineNumber = lineNumber;
+            this.reason = reason;
+        }
+
+        public long getLineNumber() {
+            return lineNumber;
+        }
+
+        public String getReason() {
+            return reason;
+        }
+    }
+}
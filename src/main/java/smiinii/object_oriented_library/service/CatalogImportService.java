@@ -0,0 +1,116 @@
+package smiinii.object_oriented_library.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import smiinii.object_oriented_library.domain.Book;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+// 파일 전체를 메모리에 올리지 않고 한 줄씩 읽어 batchSize 단위로 커밋한다.
+// 앞선 묶음은 이미 커밋되므로 중간에 실패하면 보고서의 importedBooks까지 반영된 상태로 남는다.
+@Service
+public class CatalogImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogImportService.class);
+
+    private final CatalogBatchService catalogBatchService;
+    private final int batchSize;
+    private final int maxCopiesPerRecord;
+    private final int rejectedSampleSize;
+    private final long progressInterval;
+    private final Counter importedCounter;
+    private final Counter rejectedCounter;
+
+    public CatalogImportService(
+            CatalogBatchService catalogBatchService,
+            MeterRegistry meterRegistry,
+            @Value("${library.catalog-import.batch-size:1000}") int batchSize,
+            @Value("${library.catalog-import.max-copies-per-record:1000}") int maxCopiesPerRecord,
+            @Value("${library.catalog-import.rejected-sample-size:100}") int rejectedSampleSize,
+            @Value("${library.catalog-import.progress-interval:100000}") long progressInterval
+    ) {
+        this.catalogBatchService = catalogBatchService;
+        this.batchSize = batchSize;
+        this.maxCopiesPerRecord = maxCopiesPerRecord;
+        this.rejectedSampleSize = rejectedSampleSize;
+        this.progressInterval = progressInterval;
+        this.importedCounter = Counter.builder("library.catalog.import.rows")
+                .tag("result", "imported")
+                .description("카탈로그 일괄 등록으로 추가된 도서 수")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("library.catalog.import.rows")
+                .tag("result", "rejected")
+                .description("카탈로그 일괄 등록에서 거절된 행 수")
+                .register(meterRegistry);
+    }
+
+    public CatalogImportReport importCatalog(InputStream in, CatalogFormat format) {
+        CatalogImportReport report = new CatalogImportReport(rejectedSampleSize);
+        List<CatalogRecord> batch = new ArrayList<>(batchSize);
+        long lineNumber = 0;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank() || (lineNumber == 1 && format.isHeader(line))) {
+                    continue;
+                }
+                CatalogRecord record = parse(format, line, lineNumber, report);
+                if (record == null) {
+                    continue;
+                }
+                batch.add(record);
+                if (batch.size() >= batchSize) {
+                    flush(batch, report);
+                }
+                if (lineNumber % progressInterval == 0) {
+                    log.info("카탈로그 등록 진행: {}행 읽음, {}권 등록, {}행 거절",
+                            lineNumber, report.getImportedBooks(), report.getRejected());
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("카탈로그를 읽지 못했습니다.", e);
+        }
+        flush(batch, report);
+        log.info("카탈로그 등록 완료: {}행 읽음, {}권(소장본 {}개) 등록, {}행 거절",
+                lineNumber, report.getImportedBooks(), report.getImportedCopies(), report.getRejected());
+        return report;
+    }
+
+    private CatalogRecord parse(CatalogFormat format, String line, long lineNumber, CatalogImportReport report) {
+        try {
+            CatalogRecord record = format.parse(line);
+            Book.validateNew(record.getTitle(), record.getAuthor(), record.getCopies());
+            // 한 묶음의 소장본 행이 batchSize × 이 값을 넘지 않도록 행마다 상한을 둔다.
+            if (record.getCopies() > maxCopiesPerRecord) {
+                throw new IllegalArgumentException("소장본 수는 " + maxCopiesPerRecord + "개 이하여야 합니다.");
+            }
+            return record;
+        } catch (IllegalArgumentException e) {
+            report.rejected(lineNumber, e.getMessage());
+            rejectedCounter.increment();
+            return null;
+        }
+    }
+
+    private void flush(List<CatalogRecord> batch, CatalogImportReport report) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        catalogBatchService.importBatch(batch);
+        report.imported(batch);
+        importedCounter.increment(batch.size());
+        batch.clear();
+    }
+}
@@ -0,0 +1,26 @@
+package smiinii.object_oriented_library.service;
+
+public class CatalogRecord {
+
+    private final String title;
+    private final String author;
+    private final int copies;
+
+    public CatalogRecord(String title, String author, int copies) {
+        this.title = title;
+        this.author = author;
+        this.copies = copies;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getAuthor() {
+        return author;
+    }
+
+    public int getCopies() {
+        return copies;
+    }
+}
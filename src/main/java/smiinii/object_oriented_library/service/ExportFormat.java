@@ -0,0 +1,84 @@
+package smiinii.object_oriented_library.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public enum ExportFormat {
+
+    CSV("text/csv") {
+        @Override
+        String header(List<String> columns) {
+            return String.join(",", columns);
+        }
+
+        @Override
+        String row(List<String> columns, List<Object> values, ObjectMapper objectMapper) {
+            StringBuilder line = new StringBuilder();
+            for (int i = 0; i < values.size(); i++) {
+                if (i > 0) {
+                    line.append(',');
+                }
+                line.append(escape(values.get(i)));
+            }
+            return line.toString();
+        }
+    },
+
+    NDJSON("application/x-ndjson") {
+        @Override
+        String header(List<String> columns) {
+            return null;
+        }
+
+        @Override
+        String row(List<String> columns, List<Object> values, ObjectMapper objectMapper) {
+            Map<String, Object> object = new LinkedHashMap<>();
+            for (int i = 0; i < columns.size(); i++) {
+                object.put(columns.get(i), values.get(i));
+            }
+            try {
+                return objectMapper.writeValueAsString(object);
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("행을 JSON으로 변환하지 못했습니다.", e);
+            }
+        }
+    };
+
+    private final String contentType;
+
+    ExportFormat(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    // 헤더가 없는 형식은 null
+    abstract String header(List<String> columns);
+
+    abstract String row(List<String> columns, List<Object> values, ObjectMapper objectMapper);
+
+    public static ExportFormat of(String name) {
+        try {
+            return valueOf(name.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("지원하지 않는 형식입니다: " + name);
+        }
+    }
+
+    private static String escape(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.contains(",") || text.contains("\"") || text.contains("\n") || text.contains("\r")) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
+    }
+}
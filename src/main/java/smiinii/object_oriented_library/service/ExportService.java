@@ -0,0 +1,85 @@
+package smiinii.object_oriented_library.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import smiinii.object_oriented_library.dto.book.BookResponse;
+import smiinii.object_oriented_library.dto.loan.LoanExportRow;
+import smiinii.object_oriented_library.repository.ExportJdbcRepository;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import java.util.function.ToLongFunction;
+
+// id 키셋으로 chunkSize 행씩 읽어 쓴다. 청크를 다 읽은 뒤에 커넥션을 반납하고 클라이언트에 쓰므로
+// 느린 클라이언트가 커넥션을 붙잡지 않고, 메모리는 전체 건수와 무관하게 한 청크로 제한된다.
+@Service
+public class ExportService {
+
+    private static final List<String> BOOK_COLUMNS = List.of("id", "title", "author", "copyCount", "availableCount");
+    private static final List<String> LOAN_COLUMNS =
+            List.of("id", "memberId", "bookId", "storedBookId", "loanedAt", "dueDate", "returnedAt");
+
+    private final ExportJdbcRepository exportJdbcRepository;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+
+    public ExportService(ExportJdbcRepository exportJdbcRepository,
+                         ObjectMapper objectMapper,
+                         @Value("${library.export.chunk-size:1000}") int chunkSize) {
+        this.exportJdbcRepository = exportJdbcRepository;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+    }
+
+    public long exportBooks(OutputStream out, ExportFormat format) throws IOException {
+        return export(out, format, BOOK_COLUMNS,
+                afterId -> exportJdbcRepository.findBooksAfter(afterId, chunkSize),
+                BookResponse::getId,
+                book -> Arrays.asList(book.getId(), book.getTitle(), book.getAuthor(),
+                        book.getCopyCount(), book.getAvailableCount()));
+    }
+
+    public long exportLoans(OutputStream out, ExportFormat format) throws IOException {
+        return export(out, format, LOAN_COLUMNS,
+                afterId -> exportJdbcRepository.findLoansAfter(afterId, chunkSize),
+                LoanExportRow::getId,
+                loan -> Arrays.asList(loan.getId(), loan.getMemberId(), loan.getBookId(), loan.getStoredBookId(),
+                        loan.getLoanedAt(), loan.getDueDate(), loan.getReturnedAt()));
+    }
+
+    private <T> long export(OutputStream out, ExportFormat format, List<String> columns,
+                            LongFunction<List<T>> chunkLoader, ToLongFunction<T> idOf,
+                            Function<T, List<Object>> valuesOf) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        String header = format.header(columns);
+        if (header != null) {
+            writer.write(header);
+            writer.write('\n');
+        }
+        long exported = 0;
+        long afterId = 0L;
+        while (true) {
+            List<T> chunk = chunkLoader.apply(afterId);
+            for (T row : chunk) {
+                writer.write(format.row(columns, valuesOf.apply(row), objectMapper));
+                writer.write('\n');
+            }
+            writer.flush();
+            exported += chunk.size();
+            if (chunk.size() < chunkSize) {
+                break;
+            }
+            afterId = idOf.applyAsLong(chunk.get(chunk.size() - 1));
+        }
+        return exported;
+    }
+}
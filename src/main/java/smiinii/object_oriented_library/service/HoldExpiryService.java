@@ -0,0 +1,114 @@
+package smiinii.object_oriented_library.service;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import smiinii.object_oriented_library.domain.Book;
+import smiinii.object_oriented_library.domain.reservation.Reservation;
+import smiinii.object_oriented_library.domain.reservation.ReservationStatus;
+import smiinii.object_oriented_library.domain.reservation_policy.ReservationPolicy;
+import smiinii.object_oriented_library.domain.storedbook.StoredBook;
+import smiinii.object_oriented_library.repository.HoldDeadline;
+import smiinii.object_oriented_library.repository.ReservationRepository;
+import smiinii.object_oriented_library.repository.StoredBookRepository;
+import smiinii.object_oriented_library.support.lock.BookQueueLock;
+import smiinii.object_oriented_library.support.outbox.OutboxAppender;
+import smiinii.object_oriented_library.support.outbox.OutboxEventType;
+import smiinii.object_oriented_library.support.retry.RetryOnConflict;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Service
+@Transactional(readOnly = true)
+public class HoldExpiryService {
+
+    private final ReservationRepository reservationRepository;
+    private final StoredBookRepository storedBookRepository;
+    private final ReservationPolicy reservationPolicy;
+    private final OutboxAppender outboxAppender;
+    private final BookCountWriter bookCountWriter;
+    private final Clock clock;
+
+    public HoldExpiryService(
+            ReservationRepository reservationRepository,
+            StoredBookRepository storedBookRepository,
+            ReservationPolicy reservationPolicy,
+            OutboxAppender outboxAppender,
+            BookCountWriter bookCountWriter,
+            Clock clock
+    ) {
+        this.reservationRepository = reservationRepository;
+        this.storedBookRepository = storedBookRepository;
+        this.reservationPolicy = reservationPolicy;
+        this.outboxAppender = outboxAppender;
+        this.bookCountWriter = bookCountWriter;
+        this.clock = clock;
+    }
+
+    // 잠글 도서를 먼저 알아야 하므로 마감이 지난 보류는 id만 읽고, 만료는 expireHolds로 넘긴다.
+    public List<Long> findOverdueHoldIds(int chunkSize) {
+        return reservationRepository.findIdsByStatusAndHoldUntilBefore(
+                ReservationStatus.HOLD_READY, LocalDateTime.now(clock), PageRequest.of(0, chunkSize));
+    }
+
+    // 마감을 알린 예약만 만료시킨다. 그 사이 대출로 이어졌거나 이미 만료된 예약은 건너뛴다.
+    // 다음 대기자에게 보류를 넘기므로 예약이 걸린 도서를 모두 잠근다.
+    @Transactional
+    @RetryOnConflict
+    @BookQueueLock(key = "reservationIds", keyType = BookQueueLock.KeyType.RESERVATION_ID)
+    public int expireHolds(Collection<Long> reservationIds) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        return expire(reservationRepository.findAllById(reservationIds), now);
+    }
+
+    public List<HoldDeadline> findHoldDeadlines(LocalDateTime afterHoldUntil, long afterId, int size) {
+        return reservationRepository.findHoldDeadlines(
+                ReservationStatus.HOLD_READY, afterHoldUntil, afterId, PageRequest.of(0, size));
+    }
+
+    private int expire(List<Reservation> holds, LocalDateTime now) {
+        int expired = 0;
+        List<Long> releasedIds = new ArrayList<>();
+        for (Reservation reservation : holds) {
+            Optional<Long> released = reservation.expireIfOverdue(now);
+            if (released.isEmpty()) {
+                continue;
+            }
+            Long storedBookId = released.get();
+            outboxAppender.append(OutboxEventType.HOLD_EXPIRED, reservation.getId(), OutboxAppender.payload(
+                    "reservationId", reservation.getId(),
+                    "memberId", reservation.getMemberId(),
+                    "storedBookId", storedBookId
+            ), now);
+            if (!passHoldToNext(reservation.getBook(), storedBookId, now)) {
+                releasedIds.add(storedBookId);
+            }
+            expired++;
+        }
+        storedBookRepository.findAllById(releasedIds)
+                .forEach(StoredBook::returnToAvailable);
+        bookCountWriter.flush(holds.stream().map(Reservation::getBook).toList());
+
+        return expired;
+    }
+
+    private boolean passHoldToNext(Book book, Long storedBookId, LocalDateTime now) {
+        Optional<Reservation> next = book.assignHoldToQueueHead(storedBookId, reservationPolicy.holdDuration(), clock);
+        if (next.isEmpty()) {
+            return false;
+        }
+        Reservation reservation = next.get();
+        outboxAppender.append(OutboxEventType.HOLD_PREPARED, reservation.getId(), OutboxAppender.payload(
+                "reservationId", reservation.getId(),
+                "memberId", reservation.getMemberId(),
+                "storedBookId", storedBookId,
+                "holdUntil", reservation.getHoldUntil()
+        ), now);
+        return true;
+    }
+}
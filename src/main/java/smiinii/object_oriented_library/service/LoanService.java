@@ -5,63 +5,97 @@ import org.springframework.stereotype.Service;
 import smiinii.object_oriented_library.domain.Book;
 import smiinii.object_oriented_library.domain.Loan;
 import smiinii.object_oriented_library.domain.Member;
+import smiinii.object_oriented_library.domain.NotFoundException;
 import smiinii.object_oriented_library.domain.Penalty;
+import smiinii.object_oriented_library.domain.RuleViolationException;
 import smiinii.object_oriented_library.domain.loan_policy.LoanPolicy;
+import smiinii.object_oriented_library.domain.reservation.Reservation;
 import smiinii.object_oriented_library.domain.reservation_policy.ReservationPolicy;
 import smiinii.object_oriented_library.domain.storedbook.StoredBook;
+import smiinii.object_oriented_library.dto.loan.LoanBatchItemResponse;
 import smiinii.object_oriented_library.repository.BookRepository;
 import smiinii.object_oriented_library.repository.LoanRepository;
 import smiinii.object_oriented_library.repository.MemberRepository;
+import smiinii.object_oriented_library.repository.OverdueNoticeRepository;
+import smiinii.object_oriented_library.repository.StoredBookRepository;
+import smiinii.object_oriented_library.support.lock.BookQueueLock;
+import smiinii.object_oriented_library.support.metrics.TimedOperation;
+import smiinii.object_oriented_library.support.outbox.OutboxAppender;
+import smiinii.object_oriented_library.support.outbox.OutboxEventType;
+import smiinii.object_oriented_library.support.retry.RetryOnConflict;
 
 import java.time.Clock;
-import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional(readOnly = true)
 public class LoanService {
 
+    private static final int MAX_BATCH_SIZE = 50;
+
     private final MemberRepository memberRepository;
     private final BookRepository bookRepository;
     private final LoanRepository loanRepository;
+    private final StoredBookRepository storedBookRepository;
+    private final OverdueNoticeRepository overdueNoticeRepository;
     private final ReservationPolicy reservationPolicy;
     private final LoanPolicy loanPolicy;
+    private final OutboxAppender outboxAppender;
+    private final BookCountWriter bookCountWriter;
     private final Clock clock;
 
     public LoanService(
             MemberRepository memberRepository,
             BookRepository bookRepository,
             LoanRepository loanRepository,
+            StoredBookRepository storedBookRepository,
+            OverdueNoticeRepository overdueNoticeRepository,
             ReservationPolicy reservationPolicy,
             LoanPolicy loanPolicy,
+            OutboxAppender outboxAppender,
+            BookCountWriter bookCountWriter,
             Clock clock
     ) {
         this.memberRepository = memberRepository;
         this.bookRepository = bookRepository;
         this.loanRepository = loanRepository;
+        this.storedBookRepository = storedBookRepository;
+        this.overdueNoticeRepository = overdueNoticeRepository;
         this.reservationPolicy = reservationPolicy;
         this.loanPolicy = loanPolicy;
+        this.outboxAppender = outboxAppender;
+        this.bookCountWriter = bookCountWriter;
         this.clock = clock;
     }
 
     @Transactional
+    @RetryOnConflict
+    @BookQueueLock(key = "bookId")
+    @TimedOperation
     public Long loan(Long memberId, Long bookId) {
         LocalDateTime now = LocalDateTime.now(clock);
 
         Member member = validateMember(memberId);
-        Book book = checkBook(bookId);
-        StoredBook storedBook = checkStoredBook(book);
+        checkBook(bookId);
+        StoredBook storedBook = claimStoredBook(bookId);
 
         LocalDateTime dueDate = loanPolicy.initialDueDate(now);
         Loan loan = Loan.of(member, storedBook, now, dueDate);
 
         storedBook.loan();
         loanRepository.save(loan);
+        bookCountWriter.flush(List.of(storedBook.getBook()));
 
         return loan.getId();
     }
 
     @Transactional
+    @RetryOnConflict
+    @BookQueueLock(key = "loanId", keyType = BookQueueLock.KeyType.LOAN_ID)
+    @TimedOperation
     public void returnBook(Long loanId) {
         Loan loan = checkLoan(loanId);
         if (!loan.isActive()) {
@@ -69,21 +103,88 @@ public class LoanService {
         }
 
         LocalDateTime now = LocalDateTime.now(clock);
+        Book book = loan.getStoredBook().getBook();
 
-        Member member = loan.getMember();
-        StoredBook storedBook = loan.getStoredBook();
-        Book book = storedBook.getBook();
+        returnLoan(loan, book, now);
+        bookCountWriter.flush(List.of(book));
+    }
+
+    // 회원 검증은 한 번만 하고, 도서는 한 번에 조회하며 소장본은 도서별로 필요한 수만큼 한 번에 잡는다.
+    @Transactional
+    @RetryOnConflict
+    @BookQueueLock(key = "bookIds")
+    @TimedOperation
+    public List<LoanBatchItemResponse> loanAll(Long memberId, List<Long> bookIds) {
+        validateBatchSize(bookIds);
+        LocalDateTime now = LocalDateTime.now(clock);
+        Member member = validateMember(memberId);
+
+        Map<Long, Book> books = bookRepository.findAllById(new HashSet<>(bookIds)).stream()
+                .collect(Collectors.toMap(Book::getId, Function.identity()));
+        Map<Long, Deque<StoredBook>> claimed = new HashMap<>();
+        bookIds.stream()
+                .filter(books::containsKey)
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()))
+                .forEach((bookId, requested) -> claimed.put(bookId,
+                        new ArrayDeque<>(storedBookRepository.claimAvailable(bookId, requested.intValue()))));
+
+        LocalDateTime dueDate = loanPolicy.initialDueDate(now);
+        List<LoanBatchItemResponse> results = new ArrayList<>();
+        for (Long bookId : bookIds) {
+            if (!books.containsKey(bookId)) {
+                results.add(LoanBatchItemResponse.failed(bookId, "존재하지 않는 도서입니다."));
+                continue;
+            }
+            StoredBook storedBook = claimed.get(bookId).poll();
+            if (storedBook == null) {
+                results.add(LoanBatchItemResponse.failed(bookId, "대출 가능한 소장본이 없습니다."));
+                continue;
+            }
+            storedBook.loan();
+            Loan loan = loanRepository.save(Loan.of(member, storedBook, now, dueDate));
+            results.add(LoanBatchItemResponse.succeeded(bookId, loan.getId()));
+        }
+        bookCountWriter.flush(books.values());
+        return results;
+    }
 
-        loan.returnBook(now, false);
-        book.assignHoldIfReservationExists(reservationPolicy.holdDuration(), clock);
-        applyPenaltyIfOverdue(loan, member, now);
+    // 같은 도서의 반납이 여러 건이면 대기열 순서대로 한 명씩 보류를 넘긴다.
+    @Transactional
+    @RetryOnConflict
+    @BookQueueLock(key = "loanIds", keyType = BookQueueLock.KeyType.LOAN_ID)
+    @TimedOperation
+    public List<LoanBatchItemResponse> returnAll(List<Long> loanIds) {
+        validateBatchSize(loanIds);
+        LocalDateTime now = LocalDateTime.now(clock);
+
+        Map<Long, Loan> loans = loanRepository.findAllForReturn(new HashSet<>(loanIds)).stream()
+                .collect(Collectors.toMap(Loan::getId, Function.identity()));
+
+        List<LoanBatchItemResponse> results = new ArrayList<>();
+        for (Long loanId : loanIds) {
+            Loan loan = loans.get(loanId);
+            if (loan == null) {
+                results.add(LoanBatchItemResponse.failed(loanId, "존재하지 않는 대출입니다."));
+                continue;
+            }
+            if (loan.isActive()) {
+                returnLoan(loan, loan.getStoredBook().getBook(), now);
+            }
+            results.add(LoanBatchItemResponse.succeeded(loanId, loanId));
+        }
+        bookCountWriter.flush(loans.values().stream()
+                .map(loan -> loan.getStoredBook().getBook())
+                .toList());
+        return results;
     }
 
     @Transactional
+    @RetryOnConflict
+    @TimedOperation
     public void extend(Long loanId) {
         Loan loan = checkLoan(loanId);
         if (!loan.isActive()) {
-            throw new IllegalStateException("반납된 대출은 연장할 수 없습니다.");
+            throw new RuleViolationException(RuleViolationException.Rule.ALREADY_RETURNED, "반납된 대출은 연장할 수 없습니다.");
         }
 
         LocalDateTime now = LocalDateTime.now(clock);
@@ -97,41 +198,77 @@ public class LoanService {
         loan.extend(now, hasReservation, newDueDate);
     }
 
+    private void returnLoan(Loan loan, Book book, LocalDateTime now) {
+        StoredBook storedBook = loan.getStoredBook();
+        // 반납 처리 후에는 진행 중인 대출이 아니므로 연체 여부를 먼저 판단한다.
+        boolean overdue = loan.isOverdue(now);
+        // 대기열 선두가 있으면 반납된 소장본을 그대로 선두 예약자에게 보류한다.
+        Optional<Reservation> held = book.assignHoldToQueueHead(
+                storedBook.getId(), reservationPolicy.holdDuration(), clock);
+        loan.returnBook(now, held.isPresent());
+        outboxAppender.append(OutboxEventType.LOAN_RETURNED, loan.getId(), OutboxAppender.payload(
+                "loanId", loan.getId(),
+                "memberId", loan.getMember().getId(),
+                "storedBookId", storedBook.getId(),
+                "overdue", overdue
+        ), now);
+        held.ifPresent(reservation -> {
+            outboxAppender.append(OutboxEventType.HOLD_PREPARED, reservation.getId(), OutboxAppender.payload(
+                    "reservationId", reservation.getId(),
+                    "memberId", reservation.getMemberId(),
+                    "storedBookId", storedBook.getId(),
+                    "holdUntil", reservation.getHoldUntil()
+            ), now);
+        });
+        if (overdue) {
+            applyOverduePenalty(loan, loan.getMember(), now);
+            // 대출 행에 returned_at을 먼저 써서 잠가 둔다. 그래야 연체 탐지의 INSERT ... SELECT가 이 반납이 끝난 뒤
+            // 반납된 대출을 보고 알림을 넣지 않거나, 탐지가 먼저 넣은 알림을 아래 문장이 닫는다.
+            loanRepository.flush();
+            overdueNoticeRepository.resolve(loan.getId(), now);
+        }
+    }
+
+    private void validateBatchSize(List<Long> ids) {
+        if (ids == null || ids.isEmpty() || ids.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("일괄 처리 건수는 1 이상 " + MAX_BATCH_SIZE + " 이하여야 합니다.");
+        }
+    }
+
     private Member validateMember(Long memberId) {
         Member member = memberRepository.findById(memberId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다."));
-        member.releasePenaltyIfExpired(clock);
+                .orElseThrow(() -> new NotFoundException("존재하지 않는 회원입니다."));
 
-        if (!member.canBorrow()) {
-            throw new IllegalStateException("현재 대출이 불가능한 회원입니다.");
+        if (!member.canBorrow(clock)) {
+            throw new RuleViolationException(RuleViolationException.Rule.MEMBER_SUSPENDED, "현재 대출이 불가능한 회원입니다.");
         }
         return member;
     }
 
     private Book checkBook(Long bookId) {
          return bookRepository.findById(bookId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 도서입니다."));
+                .orElseThrow(() -> new NotFoundException("존재하지 않는 도서입니다."));
     }
 
-    private StoredBook checkStoredBook(Book book) {
-        return book.getStoredBooks().firstAvailable()
-                .orElseThrow(() -> new IllegalStateException("대출 가능한 소장본이 없습니다."));
+    private StoredBook claimStoredBook(Long bookId) {
+        return storedBookRepository.claimAvailable(bookId)
+                .orElseThrow(() -> new RuleViolationException(
+                        RuleViolationException.Rule.NO_AVAILABLE_COPY, "대출 가능한 소장본이 없습니다."));
     }
 
     private Loan checkLoan(Long loanId) {
         return loanRepository.findById(loanId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 대출입니다."));
+                .orElseThrow(() -> new NotFoundException("존재하지 않는 대출입니다."));
     }
 
-    private void applyPenaltyIfOverdue(Loan loan, Member member, LocalDateTime now) {
-        if (loan.isOverdue(now)) {
-            long overdueDays = Math.max(1, Duration.between(loan.getDueDate(), now).toDays());
-            LocalDateTime startsAt = now;
-            LocalDateTime endsAt = now.plusDays(overdueDays);
-            String reason = "연체 " + overdueDays + "일";
-
-            Penalty penalty = Penalty.of(startsAt, endsAt, reason);
-            member.applyPenalty(penalty);
-        }
+    private void applyOverduePenalty(Loan loan, Member member, LocalDateTime now) {
+        Penalty penalty = Penalty.forOverdue(loan.getDueDate(), now);
+        member.applyPenalty(penalty);
+        outboxAppender.append(OutboxEventType.PENALTY_APPLIED, member.getId(), OutboxAppender.payload(
+                "memberId", member.getId(),
+                "loanId", loan.getId(),
+                "endsAt", penalty.getEndsAt(),
+                "reason", penalty.getReason()
+        ), now);
     }
 }
@@ -1,18 +1,31 @@
 package smiinii.object_oriented_library.service;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import smiinii.object_oriented_library.domain.Member;
+import smiinii.object_oriented_library.domain.NotFoundException;
+import smiinii.object_oriented_library.dto.loan.MemberLoanPageResponse;
+import smiinii.object_oriented_library.dto.loan.MemberLoanResponse;
+import smiinii.object_oriented_library.repository.LoanRepository;
 import smiinii.object_oriented_library.repository.MemberRepository;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
 @Service
 @Transactional(readOnly = true)
 public class MemberService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final MemberRepository memberRepository;
+    private final LoanRepository loanRepository;
 
-    public MemberService(MemberRepository memberRepository) {
+    public MemberService(MemberRepository memberRepository, LoanRepository loanRepository) {
         this.memberRepository = memberRepository;
+        this.loanRepository = loanRepository;
     }
 
     @Transactional
@@ -21,4 +34,48 @@ public class MemberService {
         Member saved = memberRepository.save(member);
         return saved.getId();
     }
+
+    // active가 null이면 전체, true면 대출 중, false면 반납된 대출만 최근 순으로 조회한다.
+    public MemberLoanPageResponse getLoans(Long memberId, Boolean active, String after, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        if (!memberRepository.existsById(memberId)) {
+            throw new NotFoundException("존재하지 않는 회원입니다.");
+        }
+        PageRequest page = PageRequest.of(0, size + 1);
+        List<MemberLoanResponse> loans = after == null
+                ? findFirstPage(memberId, active, page)
+                : findPageAfter(memberId, active, after, page);
+        return MemberLoanPageResponse.of(loans, size);
+    }
+
+    private List<MemberLoanResponse> findFirstPage(Long memberId, Boolean active, PageRequest page) {
+        if (active == null) {
+            return loanRepository.findFirstPageByMember(memberId, page);
+        }
+        if (active) {
+            return loanRepository.findActiveFirstPageByMember(memberId, page);
+        }
+        return loanRepository.findReturnedFirstPageByMember(memberId, page);
+    }
+
+    private List<MemberLoanResponse> findPageAfter(Long memberId, Boolean active, String after, PageRequest page) {
+        String[] cursor = after.split(MemberLoanPageResponse.CURSOR_SEPARATOR);
+        LocalDateTime loanedAt;
+        long loanId;
+        try {
+            loanedAt = LocalDateTime.parse(cursor[0]);
+            loanId = Long.parseLong(cursor[1]);
+        } catch (DateTimeParseException | IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+        if (active == null) {
+            return loanRepository.findPageByMember(memberId, loanedAt, loanId, page);
+        }
+        if (active) {
+            return loanRepository.findActivePageByMember(memberId, loanedAt, loanId, page);
+        }
+        return loanRepository.findReturnedPageByMember(memberId, loanedAt, loanId, page);
+    }
 }
@@ -0,0 +1,39 @@
+package smiinii.object_oriented_library.service;
+
+import java.time.Duration;
+import java.util.List;
+
+public class OutboxRelayResult {
+
+    private final int fetched;
+    private final List<Duration> deliveryLags; // 전달된 이벤트마다 발생부터 전달까지 걸린 시간
+    private final int parked; // 이번 배치에서 보류된 이벤트 수
+    private final boolean failed;
+
+    public OutboxRelayResult(int fetched, List<Duration> deliveryLags, int parked, boolean failed) {
+        this.fetched = fetched;
+        this.deliveryLags = deliveryLags;
+        this.parked = parked;
+        this.failed = failed;
+    }
+
+    public int getFetched() {
+        return fetched;
+    }
+
+    public int getDelivered() {
+        return deliveryLags.size();
+    }
+
+    public List<Duration> getDeliveryLags() {
+        return deliveryLags;
+    }
+
+    public int getParked() {
+        return parked;
+    }
+
+    public boolean isFailed() {
+        return failed;
+    }
+}
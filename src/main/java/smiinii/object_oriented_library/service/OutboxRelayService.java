@@ -0,0 +1,118 @@
+package smiinii.object_oriented_library.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import smiinii.object_oriented_library.repository.OutboxAggregate;
+import smiinii.object_oriented_library.repository.OutboxEventRepository;
+import smiinii.object_oriented_library.support.outbox.OutboxDispatcher;
+import smiinii.object_oriented_library.support.outbox.OutboxEvent;
+import smiinii.object_oriented_library.support.outbox.OutboxEventType;
+import smiinii.object_oriented_library.support.outbox.OutboxMessage;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Service
+@Transactional(readOnly = true)
+public class OutboxRelayService {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelayService.class);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxDispatcher outboxDispatcher;
+    private final Clock clock;
+    private final int maxAttempts;
+
+    public OutboxRelayService(OutboxEventRepository outboxEventRepository,
+                              OutboxDispatcher outboxDispatcher,
+                              Clock clock,
+                              @Value("${library.outbox.max-attempts:10}") int maxAttempts) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxDispatcher = outboxDispatcher;
+        this.clock = clock;
+        this.maxAttempts = maxAttempts;
+    }
+
+    // 소비자는 이벤트마다 별도 트랜잭션에서 돈다. 소비자가 실패하면 같은 애그리거트의 뒤 이벤트만 멈춰
+    // 애그리거트 안의 순서를 지키고, 다른 애그리거트의 이벤트는 계속 전달한다.
+    // 실패한 이벤트부터는 다음 배치에서 다시 전달하고(최소 한 번 전달), maxAttempts번 실패하면 보류한다.
+    // 보류된 애그리거트의 뒤 이벤트도 순서를 건너뛰지 않도록 함께 보류한다.
+    @Transactional
+    public OutboxRelayResult relayBatch(int batchSize) {
+        List<OutboxEvent> pending = outboxEventRepository.lockPending(batchSize);
+        if (pending.isEmpty()) {
+            return new OutboxRelayResult(0, List.of(), 0, false);
+        }
+        Set<String> parkedAggregates = findParkedAggregates();
+        List<Duration> lags = new ArrayList<>(pending.size());
+        Set<String> blockedAggregates = new HashSet<>();
+        int parked = 0;
+        for (OutboxEvent event : pending) {
+            String aggregate = aggregateKey(event.getEventType(), event.getAggregateId());
+            if (parkedAggregates.contains(aggregate)) {
+                event.park(LocalDateTime.now(clock));
+                parked++;
+                continue;
+            }
+            if (blockedAggregates.contains(aggregate)) {
+                continue;
+            }
+            try {
+                outboxDispatcher.dispatch(OutboxMessage.from(event));
+            } catch (RuntimeException e) {
+                blockedAggregates.add(aggregate);
+                if (event.recordFailure(LocalDateTime.now(clock), maxAttempts)) {
+                    log.error("아웃박스 이벤트를 {}번 전달하지 못해 보류합니다: id={}, type={}",
+                            event.getAttempts(), event.getId(), event.getEventType(), e);
+                    parkedAggregates.add(aggregate);
+                    parked++;
+                } else {
+                    log.warn("아웃박스 이벤트 전달 실패({}/{}): id={}, type={}, cause={}",
+                            event.getAttempts(), maxAttempts, event.getId(), event.getEventType(), e.toString());
+                }
+                continue;
+            }
+            LocalDateTime now = LocalDateTime.now(clock);
+            event.markPublished(now);
+            lags.add(Duration.between(event.getOccurredAt(), now));
+        }
+        return new OutboxRelayResult(pending.size(), lags, parked, !blockedAggregates.isEmpty());
+    }
+
+    public long countPending() {
+        return outboxEventRepository.countByPublishedAtIsNullAndParkedAtIsNull();
+    }
+
+    public long countParked() {
+        return outboxEventRepository.countByPublishedAtIsNullAndParkedAtIsNotNull();
+    }
+
+    private Set<String> findParkedAggregates() {
+        Set<String> aggregates = new HashSet<>();
+        for (OutboxAggregate aggregate : outboxEventRepository.findParkedAggregates()) {
+            aggregates.add(aggregateKey(aggregate.getEventType(), aggregate.getAggregateId()));
+        }
+        return aggregates;
+    }
+
+    private static String aggregateKey(OutboxEventType eventType, Long aggregateId) {
+        return eventType.getAggregateType() + ":" + aggregateId;
+    }
+
+    @Transactional
+    public int purgePublished(Duration retention, int chunkSize) {
+        LocalDateTime cutoff = LocalDateTime.now(clock).minus(retention);
+        List<Long> ids = outboxEventRepository.findPublishedIdsBefore(cutoff, PageRequest.of(0, chunkSize));
+        outboxEventRepository.deleteAllByIdInBatch(ids);
+        return ids.size();
+    }
+}
@@ -0,0 +1,27 @@
+package smiinii.object_oriented_library.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class OverdueChunkResult {
+
+    private final int refreshed; // 연체 일수나 반납 예정일이 바뀌어 다시 쓴 기존 알림 수
+    private final List<LocalDateTime> openedDueDates; // 이번에 처음 탐지된 연체의 반납 예정일
+
+    public OverdueChunkResult(int refreshed, List<LocalDateTime> openedDueDates) {
+        this.refreshed = refreshed;
+        this.openedDueDates = openedDueDates;
+    }
+
+    public int getRefreshed() {
+        return refreshed;
+    }
+
+    public List<LocalDateTime> getOpenedDueDates() {
+        return openedDueDates;
+    }
+
+    public int getProcessed() {
+        return refreshed + openedDueDates.size();
+    }
+}
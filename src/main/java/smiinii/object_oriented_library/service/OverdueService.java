@@ -0,0 +1,61 @@
+package smiinii.object_oriented_library.service;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import smiinii.object_oriented_library.domain.OverdueNotice;
+import smiinii.object_oriented_library.repository.LoanRepository;
+import smiinii.object_oriented_library.repository.OverdueLoan;
+import smiinii.object_oriented_library.repository.OverdueNoticeJdbcRepository;
+import smiinii.object_oriented_library.repository.OverdueNoticeRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@Transactional(readOnly = true)
+public class OverdueService {
+
+    private final LoanRepository loanRepository;
+    private final OverdueNoticeRepository overdueNoticeRepository;
+    private final OverdueNoticeJdbcRepository overdueNoticeJdbcRepository;
+
+    public OverdueService(LoanRepository loanRepository,
+                          OverdueNoticeRepository overdueNoticeRepository,
+                          OverdueNoticeJdbcRepository overdueNoticeJdbcRepository) {
+        this.loanRepository = loanRepository;
+        this.overdueNoticeRepository = overdueNoticeRepository;
+        this.overdueNoticeJdbcRepository = overdueNoticeJdbcRepository;
+    }
+
+    public List<OverdueLoan> findOverdueChunk(LocalDateTime now, LocalDateTime afterDueDate, long afterId, int size) {
+        return loanRepository.findOverdueChunk(now, afterDueDate, afterId, PageRequest.of(0, size));
+    }
+
+    // 청크 하나를 한 트랜잭션으로 처리한다. 새 연체만 INSERT하고, 이미 알림이 있는 대출은 연체 일수나
+    // 반납 예정일이 바뀐 경우에만 갱신한다. 두 문장 모두 그 사이 반납된 대출은 건너뛰므로 실제로 반영된 건만 센다.
+    @Transactional
+    public OverdueChunkResult recordNotices(List<OverdueLoan> loans, LocalDateTime now) {
+        List<Long> loanIds = loans.stream().map(OverdueLoan::getLoanId).toList();
+        Map<Long, OverdueNotice> existing = overdueNoticeRepository.findByLoanIdIn(loanIds).stream()
+                .collect(Collectors.toMap(OverdueNotice::getLoanId, Function.identity()));
+
+        List<OverdueNotice> opened = new ArrayList<>();
+        List<OverdueNotice> changed = new ArrayList<>();
+        for (OverdueLoan loan : loans) {
+            OverdueNotice notice = existing.get(loan.getLoanId());
+            if (notice == null) {
+                opened.add(OverdueNotice.open(loan.getLoanId(), loan.getMemberId(), loan.getDueDate(), now));
+            } else if (notice.refresh(loan.getDueDate(), now)) {
+                changed.add(notice);
+            }
+        }
+        List<OverdueNotice> inserted = opened.isEmpty() ? List.of() : overdueNoticeJdbcRepository.insertOpen(opened);
+        int refreshed = changed.isEmpty() ? 0 : overdueNoticeJdbcRepository.refreshOpen(changed);
+        return new OverdueChunkResult(refreshed, inserted.stream().map(OverdueNotice::getDueDate).toList());
+    }
+}
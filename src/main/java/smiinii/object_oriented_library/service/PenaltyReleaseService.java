@@ -0,0 +1,45 @@
+package smiinii.object_oriented_library.service;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import smiinii.object_oriented_library.domain.MemberStatus;
+import smiinii.object_oriented_library.repository.MemberJdbcRepository;
+import smiinii.object_oriented_library.repository.MemberRepository;
+import smiinii.object_oriented_library.repository.PenaltyDeadline;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+@Transactional(readOnly = true)
+public class PenaltyReleaseService {
+
+    private final MemberRepository memberRepository;
+    private final MemberJdbcRepository memberJdbcRepository;
+    private final Clock clock;
+
+    public PenaltyReleaseService(MemberRepository memberRepository,
+                                 MemberJdbcRepository memberJdbcRepository,
+                                 Clock clock) {
+        this.memberRepository = memberRepository;
+        this.memberJdbcRepository = memberJdbcRepository;
+        this.clock = clock;
+    }
+
+    @Transactional
+    public int releaseExpired(int batchSize) {
+        return memberJdbcRepository.releaseExpiredPenalties(LocalDateTime.now(clock), batchSize);
+    }
+
+    @Transactional
+    public int releaseExpired(List<Long> memberIds) {
+        return memberJdbcRepository.releaseExpiredPenalties(memberIds, LocalDateTime.now(clock));
+    }
+
+    public List<PenaltyDeadline> findEndingWithin(Duration window) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        return memberRepository.findPenaltiesEndingBetween(MemberStatus.SUSPENDED, now, now.plus(window));
+    }
+}
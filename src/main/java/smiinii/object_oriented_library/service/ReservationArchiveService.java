@@ -0,0 +1,55 @@
+package smiinii.object_oriented_library.service;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import smiinii.object_oriented_library.domain.reservation.Reservation;
+import smiinii.object_oriented_library.domain.reservation.ReservationHistory;
+import smiinii.object_oriented_library.domain.reservation.ReservationStatus;
+import smiinii.object_oriented_library.repository.ReservationHistoryJdbcRepository;
+import smiinii.object_oriented_library.repository.ReservationRepository;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+@Service
+@Transactional(readOnly = true)
+public class ReservationArchiveService {
+
+    private static final Set<ReservationStatus> TERMINAL_STATUSES =
+            EnumSet.of(ReservationStatus.EXPIRED, ReservationStatus.LOAN_COMPLETE);
+
+    private final ReservationRepository reservationRepository;
+    private final ReservationHistoryJdbcRepository reservationHistoryJdbcRepository;
+    private final Clock clock;
+
+    public ReservationArchiveService(
+            ReservationRepository reservationRepository,
+            ReservationHistoryJdbcRepository reservationHistoryJdbcRepository,
+            Clock clock
+    ) {
+        this.reservationRepository = reservationRepository;
+        this.reservationHistoryJdbcRepository = reservationHistoryJdbcRepository;
+        this.clock = clock;
+    }
+
+    @Transactional
+    public int archiveChunk(int chunkSize) {
+        List<Reservation> terminated = reservationRepository
+                .findByReservationStatusInOrderByIdAsc(TERMINAL_STATUSES, PageRequest.of(0, chunkSize));
+        if (terminated.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<ReservationHistory> histories = terminated.stream()
+                .map(reservation -> ReservationHistory.archive(reservation, now))
+                .toList();
+
+        reservationHistoryJdbcRepository.insertAll(histories);
+        reservationRepository.deleteAllInBatch(terminated);
+        return terminated.size();
+    }
+}
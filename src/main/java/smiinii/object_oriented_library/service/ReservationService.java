@@ -1,13 +1,22 @@
 package smiinii.object_oriented_library.service;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import smiinii.object_oriented_library.domain.Book;
 import smiinii.object_oriented_library.domain.Member;
+import smiinii.object_oriented_library.domain.NotFoundException;
+import smiinii.object_oriented_library.domain.RuleViolationException;
 import smiinii.object_oriented_library.domain.reservation.Reservation;
 import smiinii.object_oriented_library.domain.reservation_policy.ReservationPolicy;
+import smiinii.object_oriented_library.dto.reservation.ReservationHistoryPageResponse;
+import smiinii.object_oriented_library.dto.reservation.ReservationHistoryResponse;
 import smiinii.object_oriented_library.repository.BookRepository;
 import smiinii.object_oriented_library.repository.MemberRepository;
+import smiinii.object_oriented_library.repository.ReservationHistoryRepository;
+import smiinii.object_oriented_library.support.lock.BookQueueLock;
+import smiinii.object_oriented_library.support.metrics.TimedOperation;
+import smiinii.object_oriented_library.support.retry.RetryOnConflict;
 
 import java.time.Clock;
 import java.util.List;
@@ -16,32 +25,42 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class ReservationService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final MemberRepository memberRepository;
     private final BookRepository bookRepository;
+    private final ReservationHistoryRepository reservationHistoryRepository;
     private final ReservationPolicy reservationPolicy;
     private final Clock clock;
 
     public ReservationService(
             MemberRepository memberRepository,
             BookRepository bookRepository,
+            ReservationHistoryRepository reservationHistoryRepository,
             ReservationPolicy reservationPolicy,
             Clock clock
     ) {
         this.memberRepository = memberRepository;
         this.bookRepository = bookRepository;
+        this.reservationHistoryRepository = reservationHistoryRepository;
         this.reservationPolicy = reservationPolicy;
         this.clock = clock;
     }
 
     @Transactional
+    @RetryOnConflict
+    @BookQueueLock(key = "bookId")
+    @TimedOperation
     public void reserve(Long memberId, Long bookId) {
         validateMember(memberId);
-        Book book = findBook(bookId);
+        Book book = bookRepository.findByIdForReservation(bookId)
+                .orElseThrow(() -> new NotFoundException("존재하지 않는 도서입니다."));
 
         boolean success = book.tryReserve(memberId, reservationPolicy.maxQueueSize(), clock);
 
         if (!success) {
-            throw new IllegalStateException("이미 활성 예약이 있거나 예약 대기열이 가득 찼습니다.");
+            throw new RuleViolationException(RuleViolationException.Rule.RESERVATION_REJECTED,
+                    "이미 활성 예약이 있거나 예약 대기열이 가득 찼습니다.");
         }
     }
 
@@ -50,19 +69,36 @@ public class ReservationService {
         return book.getReservations();
     }
 
+    public ReservationHistoryPageResponse getReservationHistory(Long bookId, Long after, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        validateBookExists(bookId);
+        long beforeId = after == null ? Long.MAX_VALUE : after;
+        List<ReservationHistoryResponse> histories = reservationHistoryRepository
+                .findPageByBook(bookId, beforeId, PageRequest.of(0, size + 1)).stream()
+                .map(ReservationHistoryResponse::from)
+                .toList();
+        return ReservationHistoryPageResponse.of(histories, size);
+    }
+
     private void validateMember(Long memberId) {
         Member member = memberRepository.findById(memberId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다."));
+                .orElseThrow(() -> new NotFoundException("존재하지 않는 회원입니다."));
 
-        member.releasePenaltyIfExpired(clock);
-
-        if (!member.canBorrow()) {
-            throw new IllegalStateException("현재 대출/예약이 불가능한 회원입니다.");
+        if (!member.canBorrow(clock)) {
+            throw new RuleViolationException(RuleViolationException.Rule.MEMBER_SUSPENDED, "현재 대출/예약이 불가능한 회원입니다.");
         }
     }
 
     private Book findBook(Long bookId) {
         return bookRepository.findById(bookId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 도서입니다."));
+                .orElseThrow(() -> new NotFoundException("존재하지 않는 도서입니다."));
+    }
+
+    private void validateBookExists(Long bookId) {
+        if (!bookRepository.existsById(bookId)) {
+            throw new NotFoundException("존재하지 않는 도서입니다.");
+        }
     }
 }
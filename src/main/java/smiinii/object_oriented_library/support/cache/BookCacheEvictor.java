@@ -0,0 +1,80 @@
+package smiinii.object_oriented_library.support.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import smiinii.object_oriented_library.dto.book.BookPageResponse;
+import smiinii.object_oriented_library.dto.book.BookResponse;
+import smiinii.object_oriented_library.support.search.BookRegisteredEvent;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+// 변경 이벤트는 쓰기 경로(서비스, JDBC 일괄 처리)가 직접 발행한다. 엔티티 리스너는 벌크 갱신을 놓치므로 쓰지 않는다.
+@Component
+public class BookCacheEvictor {
+
+    private final CacheManager cacheManager;
+
+    public BookCacheEvictor(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    // 커밋된 변경만 반영한다. 롤백된 트랜잭션이 캐시를 비우지 않도록 커밋 이후에 제거한다.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void evict(BookChangedEvent event) {
+        Cache bookCache = cacheManager.getCache(CacheNames.BOOK);
+        if (bookCache != null) {
+            bookCache.evict(event.getBookId());
+        }
+        evictPages(page -> covers(page, event.getBookId()));
+    }
+
+    // 새 도서는 기존 어떤 ID보다 크므로 다음 커서가 없는 마지막 페이지에만 나타난다.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void evictLastPages(BookRegisteredEvent event) {
+        evictPages(page -> page.getNextCursor() == null);
+    }
+
+    private void evictPages(Predicate<BookPageResponse> affected) {
+        Cache bookPageCache = cacheManager.getCache(CacheNames.BOOK_PAGE);
+        if (bookPageCache == null) {
+            return;
+        }
+        Map<?, ?> entries = entriesOf(bookPageCache);
+        if (entries == null) {
+            bookPageCache.clear();
+            return;
+        }
+        List<?> keys = entries.entrySet().stream()
+                .filter(entry -> !(entry.getValue() instanceof BookPageResponse page) || affected.test(page))
+                .map(Map.Entry::getKey)
+                .toList();
+        keys.forEach(bookPageCache::evict);
+    }
+
+    // 페이지는 ID 오름차순 구간이다. 마지막 페이지는 끝이 열려 있다.
+    private boolean covers(BookPageResponse page, Long bookId) {
+        List<BookResponse> books = page.getBooks();
+        if (books.isEmpty()) {
+            return true;
+        }
+        if (bookId < books.get(0).getId()) {
+            return false;
+        }
+        return page.getNextCursor() == null || bookId <= page.getNextCursor();
+    }
+
+    private Map<?, ?> entriesOf(Cache cache) {
+        Object nativeCache = cache.getNativeCache();
+        if (nativeCache instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> caffeineCache) {
+            return caffeineCache.asMap();
+        }
+        if (nativeCache instanceof Map<?, ?> map) {
+            return map;
+        }
+        return null;
+    }
+}
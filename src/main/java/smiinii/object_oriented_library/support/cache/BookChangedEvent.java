@@ -0,0 +1,14 @@
+package smiinii.object_oriented_library.support.cache;
+
+public class BookChangedEvent {
+
+    private final Long bookId;
+
+    public BookChangedEvent(Long bookId) {
+        this.bookId = bookId;
+    }
+
+    public Long getBookId() {
+        return bookId;
+    }
+}
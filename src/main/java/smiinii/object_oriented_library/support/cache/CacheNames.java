@@ -0,0 +1,9 @@
+package smiinii.object_oriented_library.support.cache;
+
+public final class CacheNames {
+
+    public static final String BOOK = "book";
+    public static final String BOOK_PAGE = "bookPage";
+
+    private CacheNames() {}
+}
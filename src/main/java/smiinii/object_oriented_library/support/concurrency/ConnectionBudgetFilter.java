@@ -0,0 +1,78 @@
+package smiinii.object_oriented_library.support.concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+// 가상 스레드 모드에서는 스레드 수가 동시성을 막아주지 않으므로, 커넥션 풀 크기만큼만 API 요청을 들여보낸다.
+@Component
+@ConditionalOnProperty(name = "library.connection-budget.enabled", havingValue = "true")
+public class ConnectionBudgetFilter extends OncePerRequestFilter {
+
+    private final Semaphore permits;
+    private final long acquireTimeoutMillis;
+    private final Counter rejectedCounter;
+
+    public ConnectionBudgetFilter(
+            MeterRegistry meterRegistry,
+            @Value("${library.connection-budget.permits:40}") int permits,
+            @Value("${library.connection-budget.acquire-timeout-ms:2000}") long acquireTimeoutMillis
+    ) {
+        this.permits = new Semaphore(permits, true);
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+        this.rejectedCounter = Counter.builder("library.connection.budget.rejected")
+                .description("커넥션 예산을 얻지 못해 거절한 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("library.connection.budget.available", this.permits, Semaphore::availablePermits)
+                .description("남은 커넥션 예산")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            rejectedCounter.increment();
+            response.setHeader("Retry-After", "1");
+            response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value(), "요청이 많아 잠시 후 다시 시도해 주세요.");
+            return;
+        }
+        // 내보내기처럼 비동기로 본문을 쓰는 요청도 핸들러가 돌아오면 바로 반납한다.
+        // 스트리밍 본문은 청크마다 커넥션을 잠깐 빌렸다 돌려주므로, 느린 클라이언트가 본문을 받는 동안 예산을 쥐고 있을 이유가 없다.
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return true;
+    }
+}
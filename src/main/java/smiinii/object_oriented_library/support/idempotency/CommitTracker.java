@@ -0,0 +1,31 @@
+package smiinii.object_oriented_library.support.idempotency;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+// 멱등 요청을 처리하는 스레드에서 쓰기 트랜잭션이 커밋됐는지 기록한다.
+// 스프링 부트가 TransactionExecutionListener 빈을 자동 구성된 트랜잭션 매니저에 등록한다.
+@Component
+public class CommitTracker implements TransactionExecutionListener {
+
+    private final ThreadLocal<Boolean> committed = new ThreadLocal<>();
+
+    public void start() {
+        committed.set(Boolean.FALSE);
+    }
+
+    // 추적을 끝내고, 그 사이 쓰기 트랜잭션이 하나라도 커밋됐으면 true
+    public boolean stop() {
+        Boolean result = committed.get();
+        committed.remove();
+        return Boolean.TRUE.equals(result);
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        if (commitFailure == null && !transaction.isReadOnly() && committed.get() != null) {
+            committed.set(Boolean.TRUE);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package smiinii.object_oriented_library.support.idempotency;
+
+public class IdempotencyClaim {
+
+    public enum Outcome {
+        CLAIMED, // 이 요청이 처리한다.
+        REPLAY, // 저장된 응답을 돌려준다.
+        IN_PROGRESS, // 다른 노드가 같은 키를 처리 중이다.
+        MISMATCH // 같은 키로 다른 요청이 들어왔다.
+    }
+
+    private static final IdempotencyClaim CLAIMED = new IdempotencyClaim(Outcome.CLAIMED, null);
+    private static final IdempotencyClaim IN_PROGRESS = new IdempotencyClaim(Outcome.IN_PROGRESS, null);
+    private static final IdempotencyClaim MISMATCH = new IdempotencyClaim(Outcome.MISMATCH, null);
+
+    private final Outcome outcome;
+    private final StoredResponse response;
+
+    private IdempotencyClaim(Outcome outcome, StoredResponse response) {
+        this.outcome = outcome;
+        this.response = response;
+    }
+
+    public static IdempotencyClaim claimed() {
+        return CLAIMED;
+    }
+
+    public static IdempotencyClaim replay(StoredResponse response) {
+        return new IdempotencyClaim(Outcome.REPLAY, response);
+    }
+
+    public static IdempotencyClaim inProgress() {
+        return IN_PROGRESS;
+    }
+
+    public static IdempotencyClaim mismatch() {
+        return MISMATCH;
+    }
+
+    public Outcome getOutcome() {
+        return outcome;
+    }
+
+    public StoredResponse getResponse() {
+        return response;
+    }
+}
@@ -0,0 +1,298 @@
+package smiinii.object_oriented_library.support.idempotency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+// 대출/예약 생성 요청에 Idempotency-Key가 있으면 첫 응답을 저장해 두고, 같은 키의 재시도에는 서비스를 다시 실행하지 않고 그 응답을 돌려준다.
+// 같은 노드에 동시에 들어온 같은 키는 첫 요청의 결과를 기다리고(single-flight), 다른 노드와는 DB의 PENDING 행으로 선점을 다툰다.
+@Component
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final Set<String> PATHS = Set.of("/api/loans", "/api/reservations");
+    private static final int MAX_KEY_LENGTH = 100;
+    private static final int MAX_STORED_BODY_LENGTH = 4000;
+    private static final String COMMITTED_MARKER_BODY =
+            "{\"message\":\"요청은 처리되었지만 응답을 저장하지 못했습니다. 처리 결과를 조회해 확인해 주세요.\"}";
+
+    private final IdempotencyStore idempotencyStore;
+    private final CommitTracker commitTracker;
+    private final MeterRegistry meterRegistry;
+    private final long waitTimeoutMillis;
+    private final int maxBodyBytes;
+    private final ConcurrentHashMap<String, InFlight> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotencyFilter(
+            IdempotencyStore idempotencyStore,
+            CommitTracker commitTracker,
+            MeterRegistry meterRegistry,
+            @Value("${library.idempotency.wait-timeout-ms:5000}") long waitTimeoutMillis,
+            @Value("${library.idempotency.max-body-bytes:16384}") int maxBodyBytes
+    ) {
+        this.idempotencyStore = idempotencyStore;
+        this.commitTracker = commitTracker;
+        this.meterRegistry = meterRegistry;
+        this.waitTimeoutMillis = waitTimeoutMillis;
+        this.maxBodyBytes = maxBodyBytes;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"POST".equals(request.getMethod())
+                || !PATHS.contains(request.getRequestURI())
+                || request.getHeader(HEADER) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String key = request.getHeader(HEADER).trim();
+        if (key.isEmpty() || key.length() > MAX_KEY_LENGTH) {
+            response.sendError(HttpStatus.BAD_REQUEST.value(), "Idempotency-Key는 1자 이상 " + MAX_KEY_LENGTH + "자 이하여야 합니다.");
+            return;
+        }
+        // 지문을 만들려고 본문을 메모리에 올리므로 크기를 제한한다. Content-Length가 없거나 틀려도 한도 넘게는 읽지 않는다.
+        byte[] body = request.getContentLengthLong() > maxBodyBytes
+                ? null
+                : request.getInputStream().readNBytes(maxBodyBytes + 1);
+        if (body == null || body.length > maxBodyBytes) {
+            counter("too_large").increment();
+            response.sendError(HttpStatus.CONTENT_TOO_LARGE.value(), "요청 본문은 " + maxBodyBytes + "바이트 이하여야 합니다.");
+            return;
+        }
+        String fingerprint = fingerprint(request, body);
+
+        InFlight mine = new InFlight(fingerprint);
+        InFlight leader = inFlight.putIfAbsent(key, mine);
+        if (leader != null) {
+            awaitLeader(leader, fingerprint, response);
+            return;
+        }
+        try {
+            lead(key, fingerprint, new CachedBodyRequest(request, body), response, filterChain, mine);
+        } finally {
+            mine.result.complete(null);
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private void lead(String key, String fingerprint, HttpServletRequest request, HttpServletResponse response,
+                      FilterChain filterChain, InFlight mine) throws ServletException, IOException {
+        IdempotencyClaim claim = idempotencyStore.claim(key, fingerprint);
+        switch (claim.getOutcome()) {
+            case REPLAY -> {
+                counter("replayed").increment();
+                mine.result.complete(claim.getResponse());
+                replay(claim.getResponse(), response);
+            }
+            case IN_PROGRESS -> {
+                counter("in_progress").increment();
+                rejectInProgress(response);
+            }
+            case MISMATCH -> {
+                counter("mismatch").increment();
+                rejectMismatch(response);
+            }
+            case CLAIMED -> {
+                counter("claimed").increment();
+                execute(key, fingerprint, request, response, filterChain, mine);
+            }
+        }
+    }
+
+    private void execute(String key, String fingerprint, HttpServletRequest request, HttpServletResponse response,
+                         FilterChain filterChain, InFlight mine) throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        commitTracker.start();
+        try {
+            filterChain.doFilter(request, wrapper);
+        } catch (ServletException | IOException | RuntimeException e) {
+            if (commitTracker.stop()) {
+                completeWithMarker(key, fingerprint, HttpStatus.INTERNAL_SERVER_ERROR.value(), mine);
+            } else {
+                idempotencyStore.release(key);
+            }
+            throw e;
+        }
+        boolean committed = commitTracker.stop();
+        String responseBody = new String(wrapper.getContentAsByteArray(), StandardCharsets.UTF_8);
+        StoredResponse stored = new StoredResponse(wrapper.getStatus(), wrapper.getContentType(), responseBody);
+        if (stored.getStatus() < 500 && responseBody.length() <= MAX_STORED_BODY_LENGTH) {
+            idempotencyStore.complete(key, fingerprint, stored);
+            mine.result.complete(stored);
+        } else if (committed) {
+            // 이미 커밋된 요청은 선점을 풀면 재시도가 다시 실행하므로, 저장할 수 없는 응답 대신 표시 응답을 남긴다.
+            completeWithMarker(key, fingerprint, stored.getStatus(), mine);
+        } else {
+            // 커밋 전에 끝난 서버 오류는 재시도하면 결과가 달라질 수 있으므로 저장하지 않는다.
+            idempotencyStore.release(key);
+        }
+        wrapper.copyBodyToResponse();
+    }
+
+    private void completeWithMarker(String key, String fingerprint, int status, InFlight mine) {
+        counter("committed_marker").increment();
+        StoredResponse marker = new StoredResponse(status, "application/json", COMMITTED_MARKER_BODY);
+        idempotencyStore.complete(key, fingerprint, marker);
+        mine.result.complete(marker);
+    }
+
+    private void awaitLeader(InFlight leader, String fingerprint, HttpServletResponse response) throws IOException {
+        if (!leader.fingerprint.equals(fingerprint)) {
+            counter("mismatch").increment();
+            rejectMismatch(response);
+            return;
+        }
+        StoredResponse stored;
+        try {
+            stored = leader.result.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            stored = null;
+        } catch (ExecutionException | TimeoutException e) {
+            stored = null;
+        }
+        if (stored == null) {
+            // 첫 요청이 응답을 남기지 못했거나 아직 끝나지 않았다.
+            counter("in_progress").increment();
+            rejectInProgress(response);
+            return;
+        }
+        counter("coalesced").increment();
+        replay(stored, response);
+    }
+
+    private void replay(StoredResponse stored, HttpServletResponse response) throws IOException {
+        response.setStatus(stored.getStatus());
+        response.setHeader(REPLAYED_HEADER, "true");
+        if (stored.getContentType() != null) {
+            response.setContentType(stored.getContentType());
+        }
+        byte[] bytes = stored.getBody() == null ? new byte[0] : stored.getBody().getBytes(StandardCharsets.UTF_8);
+        response.setContentLength(bytes.length);
+        response.getOutputStream().write(bytes);
+    }
+
+    private void rejectInProgress(HttpServletResponse response) throws IOException {
+        response.setHeader("Retry-After", "1");
+        response.sendError(HttpStatus.CONFLICT.value(), "같은 Idempotency-Key의 요청을 처리하고 있습니다. 잠시 후 다시 시도해 주세요.");
+    }
+
+    private void rejectMismatch(HttpServletResponse response) throws IOException {
+        response.sendError(HttpStatus.UNPROCESSABLE_ENTITY.value(), "같은 Idempotency-Key로 다른 요청을 보낼 수 없습니다.");
+    }
+
+    private String fingerprint(HttpServletRequest request, byte[] body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((request.getMethod() + " " + request.getRequestURI() + "\n").getBytes(StandardCharsets.UTF_8));
+            digest.update(body);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Counter counter(String outcome) {
+        return Counter.builder("library.idempotency.requests")
+                .description("Idempotency-Key 요청 처리 결과")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static final class InFlight {
+
+        private final String fingerprint;
+        private final CompletableFuture<StoredResponse> result = new CompletableFuture<>();
+
+        private InFlight(String fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+    }
+
+    // 지문을 만들려고 먼저 읽은 본문을 컨트롤러가 다시 읽을 수 있게 돌려준다.
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return in.read(buffer, offset, length);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package smiinii.object_oriented_library.support.idempotency;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+// Idempotency-Key 하나에 대한 첫 요청의 지문과 응답. 처리 중에는 PENDING 행이 키를 선점한다.
+// 선점 행은 IdempotencyRecordJdbcRepository가 넣고, 엔티티로는 읽기와 완료 처리만 한다.
+@Entity
+@Table(indexes = {
+        @Index(name = "idx_idempotency_record_expires_at", columnList = "expires_at")
+})
+public class IdempotencyRecord {
+
+    @Id
+    @Column(length = 100)
+    private String idempotencyKey;
+
+    @Column(nullable = false, length = 64)
+    private String fingerprint; // 메서드, 경로, 본문의 SHA-256
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private IdempotencyStatus status;
+
+    private Integer responseStatus;
+
+    @Column(length = 100)
+    private String responseContentType;
+
+    @Column(length = 4000)
+    private String responseBody;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    protected IdempotencyRecord() {}
+
+    public void complete(StoredResponse response, LocalDateTime expiresAt) {
+        this.status = IdempotencyStatus.COMPLETED;
+        this.responseStatus = response.getStatus();
+        this.responseContentType = response.getContentType();
+        this.responseBody = response.getBody();
+        this.expiresAt = expiresAt;
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return !now.isBefore(expiresAt);
+    }
+
+    public boolean isCompleted() {
+        return status == IdempotencyStatus.COMPLETED;
+    }
+
+    public boolean matches(String fingerprint) {
+        return this.fingerprint.equals(fingerprint);
+    }
+
+    public StoredResponse toResponse() {
+        return new StoredResponse(responseStatus, responseContentType, responseBody);
+    }
+
+    public String getIdempotencyKey() {
+        return idempotencyKey;
+    }
+
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    public IdempotencyStatus getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+}
@@ -0,0 +1,6 @@
+package smiinii.object_oriented_library.support.idempotency;
+
+public enum IdempotencyStatus {
+    PENDING, // 첫 요청 처리 중
+    COMPLETED // 응답 저장됨
+}
@@ -0,0 +1,111 @@
+package smiinii.object_oriented_library.support.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import smiinii.object_oriented_library.repository.IdempotencyRecordJdbcRepository;
+import smiinii.object_oriented_library.repository.IdempotencyRecordRepository;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 완료된 응답은 크기가 제한된 메모리 계층에 먼저 두고, 노드 사이의 선점과 재시작 이후 재생은 DB 계층이 맡는다.
+@Component
+public class IdempotencyStore {
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final IdempotencyRecordJdbcRepository idempotencyRecordJdbcRepository;
+    private final Clock clock;
+    private final Duration ttl;
+    private final Duration pendingTimeout;
+    private final Cache<String, CompletedResponse> memory;
+
+    public IdempotencyStore(
+            IdempotencyRecordRepository idempotencyRecordRepository,
+            IdempotencyRecordJdbcRepository idempotencyRecordJdbcRepository,
+            Clock clock,
+            @Value("${library.idempotency.ttl-hours:24}") long ttlHours,
+            @Value("${library.idempotency.pending-timeout-seconds:120}") long pendingTimeoutSeconds,
+            @Value("${library.idempotency.memory-max-size:10000}") long memoryMaxSize
+    ) {
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.idempotencyRecordJdbcRepository = idempotencyRecordJdbcRepository;
+        this.clock = clock;
+        this.ttl = Duration.ofHours(ttlHours);
+        this.pendingTimeout = Duration.ofSeconds(pendingTimeoutSeconds);
+        this.memory = Caffeine.newBuilder()
+                .maximumSize(memoryMaxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    // 트랜잭션으로 묶지 않는다. 선점은 새 키 INSERT와 기간이 지난 키의 조건부 UPDATE로 하고, 둘 다 실패해야 기존 행을 읽는다.
+    public IdempotencyClaim claim(String key, String fingerprint) {
+        CompletedResponse cached = memory.getIfPresent(key);
+        if (cached != null) {
+            return cached.fingerprint.equals(fingerprint)
+                    ? IdempotencyClaim.replay(cached.response)
+                    : IdempotencyClaim.mismatch();
+        }
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime pendingUntil = now.plus(pendingTimeout);
+        if (idempotencyRecordJdbcRepository.insertPending(key, fingerprint, now, pendingUntil)
+                || idempotencyRecordJdbcRepository.takeOverExpired(key, fingerprint, now, pendingUntil)) {
+            return IdempotencyClaim.claimed();
+        }
+        // 다른 요청이 선점했거나 응답을 남겼다. 그 사이 지워졌다면 재시도가 다시 선점하게 둔다.
+        return idempotencyRecordRepository.findById(key)
+                .map(record -> fromExisting(key, record, fingerprint))
+                .orElseGet(IdempotencyClaim::inProgress);
+    }
+
+    @Transactional
+    public void complete(String key, String fingerprint, StoredResponse response) {
+        idempotencyRecordRepository.findById(key)
+                .filter(record -> record.matches(fingerprint))
+                .ifPresent(record -> record.complete(response, LocalDateTime.now(clock).plus(ttl)));
+        memory.put(key, new CompletedResponse(fingerprint, response));
+    }
+
+    // 응답을 남기지 않을 요청(서버 오류 등)은 선점을 풀어 재시도가 다시 실행되게 한다.
+    public void release(String key) {
+        memory.invalidate(key);
+        idempotencyRecordRepository.deleteById(key);
+    }
+
+    @Transactional
+    public int purgeExpired(int chunkSize) {
+        List<String> keys = idempotencyRecordRepository.findExpiredKeys(
+                LocalDateTime.now(clock), PageRequest.of(0, chunkSize));
+        idempotencyRecordRepository.deleteAllByIdInBatch(keys);
+        return keys.size();
+    }
+
+    private IdempotencyClaim fromExisting(String key, IdempotencyRecord record, String fingerprint) {
+        if (!record.matches(fingerprint)) {
+            return IdempotencyClaim.mismatch();
+        }
+        if (!record.isCompleted()) {
+            return IdempotencyClaim.inProgress();
+        }
+        StoredResponse response = record.toResponse();
+        memory.put(key, new CompletedResponse(fingerprint, response));
+        return IdempotencyClaim.replay(response);
+    }
+
+    private static final class CompletedResponse {
+
+        private final String fingerprint;
+        private final StoredResponse response;
+
+        private CompletedResponse(String fingerprint, StoredResponse response) {
+            this.fingerprint = fingerprint;
+            this.response = response;
+        }
+    }
+}
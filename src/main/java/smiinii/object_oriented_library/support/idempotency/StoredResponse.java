@@ -0,0 +1,27 @@
+package smiinii.object_oriented_library.support.idempotency;
+
+// 재시도에 그대로 돌려줄 첫 응답
+public class StoredResponse {
+
+    private final int status;
+    private final String contentType;
+    private final String body;
+
+    public StoredResponse(int status, String contentType, String body) {
+        this.status = status;
+        this.contentType = contentType;
+        this.body = body;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getBody() {
+        return body;
+    }
+}
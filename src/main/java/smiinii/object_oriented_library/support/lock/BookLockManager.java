@@ -0,0 +1,19 @@
+package smiinii.object_oriented_library.support.lock;
+
+import java.util.Collection;
+
+// 도서 단위로 예약 대기열 변경을 직렬화한다. 트랜잭션 바깥에서 잡아 커밋이 끝난 뒤 놓아야 한다.
+public interface BookLockManager {
+
+    // 제한 시간 안에 잠금을 얻지 못하면 IllegalStateException을 던진다.
+    BookLock acquire(Long bookId);
+
+    // 여러 도서를 정해진 순서로 잠가 서로 엇갈려 기다리지 않게 한다. 하나라도 얻지 못하면 얻은 잠금을 모두 놓고 예외를 던진다.
+    BookLock acquireAll(Collection<Long> bookIds);
+
+    interface BookLock extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
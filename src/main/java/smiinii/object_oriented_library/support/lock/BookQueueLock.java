@@ -0,0 +1,23 @@
+package smiinii.object_oriented_library.support.lock;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 메서드 실행 전체(재시도와 커밋 포함)를 도서 잠금 안에서 실행한다. key는 잠글 도서를 가리키는 파라미터 이름이다.
+// 파라미터가 컬렉션이면 가리키는 도서를 모두 잠근다.
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface BookQueueLock {
+
+    String key();
+
+    KeyType keyType() default KeyType.BOOK_ID;
+
+    enum KeyType {
+        BOOK_ID,
+        LOAN_ID, // 대출의 소장본이 속한 도서를 잠근다.
+        RESERVATION_ID // 예약이 걸린 도서를 잠근다.
+    }
+}
@@ -0,0 +1,86 @@
+package smiinii.object_oriented_library.support.lock;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import smiinii.object_oriented_library.repository.LoanRepository;
+import smiinii.object_oriented_library.repository.ReservationRepository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 2) // 재시도 어드바이스보다 바깥에서 잠가, 재시도하는 동안에도 대기열을 독점한다.
+public class BookQueueLockAspect {
+
+    private final BookLockManager bookLockManager;
+    private final LoanRepository loanRepository;
+    private final ReservationRepository reservationRepository;
+
+    public BookQueueLockAspect(
+            BookLockManager bookLockManager,
+            LoanRepository loanRepository,
+            ReservationRepository reservationRepository
+    ) {
+        this.bookLockManager = bookLockManager;
+        this.loanRepository = loanRepository;
+        this.reservationRepository = reservationRepository;
+    }
+
+    @Around("@annotation(bookQueueLock)")
+    public Object lock(ProceedingJoinPoint joinPoint, BookQueueLock bookQueueLock) throws Throwable {
+        List<Long> bookIds = resolveBookIds(joinPoint, bookQueueLock);
+        if (bookIds.isEmpty()) {
+            // 존재하지 않는 대출 등은 잠글 대상이 없으므로 서비스가 그대로 예외를 던지게 둔다.
+            return joinPoint.proceed();
+        }
+        try (BookLockManager.BookLock ignored = bookIds.size() == 1
+                ? bookLockManager.acquire(bookIds.getFirst())
+                : bookLockManager.acquireAll(bookIds)) {
+            return joinPoint.proceed();
+        }
+    }
+
+    private List<Long> resolveBookIds(ProceedingJoinPoint joinPoint, BookQueueLock bookQueueLock) {
+        Object key = argument(joinPoint, bookQueueLock.key());
+        if (key == null) {
+            return List.of();
+        }
+        Collection<Long> keys = toKeys(key);
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+        // 대출과 예약의 도서는 바뀌지 않으므로 트랜잭션 밖에서 먼저 읽어도 된다.
+        return switch (bookQueueLock.keyType()) {
+            case BOOK_ID -> keys.stream().filter(Objects::nonNull).distinct().toList();
+            case LOAN_ID -> keys.size() == 1
+                    ? loanRepository.findBookIdByLoanId(keys.iterator().next()).stream().toList()
+                    : loanRepository.findBookIdsByLoanIds(keys);
+            case RESERVATION_ID -> reservationRepository.findBookIdsByReservationIds(keys);
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private Collection<Long> toKeys(Object key) {
+        if (key instanceof Collection<?> collection) {
+            return (Collection<Long>) collection;
+        }
+        return List.of((Long) key);
+    }
+
+    private Object argument(ProceedingJoinPoint joinPoint, String name) {
+        String[] names = ((MethodSignature) joinPoint.getSignature()).getParameterNames();
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals(name)) {
+                return joinPoint.getArgs()[i];
+            }
+        }
+        throw new IllegalStateException("잠금 키 파라미터가 없습니다: " + name);
+    }
+}
@@ -0,0 +1,163 @@
+package smiinii.object_oriented_library.support.lock;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+// 여러 노드가 같은 DB를 쓸 때 MySQL 사용자 잠금(GET_LOCK)으로 도서 잠금을 건다.
+// 사용자 잠금은 세션(커넥션)에 묶이므로 트랜잭션과 별개의 커넥션을 잠금 동안 붙잡고, 잠긴 요청은 커넥션을 두 개 쓴다.
+// 잠금 커넥션이 풀을 다 차지하면 잠금을 쥔 요청이 트랜잭션 커넥션을 얻지 못해 서로 막히므로,
+// 동시에 여는 잠금 세션 수를 풀의 절반(library.book-lock.max-sessions)으로 묶어 나머지 절반을 트랜잭션 몫으로 남긴다.
+@Component
+@ConditionalOnProperty(name = "library.book-lock.mode", havingValue = "mysql")
+public class MySqlBookLockManager implements BookLockManager {
+
+    private static final Logger log = LoggerFactory.getLogger(MySqlBookLockManager.class);
+
+    private static final String LOCK_PREFIX = "library.book.";
+
+    private final DataSource dataSource;
+    private final long waitTimeoutMillis;
+    private final Semaphore sessions;
+    private final Timer waitTimer;
+    private final Counter timeoutCounter;
+
+    public MySqlBookLockManager(
+            DataSource dataSource,
+            MeterRegistry meterRegistry,
+            @Value("${library.book-lock.wait-timeout-ms:2000}") long waitTimeoutMillis,
+            @Value("${library.book-lock.max-sessions:0}") int maxSessions
+    ) {
+        this.dataSource = dataSource;
+        this.waitTimeoutMillis = waitTimeoutMillis;
+        this.sessions = new Semaphore(maxSessions > 0 ? maxSessions : defaultMaxSessions(dataSource), true);
+        this.waitTimer = Timer.builder("library.book.lock.wait")
+                .description("도서 잠금을 기다린 시간")
+                .tag("mode", "mysql")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.timeoutCounter = Counter.builder("library.book.lock.timeouts")
+                .description("제한 시간 안에 얻지 못한 도서 잠금 수")
+                .tag("mode", "mysql")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public BookLock acquire(Long bookId) {
+        return acquireAll(List.of(bookId));
+    }
+
+    // 한 세션이 여러 잠금을 함께 쥘 수 있으므로 커넥션 하나로 도서 id 순서대로 잠근다.
+    @Override
+    public BookLock acquireAll(Collection<Long> bookIds) {
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + TimeUnit.MILLISECONDS.toNanos(waitTimeoutMillis);
+        acquireSession();
+        Connection connection = null;
+        try {
+            connection = dataSource.getConnection();
+            for (Long bookId : new TreeSet<>(bookIds)) {
+                Integer result = call(connection, "SELECT GET_LOCK(?, ?)", LOCK_PREFIX + bookId, remainingSeconds(deadline));
+                if (result == null || result != 1) {
+                    // 0은 시간 초과, NULL은 오류(세션 종료 등)
+                    timeoutCounter.increment();
+                    throw new IllegalStateException("요청이 몰려 처리하지 못했습니다. 잠시 후 다시 시도해 주세요.");
+                }
+            }
+            waitTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        } catch (SQLException e) {
+            release(connection);
+            throw new DataAccessResourceFailureException("도서 잠금을 얻지 못했습니다.", e);
+        } catch (RuntimeException e) {
+            release(connection);
+            throw e;
+        }
+        Connection locked = connection;
+        return () -> release(locked);
+    }
+
+    private void acquireSession() {
+        try {
+            if (!sessions.tryAcquire(waitTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                timeoutCounter.increment();
+                throw new IllegalStateException("요청이 몰려 처리하지 못했습니다. 잠시 후 다시 시도해 주세요.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("도서 잠금을 기다리는 중 중단되었습니다.", e);
+        }
+    }
+
+    // 잠금 세션이 쥔 사용자 잠금을 모두 놓고 커넥션과 세션 허가를 돌려준다.
+    private void release(Connection connection) {
+        try {
+            if (connection != null) {
+                call(connection, "SELECT RELEASE_ALL_LOCKS()", null, null);
+            }
+        } catch (SQLException e) {
+            // 해제가 실패하는 건 대개 세션이 끊긴 경우이고, 세션이 끝나면 MySQL이 잠금도 함께 푼다.
+            log.warn("도서 잠금 해제 실패", e);
+        } finally {
+            closeQuietly(connection);
+            sessions.release();
+        }
+    }
+
+    private Integer call(Connection connection, String sql, String name, Integer timeoutSeconds) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            if (name != null) {
+                statement.setString(1, name);
+            }
+            if (timeoutSeconds != null) {
+                statement.setInt(2, timeoutSeconds);
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                int value = resultSet.getInt(1);
+                return resultSet.wasNull() ? null : value;
+            }
+        }
+    }
+
+    // GET_LOCK의 제한 시간은 초 단위다. 남은 시간이 없으면 0초로 한 번만 시도한다.
+    private int remainingSeconds(long deadline) {
+        long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+        return (int) Math.max(0, TimeUnit.MILLISECONDS.toSeconds(remainingMillis + 999));
+    }
+
+    private static int defaultMaxSessions(DataSource dataSource) {
+        if (dataSource instanceof HikariDataSource hikari) {
+            return Math.max(1, hikari.getMaximumPoolSize() / 2);
+        }
+        throw new IllegalStateException("커넥션 풀 크기를 알 수 없어 library.book-lock.max-sessions를 지정해야 합니다.");
+    }
+
+    private void closeQuietly(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            log.warn("잠금 커넥션을 닫지 못했습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package smiinii.object_oriented_library.support.lock;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 한 JVM 안에서 도서 잠금을 고정 크기 스트라이프 배열로 나눠 건다. 서로 다른 도서가 같은 스트라이프를 공유할 수는 있다.
+@Component
+@ConditionalOnProperty(name = "library.book-lock.mode", havingValue = "local", matchIfMissing = true)
+public class StripedBookLockManager implements BookLockManager {
+
+    private final ReentrantLock[] stripes;
+    private final Counter[] contendedCounters;
+    private final long waitTimeoutMillis;
+    private final Timer waitTimer;
+    private final Counter timeoutCounter;
+
+    public StripedBookLockManager(
+            MeterRegistry meterRegistry,
+            @Value("${library.book-lock.stripes:64}") int stripeCount,
+            @Value("${library.book-lock.wait-timeout-ms:2000}") long waitTimeoutMillis
+    ) {
+        if (stripeCount < 1 || Integer.bitCount(stripeCount) != 1) {
+            throw new IllegalArgumentException("스트라이프 수는 2의 거듭제곱이어야 합니다.");
+        }
+        this.stripes = new ReentrantLock[stripeCount];
+        this.contendedCounters = new Counter[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ReentrantLock(true);
+            contendedCounters[i] = Counter.builder("library.book.lock.contended")
+                    .description("이미 잡혀 있어 기다린 도서 잠금 획득 수")
+                    .tag("stripe", String.valueOf(i))
+                    .register(meterRegistry);
+        }
+        this.waitTimeoutMillis = waitTimeoutMillis;
+        this.waitTimer = Timer.builder("library.book.lock.wait")
+                .description("도서 잠금을 기다린 시간")
+                .tag("mode", "local")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.timeoutCounter = Counter.builder("library.book.lock.timeouts")
+                .description("제한 시간 안에 얻지 못한 도서 잠금 수")
+                .tag("mode", "local")
+                .register(meterRegistry);
+        Gauge.builder("library.book.lock.queued", this, StripedBookLockManager::queuedThreads)
+                .description("도서 잠금을 기다리는 스레드 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public BookLock acquire(Long bookId) {
+        int stripe = stripeOf(bookId);
+        lockStripe(stripe, TimeUnit.MILLISECONDS.toNanos(waitTimeoutMillis));
+        return stripes[stripe]::unlock;
+    }
+
+    // 서로 다른 도서가 같은 스트라이프를 공유하므로 도서 id가 아니라 스트라이프 번호 순서로 잠근다.
+    @Override
+    public BookLock acquireAll(Collection<Long> bookIds) {
+        TreeSet<Integer> stripeIndexes = new TreeSet<>();
+        for (Long bookId : bookIds) {
+            stripeIndexes.add(stripeOf(bookId));
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(waitTimeoutMillis);
+        Deque<Integer> locked = new ArrayDeque<>();
+        try {
+            for (int stripe : stripeIndexes) {
+                lockStripe(stripe, deadline - System.nanoTime());
+                locked.push(stripe);
+            }
+        } catch (RuntimeException e) {
+            locked.forEach(stripe -> stripes[stripe].unlock());
+            throw e;
+        }
+        return () -> locked.forEach(stripe -> stripes[stripe].unlock());
+    }
+
+    private void lockStripe(int stripe, long timeoutNanos) {
+        ReentrantLock lock = stripes[stripe];
+        try {
+            // 시간 제한 없는 tryLock()은 공정성을 무시하고 끼어들기 때문에 0초 대기로 먼저 시도한다.
+            if (!lock.tryLock(0, TimeUnit.MILLISECONDS)) {
+                contendedCounters[stripe].increment();
+                long startedAt = System.nanoTime();
+                boolean acquired = lock.tryLock(Math.max(0, timeoutNanos), TimeUnit.NANOSECONDS);
+                waitTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                if (!acquired) {
+                    timeoutCounter.increment();
+                    throw new IllegalStateException("요청이 몰려 처리하지 못했습니다. 잠시 후 다시 시도해 주세요.");
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("도서 잠금을 기다리는 중 중단되었습니다.", e);
+        }
+    }
+
+    int stripeOf(Long bookId) {
+        int hash = bookId.hashCode();
+        return (hash ^ (hash >>> 16)) & (stripes.length - 1);
+    }
+
+    private int queuedThreads() {
+        int queued = 0;
+        for (ReentrantLock stripe : stripes) {
+            queued += stripe.getQueueLength();
+        }
+        return queued;
+    }
+}
@@ -0,0 +1,59 @@
+package smiinii.object_oriented_library.support.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 3) // 도서 잠금/재시도 어드바이스보다 바깥에서 감싼다.
+public class OperationMetricsAspect {
+
+    private final MeterRegistry meterRegistry;
+
+    public OperationMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("@annotation(smiinii.object_oriented_library.support.metrics.TimedOperation)")
+    public Object record(ProceedingJoinPoint joinPoint) throws Throwable {
+        String operation = joinPoint.getSignature().getDeclaringType().getSimpleName()
+                + "." + joinPoint.getSignature().getName();
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        OperationOutcome outcome = OperationOutcome.SUCCESS;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            outcome = OperationOutcome.from(e);
+            throw e;
+        } finally {
+            sample.stop(timer(operation, outcome));
+            counter(operation, outcome).increment();
+        }
+    }
+
+    private Timer timer(String operation, OperationOutcome outcome) {
+        return Timer.builder("library.operation.duration")
+                .description("서비스 연산 소요 시간")
+                .tag("operation", operation)
+                .tag("outcome", outcome.getTag())
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private Counter counter(String operation, OperationOutcome outcome) {
+        return Counter.builder("library.operation.calls")
+                .description("결과별 서비스 연산 호출 수")
+                .tag("operation", operation)
+                .tag("outcome", outcome.getTag())
+                .register(meterRegistry);
+    }
+}
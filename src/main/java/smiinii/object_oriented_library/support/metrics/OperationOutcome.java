@@ -0,0 +1,49 @@
+package smiinii.object_oriented_library.support.metrics;
+
+import org.springframework.dao.OptimisticLockingFailureException;
+import smiinii.object_oriented_library.domain.NotFoundException;
+import smiinii.object_oriented_library.domain.RuleViolationException;
+
+public enum OperationOutcome {
+    SUCCESS("success"),
+    NOT_FOUND("not_found"),
+    MEMBER_SUSPENDED("member_suspended"),
+    NO_AVAILABLE_COPY("no_available_copy"),
+    RESERVATION_REJECTED("reservation_rejected"), // 중복 예약 또는 대기열 초과
+    OVERDUE_EXTENSION("overdue_extension"),
+    RESERVED_BY_OTHER("reserved_by_other"),
+    ALREADY_RETURNED("already_returned"),
+    CONFLICT("conflict"),
+    ERROR("error");
+
+    private final String tag;
+
+    OperationOutcome(String tag) {
+        this.tag = tag;
+    }
+
+    // 실패 사유는 예외 타입과 규칙으로만 구분한다. 메시지 문구는 태그에 영향을 주지 않는다.
+    public static OperationOutcome from(Throwable failure) {
+        if (failure instanceof OptimisticLockingFailureException) {
+            return CONFLICT;
+        }
+        if (failure instanceof NotFoundException) {
+            return NOT_FOUND;
+        }
+        if (failure instanceof RuleViolationException violation) {
+            return switch (violation.getRule()) {
+                case MEMBER_SUSPENDED -> MEMBER_SUSPENDED;
+                case NO_AVAILABLE_COPY -> NO_AVAILABLE_COPY;
+                case RESERVATION_REJECTED -> RESERVATION_REJECTED;
+                case OVERDUE_EXTENSION -> OVERDUE_EXTENSION;
+                case RESERVED_BY_OTHER -> RESERVED_BY_OTHER;
+                case ALREADY_RETURNED -> ALREADY_RETURNED;
+            };
+        }
+        return ERROR;
+    }
+
+    public String getTag() {
+        return tag;
+    }
+}
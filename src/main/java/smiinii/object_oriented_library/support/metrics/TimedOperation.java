@@ -0,0 +1,12 @@
+package smiinii.object_oriented_library.support.metrics;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 서비스 연산의 소요 시간과 결과(성공/실패 사유)를 기록한다. 재시도까지 포함한 전체 시간을 잰다.
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface TimedOperation {
+}
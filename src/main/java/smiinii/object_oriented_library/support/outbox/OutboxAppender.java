@@ -0,0 +1,48 @@
+package smiinii.object_oriented_library.support.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import smiinii.object_oriented_library.repository.OutboxEventRepository;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Component
+public class OutboxAppender {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    public OutboxAppender(OutboxEventRepository outboxEventRepository, ObjectMapper objectMapper) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    // 키, 값을 번갈아 받아 순서를 유지하는 payload를 만든다. 값은 null일 수 있다.
+    public static Map<String, Object> payload(Object... keyValues) {
+        if (keyValues.length % 2 != 0) {
+            throw new IllegalArgumentException("payload는 키와 값의 쌍이어야 합니다.");
+        }
+        Map<String, Object> payload = new LinkedHashMap<>();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            payload.put((String) keyValues[i], keyValues[i + 1]);
+        }
+        return payload;
+    }
+
+    // 도메인 변경과 함께 커밋되거나 함께 롤백되도록 호출하는 쪽의 트랜잭션 안에서만 쓴다.
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(OutboxEventType eventType, Long aggregateId, Map<String, Object> payload, LocalDateTime occurredAt) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("아웃박스 이벤트를 직렬화하지 못했습니다.", e);
+        }
+        outboxEventRepository.save(OutboxEvent.of(eventType, aggregateId, json, occurredAt));
+    }
+}
@@ -0,0 +1,23 @@
+package smiinii.object_oriented_library.support.outbox;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+// 소비자를 이벤트마다 별도 트랜잭션에서 실행한다. 한 소비자의 실패가 릴레이 트랜잭션이나
+// 같은 배치의 다른 이벤트 처리 결과를 함께 롤백하지 않는다.
+@Component
+public class OutboxDispatcher {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public OutboxDispatcher(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void dispatch(OutboxMessage message) {
+        eventPublisher.publishEvent(message);
+    }
+}
@@ -0,0 +1,116 @@
+package smiinii.object_oriented_library.support.outbox;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+// 도메인 변경과 같은 트랜잭션에 쌓이는 이벤트. 릴레이가 id 순서로 전달하고 publishedAt을 채운다.
+// 같은 애그리거트를 바꾸는 트랜잭션은 그 애그리거트의 버전/잠금으로 직렬화되므로, insert 시점에 받는 IDENTITY id는
+// 애그리거트 안에서 커밋 순서와 같다. 서로 다른 애그리거트 사이의 순서는 보장하지 않는다.
+// 전달에 계속 실패하는 이벤트는 정해진 횟수 뒤 parkedAt을 채워 릴레이 대상에서 뺀다. (운영자가 확인 후 되돌린다)
+@Entity
+@Table(indexes = {
+        @Index(name = "idx_outbox_event_published_at", columnList = "published_at, parked_at, id")
+})
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 40)
+    private OutboxEventType eventType;
+
+    @Column(nullable = false)
+    private Long aggregateId;
+
+    @Column(nullable = false, length = 2000)
+    private String payload;
+
+    @Column(nullable = false)
+    private LocalDateTime occurredAt;
+
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+
+    @Column(nullable = false)
+    private int attempts; // 전달에 실패한 횟수
+
+    private LocalDateTime lastFailedAt;
+
+    @Column(name = "parked_at")
+    private LocalDateTime parkedAt;
+
+    protected OutboxEvent() {}
+
+    private OutboxEvent(OutboxEventType eventType, Long aggregateId, String payload, LocalDateTime occurredAt) {
+        this.eventType = eventType;
+        this.aggregateId = aggregateId;
+        this.payload = payload;
+        this.occurredAt = occurredAt;
+    }
+
+    public static OutboxEvent of(OutboxEventType eventType, Long aggregateId, String payload, LocalDateTime occurredAt) {
+        return new OutboxEvent(eventType, aggregateId, payload, occurredAt);
+    }
+
+    public void markPublished(LocalDateTime publishedAt) {
+        this.publishedAt = publishedAt;
+    }
+
+    // 실패를 기록하고, maxAttempts번째 실패면 보류해 true를 돌려준다.
+    public boolean recordFailure(LocalDateTime now, int maxAttempts) {
+        this.attempts++;
+        this.lastFailedAt = now;
+        if (attempts >= maxAttempts) {
+            park(now);
+            return true;
+        }
+        return false;
+    }
+
+    public void park(LocalDateTime now) {
+        this.parkedAt = now;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public OutboxEventType getEventType() {
+        return eventType;
+    }
+
+    public Long getAggregateId() {
+        return aggregateId;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    public LocalDateTime getPublishedAt() {
+        return publishedAt;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public LocalDateTime getLastFailedAt() {
+        return lastFailedAt;
+    }
+
+    public LocalDateTime getParkedAt() {
+        return parkedAt;
+    }
+
+    public boolean isParked() {
+        return parkedAt != null;
+    }
+}
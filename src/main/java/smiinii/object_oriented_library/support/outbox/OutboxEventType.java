@@ -0,0 +1,19 @@
+package smiinii.object_oriented_library.support.outbox;
+
+public enum OutboxEventType {
+    LOAN_RETURNED("loan"),
+    HOLD_PREPARED("reservation"),
+    HOLD_EXPIRED("reservation"),
+    PENALTY_APPLIED("member");
+
+    private final String aggregateType;
+
+    OutboxEventType(String aggregateType) {
+        this.aggregateType = aggregateType;
+    }
+
+    // aggregateId가 가리키는 애그리거트 종류. 전달 순서는 (종류, id) 단위로 지킨다.
+    public String getAggregateType() {
+        return aggregateType;
+    }
+}
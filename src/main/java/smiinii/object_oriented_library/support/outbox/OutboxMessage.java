@@ -0,0 +1,52 @@
+package smiinii.object_oriented_library.support.outbox;
+
+import java.time.LocalDateTime;
+
+// 릴레이가 로컬 소비자에게 애플리케이션 이벤트로 전달하는 메시지.
+// 최소 한 번 전달이므로 소비자는 id로 중복을 걸러야 한다.
+public class OutboxMessage {
+
+    private final Long id;
+    private final OutboxEventType eventType;
+    private final Long aggregateId;
+    private final String payload;
+    private final LocalDateTime occurredAt;
+
+    public OutboxMessage(Long id, OutboxEventType eventType, Long aggregateId, String payload, LocalDateTime occurredAt) {
+        this.id = id;
+        this.eventType = eventType;
+        this.aggregateId = aggregateId;
+        this.payload = payload;
+        this.occurredAt = occurredAt;
+    }
+
+    public static OutboxMessage from(OutboxEvent event) {
+        return new OutboxMessage(
+                event.getId(),
+                event.getEventType(),
+                event.getAggregateId(),
+                event.getPayload(),
+                event.getOccurredAt()
+        );
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public OutboxEventType getEventType() {
+        return eventType;
+    }
+
+    public Long getAggregateId() {
+        return aggregateId;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+}
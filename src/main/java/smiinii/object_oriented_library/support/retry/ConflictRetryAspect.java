@@ -0,0 +1,85 @@
+package smiinii.object_oriented_library.support.retry;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1) // 트랜잭션 어드바이스보다 바깥에서 감싼다.
+public class ConflictRetryAspect {
+
+    private final MeterRegistry meterRegistry;
+    private final int maxAttempts;
+    private final long baseBackoffMillis;
+    private final long maxBackoffMillis;
+
+    public ConflictRetryAspect(
+            MeterRegistry meterRegistry,
+            @Value("${library.retry.max-attempts:3}") int maxAttempts,
+            @Value("${library.retry.base-backoff-ms:20}") long baseBackoffMillis,
+            @Value("${library.retry.max-backoff-ms:200}") long maxBackoffMillis
+    ) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("재시도 횟수는 1 이상이어야 합니다.");
+        }
+        this.meterRegistry = meterRegistry;
+        this.maxAttempts = maxAttempts;
+        this.baseBackoffMillis = baseBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+    }
+
+    @Around("@annotation(smiinii.object_oriented_library.support.retry.RetryOnConflict)")
+    public Object retry(ProceedingJoinPoint joinPoint) throws Throwable {
+        // 바깥 트랜잭션에 참여 중이면 이미 rollback-only 이므로 여기서 재시도해도 소용이 없다.
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+        String operation = joinPoint.getSignature().getDeclaringType().getSimpleName()
+                + "." + joinPoint.getSignature().getName();
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return joinPoint.proceed();
+            } catch (OptimisticLockingFailureException e) {
+                counter("library.optimistic.conflicts", operation).increment();
+                if (attempt >= maxAttempts) {
+                    counter("library.optimistic.exhausted", operation).increment();
+                    throw e;
+                }
+                counter("library.optimistic.retries", operation).increment();
+                backoff(attempt, e);
+            }
+        }
+    }
+
+    private void backoff(int attempt, OptimisticLockingFailureException cause) {
+        long ceiling = Math.min(maxBackoffMillis, baseBackoffMillis << Math.min(attempt - 1, 20));
+        if (ceiling <= 0) {
+            return;
+        }
+        long sleepMillis = ThreadLocalRandom.current().nextLong(ceiling / 2, ceiling + 1);
+        try {
+            Thread.sleep(sleepMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw cause;
+        }
+    }
+
+    private Counter counter(String name, String operation) {
+        return Counter.builder(name)
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,12 @@
+package smiinii.object_oriented_library.support.retry;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 낙관적 락 충돌 시 트랜잭션 전체를 다시 실행한다. 트랜잭션 경계 바깥에서 동작해야 하므로 @Transactional 메서드에 붙인다.
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RetryOnConflict {
+}
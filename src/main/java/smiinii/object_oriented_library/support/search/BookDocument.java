@@ -0,0 +1,26 @@
+package smiinii.object_oriented_library.support.search;
+
+public class BookDocument {
+
+    private final Long bookId;
+    private final String title;
+    private final String author;
+
+    public BookDocument(Long bookId, String title, String author) {
+        this.bookId = bookId;
+        this.title = title;
+        this.author = author;
+    }
+
+    public Long getBookId() {
+        return bookId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getAuthor() {
+        return author;
+    }
+}
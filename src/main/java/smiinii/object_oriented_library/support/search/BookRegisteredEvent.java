@@ -0,0 +1,20 @@
+package smiinii.object_oriented_library.support.search;
+
+import java.util.List;
+
+public class BookRegisteredEvent {
+
+    private final List<BookDocument> books;
+
+    public BookRegisteredEvent(List<BookDocument> books) {
+        this.books = List.copyOf(books);
+    }
+
+    public static BookRegisteredEvent of(Long bookId, String title, String author) {
+        return new BookRegisteredEvent(List.of(new BookDocument(bookId, title, author)));
+    }
+
+    public List<BookDocument> getBooks() {
+        return books;
+    }
+}
@@ -0,0 +1,190 @@
+package smiinii.object_oriented_library.support.search;
+
+import org.springframework.stereotype.Component;
+import smiinii.object_oriented_library.dto.book.BookSearchResponse;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 제목/저자 역색인. 도서마다 추가 순서대로 내부 번호를 붙여 포스팅 목록이 항상 정렬된 상태로 쌓이게 한다.
+// 토큰화는 락 밖에서 하고 포스팅 추가만 쓰기 락 안에서 하므로, 여러 스레드가 동시에 색인해도 된다.
+@Component
+public class BookSearchIndex {
+
+    private static final float TITLE_WEIGHT = 2.0f;
+    private static final float AUTHOR_WEIGHT = 1.0f;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Postings> postingsByTerm = new HashMap<>();
+    private final List<BookDocument> documents = new ArrayList<>();
+    private final Map<Long, Integer> ordinalsByBookId = new HashMap<>();
+
+    public void index(List<BookDocument> books) {
+        List<Map<String, Float>> weightedTerms = books.stream().map(this::weigh).toList();
+        lock.writeLock().lock();
+        try {
+            for (int i = 0; i < books.size(); i++) {
+                BookDocument book = books.get(i);
+                if (ordinalsByBookId.containsKey(book.getBookId())) {
+                    continue;
+                }
+                int ordinal = documents.size();
+                documents.add(book);
+                ordinalsByBookId.put(book.getBookId(), ordinal);
+                weightedTerms.get(i).forEach((term, weight) ->
+                        postingsByTerm.computeIfAbsent(term, t -> new Postings()).add(ordinal, weight));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 질의의 모든 토큰을 포함하는 도서만 고르고, 토큰 가중치 x idf 합으로 정렬한다.
+    public List<BookSearchResponse> search(String query, int limit) {
+        Set<String> terms = new LinkedHashSet<>(BookTokenizer.tokenize(query));
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            Postings[] postings = new Postings[terms.size()];
+            int i = 0;
+            for (String term : terms) {
+                Postings found = postingsByTerm.get(term);
+                if (found == null) {
+                    return List.of();
+                }
+                postings[i++] = found;
+            }
+            // 가장 짧은 목록을 기준으로 나머지를 이진 탐색한다.
+            Arrays.sort(postings, Comparator.comparingInt(Postings::size));
+            double[] idf = new double[postings.length];
+            for (int t = 0; t < postings.length; t++) {
+                idf[t] = Math.log(1 + (double) documents.size() / postings[t].size());
+            }
+
+            PriorityQueue<ScoredOrdinal> top = new PriorityQueue<>(ScoredOrdinal.WORST_FIRST);
+            Postings base = postings[0];
+            for (int p = 0; p < base.size(); p++) {
+                int ordinal = base.ordinalAt(p);
+                double score = base.weightAt(p) * idf[0];
+                boolean matched = true;
+                for (int t = 1; t < postings.length && matched; t++) {
+                    int position = postings[t].find(ordinal);
+                    if (position < 0) {
+                        matched = false;
+                    } else {
+                        score += postings[t].weightAt(position) * idf[t];
+                    }
+                }
+                // 내부 번호 오름차순으로 훑으므로 동점이면 먼저 들어온 쪽을 남긴다.
+                if (!matched) {
+                    continue;
+                }
+                if (top.size() < limit) {
+                    top.offer(new ScoredOrdinal(ordinal, score));
+                } else if (score > top.peek().score()) {
+                    top.poll();
+                    top.offer(new ScoredOrdinal(ordinal, score));
+                }
+            }
+
+            List<ScoredOrdinal> ranked = new ArrayList<>(top);
+            ranked.sort(ScoredOrdinal.WORST_FIRST.reversed());
+            return ranked.stream()
+                    .map(hit -> {
+                        BookDocument book = documents.get(hit.ordinal());
+                        return new BookSearchResponse(book.getBookId(), book.getTitle(), book.getAuthor(), hit.score());
+                    })
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Map<String, Float> weigh(BookDocument book) {
+        Map<String, Float> weights = new HashMap<>();
+        for (String term : BookTokenizer.tokenizeForIndex(book.getTitle())) {
+            weights.merge(term, TITLE_WEIGHT, Float::sum);
+        }
+        for (String term : BookTokenizer.tokenizeForIndex(book.getAuthor())) {
+            weights.merge(term, AUTHOR_WEIGHT, Float::sum);
+        }
+        return weights;
+    }
+
+    private static class ScoredOrdinal {
+
+        // 점수가 같으면 먼저 등록된 도서를 앞에 둔다.
+        static final Comparator<ScoredOrdinal> WORST_FIRST = Comparator
+                .comparingDouble(ScoredOrdinal::score)
+                .thenComparing(Comparator.comparingInt(ScoredOrdinal::ordinal).reversed());
+
+        private final int ordinal;
+        private final double score;
+
+        ScoredOrdinal(int ordinal, double score) {
+            this.ordinal = ordinal;
+            this.score = score;
+        }
+
+        int ordinal() {
+            return ordinal;
+        }
+
+        double score() {
+            return score;
+        }
+    }
+
+    // 정렬된 내부 번호와 가중치를 원시 배열로 들고 있어 박싱 없이 수십만 권을 담는다.
+    private static class Postings {
+
+        private int[] ordinals = new int[4];
+        private float[] weights = new float[4];
+        private int size;
+
+        void add(int ordinal, float weight) {
+            if (size == ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+            }
+            ordinals[size] = ordinal;
+            weights[size] = weight;
+            size++;
+        }
+
+        int size() {
+            return size;
+        }
+
+        int ordinalAt(int position) {
+            return ordinals[position];
+        }
+
+        float weightAt(int position) {
+            return weights[position];
+        }
+
+        int find(int ordinal) {
+            return Arrays.binarySearch(ordinals, 0, size, ordinal);
+        }
+    }
+}
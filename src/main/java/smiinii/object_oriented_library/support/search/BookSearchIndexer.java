@@ -0,0 +1,20 @@
+package smiinii.object_oriented_library.support.search;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+public class BookSearchIndexer {
+
+    private final BookSearchIndex bookSearchIndex;
+
+    public BookSearchIndexer(BookSearchIndex bookSearchIndex) {
+        this.bookSearchIndex = bookSearchIndex;
+    }
+
+    // 롤백된 등록이 검색되지 않도록 커밋 이후에 색인한다.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void index(BookRegisteredEvent event) {
+        bookSearchIndex.index(event.getBooks());
+    }
+}
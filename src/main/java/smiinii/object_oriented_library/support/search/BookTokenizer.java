@@ -0,0 +1,80 @@
+package smiinii.object_oriented_library.support.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+// 한글은 띄어쓰기와 조사가 일정하지 않아 음절 바이그램으로 자르고, 그 밖의 문자(라틴/숫자)는 단어 단위로 자른다.
+// 색인과 질의가 같은 규칙을 쓰므로 "클린코드"와 "클린 코드"가 같은 바이그램을 만든다.
+// 한 글자 검색어("책", "꽃")도 찾을 수 있게 색인할 때는 한글 음절 하나하나(유니그램)도 함께 넣는다.
+public final class BookTokenizer {
+
+    private BookTokenizer() {
+    }
+
+    // 질의용. 두 글자 이상의 한글 토막은 바이그램만 만든다.
+    public static List<String> tokenize(String text) {
+        return tokenize(text, false);
+    }
+
+    // 색인용. 질의용 토큰에 한글 유니그램을 더한다.
+    public static List<String> tokenizeForIndex(String text) {
+        return tokenize(text, true);
+    }
+
+    private static List<String> tokenize(String text, boolean unigrams) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        String normalized = text.toLowerCase(Locale.ROOT);
+        StringBuilder hangul = new StringBuilder();
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (isHangul(c)) {
+                flushWord(word, tokens);
+                hangul.append(c);
+            } else if (Character.isLetterOrDigit(c)) {
+                flushHangul(hangul, tokens, unigrams);
+                word.append(c);
+            } else if (Character.isWhitespace(c)) {
+                // 한글 사이의 공백은 이어 붙여, 띄어 쓴 제목과 붙여 쓴 검색어가 같은 바이그램을 갖게 한다.
+                flushWord(word, tokens);
+            } else {
+                flushWord(word, tokens);
+                flushHangul(hangul, tokens, unigrams);
+            }
+        }
+        flushWord(word, tokens);
+        flushHangul(hangul, tokens, unigrams);
+        return tokens;
+    }
+
+    private static boolean isHangul(char c) {
+        return Character.UnicodeScript.of(c) == Character.UnicodeScript.HANGUL;
+    }
+
+    private static void flushWord(StringBuilder word, List<String> tokens) {
+        if (!word.isEmpty()) {
+            tokens.add(word.toString());
+            word.setLength(0);
+        }
+    }
+
+    // 한 글자짜리 한글 토막은 그대로 두고, 두 글자 이상이면 바이그램으로 나눈다. unigrams면 음절도 하나씩 더한다.
+    private static void flushHangul(StringBuilder hangul, List<String> tokens, boolean unigrams) {
+        if (hangul.length() == 1) {
+            tokens.add(hangul.toString());
+        }
+        for (int i = 0; i + 1 < hangul.length(); i++) {
+            tokens.add(hangul.substring(i, i + 2));
+        }
+        if (unigrams && hangul.length() > 1) {
+            for (int i = 0; i < hangul.length(); i++) {
+                tokens.add(hangul.substring(i, i + 1));
+            }
+        }
+        hangul.setLength(0);
+    }
+}
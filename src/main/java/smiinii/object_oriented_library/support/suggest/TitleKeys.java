@@ -0,0 +1,72 @@
+package smiinii.object_oriented_library.support.suggest;
+
+import java.text.Normalizer;
+import java.util.List;
+import java.util.Locale;
+
+// 한글은 자모(NFD)로 풀어 비교한다. 입력 중인 "클리"가 "클린"의 접두어가 되고,
+// 첫 타의 호환 자모("ㅋ")나 받침으로 붙은 자음("클" → "크리...")도 다음 음절의 초성으로 이어 볼 수 있다.
+final class TitleKeys {
+
+    private static final char NO_CHOSEONG = '\0';
+
+    // 호환 자모 ㄱ(U+3131) ~ ㅎ(U+314E) → 초성. 겹자음은 초성이 없다.
+    private static final char[] COMPAT_TO_CHOSEONG = {
+            '\u1100', '\u1101', NO_CHOSEONG, '\u1102', NO_CHOSEONG, NO_CHOSEONG, '\u1103', '\u1104', '\u1105',
+            NO_CHOSEONG, NO_CHOSEONG, NO_CHOSEONG, NO_CHOSEONG, NO_CHOSEONG, NO_CHOSEONG, NO_CHOSEONG,
+            '\u1106', '\u1107', '\u1108', NO_CHOSEONG, '\u1109', '\u110A', '\u110B', '\u110C', '\u110D',
+            '\u110E', '\u110F', '\u1110', '\u1111', '\u1112'
+    };
+
+    // 종성 ㄱ(U+11A8) ~ ㅎ(U+11C2) → 같은 소리의 초성. 겹받침은 그대로 둔다.
+    private static final char[] JONGSEONG_TO_CHOSEONG = {
+            '\u1100', '\u1101', NO_CHOSEONG, '\u1102', NO_CHOSEONG, NO_CHOSEONG, '\u1103', '\u1105',
+            NO_CHOSEONG, NO_CHOSEONG, NO_CHOSEONG, NO_CHOSEONG, NO_CHOSEONG, NO_CHOSEONG, NO_CHOSEONG,
+            '\u1106', '\u1107', NO_CHOSEONG, '\u1109', '\u110A', '\u110B', '\u110C', '\u110E', '\u110F',
+            '\u1110', '\u1111', '\u1112'
+    };
+
+    private TitleKeys() {
+    }
+
+    static String normalize(String text) {
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD).toLowerCase(Locale.ROOT);
+        StringBuilder key = new StringBuilder(decomposed.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            if (Character.isWhitespace(c)) {
+                pendingSpace = !key.isEmpty();
+                continue;
+            }
+            if (pendingSpace) {
+                key.append(' ');
+                pendingSpace = false;
+            }
+            key.append(toChoseong(c, '\u3131', COMPAT_TO_CHOSEONG));
+        }
+        return key.toString();
+    }
+
+    // 마지막 글자가 받침이면, 그 받침을 다음 음절의 초성으로 본 키도 함께 찾는다.
+    static List<String> prefixCandidates(String prefix) {
+        String key = normalize(prefix);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+        char last = key.charAt(key.length() - 1);
+        char choseong = toChoseong(last, '\u11A8', JONGSEONG_TO_CHOSEONG);
+        if (choseong == last) {
+            return List.of(key);
+        }
+        return List.of(key, key.substring(0, key.length() - 1) + choseong);
+    }
+
+    private static char toChoseong(char c, char first, char[] table) {
+        int index = c - first;
+        if (index < 0 || index >= table.length || table[index] == NO_CHOSEONG) {
+            return c;
+        }
+        return table[index];
+    }
+}
@@ -0,0 +1,98 @@
+package smiinii.object_oriented_library.support.suggest;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 재구성은 락 밖에서 새 trie를 만든 뒤 교체한다. 그동안 들어온 신규 등록은 모아 두었다가 새 trie에도 넣는다.
+@Component
+public class TitleSuggestIndex {
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final int topN;
+    private TitleTrie trie;
+    private List<TitleSuggestion> insertedDuringRebuild;
+
+    public TitleSuggestIndex(@Value("${library.suggest.top-n:10}") int topN) {
+        this.topN = topN;
+        this.trie = new TitleTrie(topN);
+    }
+
+    public int getTopN() {
+        return topN;
+    }
+
+    public void insert(TitleSuggestion suggestion) {
+        lock.writeLock().lock();
+        try {
+            trie.insert(TitleKeys.normalize(suggestion.getTitle()), suggestion);
+            if (insertedDuringRebuild != null) {
+                insertedDuringRebuild.add(suggestion);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Rebuild startRebuild() {
+        lock.writeLock().lock();
+        try {
+            insertedDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return new Rebuild(new TitleTrie(topN));
+    }
+
+    public List<TitleSuggestion> suggest(String prefix, int limit) {
+        List<String> candidates = TitleKeys.prefixCandidates(prefix);
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            if (candidates.size() == 1) {
+                return trie.find(candidates.get(0), limit);
+            }
+            Map<Long, TitleSuggestion> merged = new LinkedHashMap<>();
+            for (String candidate : candidates) {
+                trie.find(candidate, limit).forEach(suggestion -> merged.putIfAbsent(suggestion.getBookId(), suggestion));
+            }
+            return merged.values().stream()
+                    .sorted(TitleTrie.RANKING)
+                    .limit(limit)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public class Rebuild {
+
+        private final TitleTrie next;
+
+        private Rebuild(TitleTrie next) {
+            this.next = next;
+        }
+
+        public void add(TitleSuggestion suggestion) {
+            next.insert(TitleKeys.normalize(suggestion.getTitle()), suggestion);
+        }
+
+        public void commit() {
+            lock.writeLock().lock();
+            try {
+                insertedDuringRebuild.forEach(this::add);
+                trie = next;
+                insertedDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+}
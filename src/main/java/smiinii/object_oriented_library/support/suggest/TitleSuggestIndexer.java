@@ -0,0 +1,24 @@
+package smiinii.object_oriented_library.support.suggest;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import smiinii.object_oriented_library.support.search.BookDocument;
+import smiinii.object_oriented_library.support.search.BookRegisteredEvent;
+
+@Component
+public class TitleSuggestIndexer {
+
+    private final TitleSuggestIndex titleSuggestIndex;
+
+    public TitleSuggestIndexer(TitleSuggestIndex titleSuggestIndex) {
+        this.titleSuggestIndex = titleSuggestIndex;
+    }
+
+    // 새 도서는 대출 이력이 없으므로 인기도 0으로 넣고, 다음 재구성 때 실제 대출 수로 바뀐다.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void insert(BookRegisteredEvent event) {
+        for (BookDocument book : event.getBooks()) {
+            titleSuggestIndex.insert(new TitleSuggestion(book.getBookId(), book.getTitle(), 0L));
+        }
+    }
+}
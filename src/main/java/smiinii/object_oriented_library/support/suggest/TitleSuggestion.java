@@ -0,0 +1,26 @@
+package smiinii.object_oriented_library.support.suggest;
+
+public class TitleSuggestion {
+
+    private final Long bookId;
+    private final String title;
+    private final long loanCount;
+
+    public TitleSuggestion(Long bookId, String title, long loanCount) {
+        this.bookId = bookId;
+        this.title = title;
+        this.loanCount = loanCount;
+    }
+
+    public Long getBookId() {
+        return bookId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public long getLoanCount() {
+        return loanCount;
+    }
+}
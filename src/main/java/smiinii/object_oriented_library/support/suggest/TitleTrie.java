@@ -0,0 +1,145 @@
+package smiinii.object_oriented_library.support.suggest;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+// 간선에 문자열을 붙인 radix trie. 노드마다 하위 트리의 상위 topN 제안을 미리 들고 있어
+// 조회는 접두어 길이만큼 내려간 뒤 그 노드의 배열을 그대로 돌려준다.
+// 동시성은 호출하는 쪽(TitleSuggestIndex)이 책임진다.
+class TitleTrie {
+
+    static final Comparator<TitleSuggestion> RANKING = Comparator
+            .comparingLong(TitleSuggestion::getLoanCount).reversed()
+            .thenComparing(TitleSuggestion::getBookId);
+
+    private static final Node[] NO_CHILDREN = new Node[0];
+    private static final TitleSuggestion[] NO_SUGGESTIONS = new TitleSuggestion[0];
+
+    private final int topN;
+    private final Node root = new Node("");
+
+    TitleTrie(int topN) {
+        this.topN = topN;
+    }
+
+    void insert(String key, TitleSuggestion suggestion) {
+        Node node = root;
+        node.offer(suggestion, topN);
+        int position = 0;
+        while (position < key.length()) {
+            int childIndex = node.childIndex(key.charAt(position));
+            if (childIndex < 0) {
+                Node leaf = new Node(key.substring(position));
+                leaf.offer(suggestion, topN);
+                node.insertChild(-childIndex - 1, leaf);
+                return;
+            }
+            Node child = node.children[childIndex];
+            int common = commonPrefixLength(child.label, key, position);
+            if (common < child.label.length()) {
+                child = node.split(childIndex, common);
+            }
+            child.offer(suggestion, topN);
+            node = child;
+            position += common;
+        }
+    }
+
+    List<TitleSuggestion> find(String prefix, int limit) {
+        Node node = root;
+        int position = 0;
+        while (position < prefix.length()) {
+            int childIndex = node.childIndex(prefix.charAt(position));
+            if (childIndex < 0) {
+                return List.of();
+            }
+            Node child = node.children[childIndex];
+            int matched = commonPrefixLength(child.label, prefix, position);
+            // 접두어가 간선 중간에서 끝나면 그 간선 아래가 곧 결과다.
+            if (matched < child.label.length() && position + matched < prefix.length()) {
+                return List.of();
+            }
+            node = child;
+            position += matched;
+        }
+        return Arrays.asList(node.top).subList(0, Math.min(limit, node.top.length));
+    }
+
+    private static int commonPrefixLength(String label, String key, int offset) {
+        int length = Math.min(label.length(), key.length() - offset);
+        int i = 0;
+        while (i < length && label.charAt(i) == key.charAt(offset + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    private static class Node {
+
+        private String label;
+        private Node[] children = NO_CHILDREN;
+        private TitleSuggestion[] top = NO_SUGGESTIONS;
+
+        Node(String label) {
+            this.label = label;
+        }
+
+        // 자식은 간선 첫 글자로 정렬해 두고 이진 탐색한다. 없으면 (-(삽입 위치) - 1)
+        int childIndex(char first) {
+            int low = 0;
+            int high = children.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                char c = children[mid].label.charAt(0);
+                if (c < first) {
+                    low = mid + 1;
+                } else if (c > first) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -(low + 1);
+        }
+
+        void insertChild(int index, Node child) {
+            Node[] grown = new Node[children.length + 1];
+            System.arraycopy(children, 0, grown, 0, index);
+            grown[index] = child;
+            System.arraycopy(children, index, grown, index + 1, children.length - index);
+            children = grown;
+        }
+
+        // children[index]의 간선을 length 위치에서 나눠 중간 노드를 만든다. 하위 트리가 같으므로 top도 같다.
+        Node split(int index, int length) {
+            Node child = children[index];
+            Node middle = new Node(child.label.substring(0, length));
+            child.label = child.label.substring(length);
+            middle.children = new Node[]{child};
+            middle.top = child.top;
+            children[index] = middle;
+            return middle;
+        }
+
+        // 재구성 중 신규 등록이 두 번 들어와도 한 노드에는 한 번만 남긴다.
+        void offer(TitleSuggestion suggestion, int topN) {
+            for (TitleSuggestion existing : top) {
+                if (existing.getBookId().equals(suggestion.getBookId())) {
+                    return;
+                }
+            }
+            int position = Arrays.binarySearch(top, suggestion, RANKING);
+            int insertAt = position < 0 ? -position - 1 : position;
+            if (insertAt >= topN) {
+                return;
+            }
+            int length = Math.min(top.length + 1, topN);
+            TitleSuggestion[] next = new TitleSuggestion[length];
+            System.arraycopy(top, 0, next, 0, insertAt);
+            next[insertAt] = suggestion;
+            System.arraycopy(top, insertAt, next, insertAt + 1, length - insertAt - 1);
+            top = next;
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package smiinii.object_oriented_library.support.timer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 마감 시각이 가까운 항목을 틱 단위 버킷에 모아 두는 계층형 타이밍 휠.
+// 레벨 i의 버킷 하나는 wheelSize^i 틱을 덮고, 상위 레벨 버킷은 차례가 오면 하위 레벨로 내려보낸다.
+// 예약/취소/진행 모두 O(1)이며 표현 가능한 범위(horizon)를 넘는 항목은 받지 않는다.
+// 스레드 안전하지 않으므로 사용하는 쪽에서 동기화한다.
+public class HierarchicalTimingWheel<T> {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final long[] spans; // 레벨별 버킷 하나가 덮는 틱 수
+    private final List<List<Timeout<T>>> buckets; // level * wheelSize + index
+    private final List<Timeout<T>> due = new ArrayList<>(); // 예약 시점에 이미 마감이 지난 항목
+    private final long horizonTicks;
+    private long currentTick;
+    private int size;
+
+    public HierarchicalTimingWheel(long tickMillis, int wheelSize, int levels, long startMillis) {
+        if (tickMillis <= 0 || wheelSize < 2 || levels < 1) {
+            throw new IllegalArgumentException("틱은 0보다 크고 휠 크기는 2 이상, 레벨은 1 이상이어야 합니다.");
+        }
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.spans = new long[levels];
+        long span = 1;
+        for (int level = 0; level < levels; level++) {
+            spans[level] = span;
+            span = Math.multiplyExact(span, wheelSize);
+        }
+        this.horizonTicks = span;
+        this.buckets = new ArrayList<>(levels * wheelSize);
+        for (int i = 0; i < levels * wheelSize; i++) {
+            buckets.add(new ArrayList<>());
+        }
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    public long horizonMillis() {
+        return horizonTicks * tickMillis;
+    }
+
+    // 마감이 범위를 벗어나면 null을 돌려준다. 그런 항목은 호출하는 쪽이 다른 방법(DB 스윕 등)으로 처리한다.
+    public Timeout<T> schedule(T item, long deadlineMillis) {
+        long deadlineTick = ceilTick(deadlineMillis);
+        if (deadlineTick - currentTick >= horizonTicks) {
+            return null;
+        }
+        Timeout<T> timeout = new Timeout<>(this, item, deadlineMillis, deadlineTick);
+        place(timeout);
+        size++;
+        return timeout;
+    }
+
+    // nowMillis까지 틱을 진행하고 마감된 항목을 돌려준다. 취소된 항목은 버킷을 비울 때 버린다.
+    public List<T> advanceTo(long nowMillis) {
+        long targetTick = nowMillis / tickMillis;
+        List<T> expired = new ArrayList<>();
+        drain(due, expired);
+        if (size == 0) {
+            // 남은 항목이 없으면 틱을 하나씩 돌 필요가 없다.
+            currentTick = Math.max(currentTick, targetTick);
+            return expired;
+        }
+        while (currentTick < targetTick) {
+            currentTick++;
+            for (int level = spans.length - 1; level > 0; level--) {
+                if (currentTick % spans[level] == 0) {
+                    cascade(level, expired);
+                }
+            }
+            drain(bucket(0, currentTick), expired);
+        }
+        return expired;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void drain(List<Timeout<T>> bucket, List<T> expired) {
+        for (Timeout<T> timeout : bucket) {
+            expire(timeout, expired);
+        }
+        bucket.clear();
+    }
+
+    private void cascade(int level, List<T> expired) {
+        List<Timeout<T>> bucket = bucket(level, currentTick);
+        List<Timeout<T>> moving = new ArrayList<>(bucket);
+        bucket.clear();
+        for (Timeout<T> timeout : moving) {
+            if (timeout.cancelled) {
+                continue;
+            }
+            if (timeout.deadlineTick <= currentTick) {
+                expire(timeout, expired);
+            } else {
+                place(timeout);
+            }
+        }
+    }
+
+    private void expire(Timeout<T> timeout, List<T> expired) {
+        if (timeout.cancelled) {
+            return;
+        }
+        timeout.cancelled = true;
+        size--;
+        expired.add(timeout.item);
+    }
+
+    private void place(Timeout<T> timeout) {
+        long delta = timeout.deadlineTick - currentTick;
+        if (delta <= 0) {
+            due.add(timeout);
+            return;
+        }
+        int level = 0;
+        while (level < spans.length - 1 && delta >= spans[level + 1]) {
+            level++;
+        }
+        bucket(level, timeout.deadlineTick).add(timeout);
+    }
+
+    private List<Timeout<T>> bucket(int level, long tick) {
+        int index = (int) ((tick / spans[level]) % wheelSize);
+        return buckets.get(level * wheelSize + index);
+    }
+
+    private long ceilTick(long millis) {
+        return Math.floorDiv(millis + tickMillis - 1, tickMillis);
+    }
+
+    // 예약 핸들. 취소는 표시만 하고 버킷에서는 차례가 올 때 빠진다.
+    public static final class Timeout<T> {
+
+        private final HierarchicalTimingWheel<T> wheel;
+        private final T item;
+        private final long deadlineMillis;
+        private final long deadlineTick;
+        private boolean cancelled;
+
+        private Timeout(HierarchicalTimingWheel<T> wheel, T item, long deadlineMillis, long deadlineTick) {
+            this.wheel = wheel;
+            this.item = item;
+            this.deadlineMillis = deadlineMillis;
+            this.deadlineTick = deadlineTick;
+        }
+
+        // 이미 만료됐거나 취소된 핸들이면 false
+        public boolean cancel() {
+            if (cancelled) {
+                return false;
+            }
+            cancelled = true;
+            wheel.size--;
+            return true;
+        }
+
+        public T getItem() {
+            return item;
+        }
+
+        public long getDeadlineMillis() {
+            return deadlineMillis;
+        }
+    }
+}
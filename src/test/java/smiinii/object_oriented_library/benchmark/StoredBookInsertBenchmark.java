@@ -0,0 +1,58 @@
+package smiinii.object_oriented_library.benchmark;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+import smiinii.object_oriented_library.domain.Book;
+import smiinii.object_oriented_library.repository.BookRepository;
+import smiinii.object_oriented_library.service.BookService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// ./gradlew benchmark -Dbenchmark.copies=5000 (설정된 데이터소스에 실제로 행을 삽입한다)
+@Tag("benchmark")
+@SpringBootTest
+class StoredBookInsertBenchmark {
+
+    private static final int COPIES = Integer.getInteger("benchmark.copies", 5_000);
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("소장본 대량 입고: 엔티티 단건 INSERT 대비 JDBC 배치 INSERT 처리량")
+    void compareEntityInsertWithJdbcBatch() {
+        Long bookId = bookService.registerBook("입고 벤치마크", "벤치마크", 1);
+
+        double entityRowsPerSecond = rowsPerSecond(() -> transactionTemplate.executeWithoutResult(status -> {
+            Book book = bookRepository.findById(bookId).orElseThrow();
+            book.addAvailableStoredBooks(COPIES);
+            entityManager.flush();
+        }));
+        double batchRowsPerSecond = rowsPerSecond(() -> bookService.addStoredBooks(bookId, COPIES));
+
+        System.out.printf("stored_book insert x%d: entity=%.0f rows/s, jdbc batch=%.0f rows/s (%.1fx)%n",
+                COPIES, entityRowsPerSecond, batchRowsPerSecond, batchRowsPerSecond / entityRowsPerSecond);
+        assertThat(batchRowsPerSecond).isPositive();
+    }
+
+    private double rowsPerSecond(Runnable insert) {
+        long startedAt = System.nanoTime();
+        insert.run();
+        double seconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+        return COPIES / seconds;
+    }
+}
@@ -139,4 +139,48 @@ public class BookTest {
         // then
         assertThat(storedBook.getStatus()).isEqualTo(StoredBookStatus.ON_HOLD);
     }
+
+    @Test
+    @DisplayName("tryReserve: 같은 회원의 활성 예약이 있으면 예약을 받지 않는다")
+    void tryReserveFailsWhenMemberAlreadyReserved() {
+        // given
+        Book book = Book.registerNew("자바의 정석", "남궁성", 1);
+        book.getStoredBooks().getStoredBooks().getFirst().loan();
+        book.tryReserve(1L, 3, fixedClock);
+        // when
+        boolean reserved = book.tryReserve(1L, 3, fixedClock);
+        // then
+        assertThat(reserved).isFalse();
+        assertThat(book.getReservations()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("tryReserve: 예약 대기열이 가득 차면 예약을 받지 않는다")
+    void tryReserveFailsWhenQueueIsFull() {
+        // given
+        Book book = Book.registerNew("자바의 정석", "남궁성", 1);
+        book.getStoredBooks().getStoredBooks().getFirst().loan();
+        book.tryReserve(1L, 2, fixedClock);
+        book.tryReserve(2L, 2, fixedClock);
+        // when
+        boolean reserved = book.tryReserve(3L, 2, fixedClock);
+        // then
+        assertThat(reserved).isFalse();
+        assertThat(book.getReservations()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("repairStoredBookCounts: 실제 소장본 수와 카운터가 다르면 보정하고 true를 반환한다")
+    void repairsDriftedCounts() {
+        // given
+        Book book = Book.registerNew("자바의 정석", "남궁성", 2);
+        // when
+        boolean unchanged = book.repairStoredBookCounts(2, 0, 0);
+        boolean repaired = book.repairStoredBookCounts(1, 1, 0);
+        // then
+        assertThat(unchanged).isFalse();
+        assertThat(repaired).isTrue();
+        assertThat(book.getStoredBookCounts().getAvailableCount()).isEqualTo(1);
+        assertThat(book.getStoredBookCounts().getLoanedCount()).isEqualTo(1);
+    }
 }
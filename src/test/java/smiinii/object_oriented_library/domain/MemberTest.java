@@ -35,8 +35,9 @@ public class MemberTest {
     void whenActiveAndNoPenaltyReturnsTrue() {
         // given
         Member member = Member.create("이성민");
+        Clock clock = fixedClock(LocalDateTime.of(2025, 11, 16, 10, 0));
         // when
-        boolean result = member.canBorrow();
+        boolean result = member.canBorrow(clock);
         // then
         assertThat(result).isTrue();
     }
@@ -53,12 +54,31 @@ public class MemberTest {
         member.applyPenalty(penalty);
 
         assertThat(member.getMemberStatus()).isEqualTo(MemberStatus.SUSPENDED);
+        Clock duringPenaltyClock = fixedClock(LocalDateTime.of(2025, 11, 16, 12, 0));
         // when
-        boolean result = member.canBorrow();
+        boolean result = member.canBorrow(duringPenaltyClock);
         // then
         assertThat(result).isFalse();
     }
 
+    @Test
+    @DisplayName("canBorrow: 패널티 기간이 지났으면 해제 전이라도 상태를 바꾸지 않고 대출 가능으로 본다")
+    void whenSuspendedButPenaltyExpiredReturnsTrueWithoutRelease() {
+        // given
+        Member member = Member.create("이성민");
+        LocalDateTime startsAt = LocalDateTime.of(2025, 11, 16, 9, 0);
+        LocalDateTime endsAt = LocalDateTime.of(2025, 11, 17, 9, 0);
+        member.applyPenalty(Penalty.of(startsAt, endsAt, "연체 1일"));
+
+        Clock afterPenaltyClock = fixedClock(endsAt);
+        // when
+        boolean result = member.canBorrow(afterPenaltyClock);
+        // then
+        assertThat(result).isTrue();
+        assertThat(member.getMemberStatus()).isEqualTo(MemberStatus.SUSPENDED);
+        assertThat(member.hasPenalty()).isTrue();
+    }
+
     @Test
     @DisplayName("applyPenalty: 패널티를 적용하면 패널티가 설정되고 상태가 SUSPENDED로 변경된다")
     void applyPenaltySetsPenaltyAndSuspendsMember() {
@@ -76,35 +96,4 @@ public class MemberTest {
         assertThat(member.getPenaltyStartsAt()).isEqualTo(startsAt);
         assertThat(member.getPenaltyEndsAt()).isEqualTo(endsAt);
     }
-
-    @Test
-    @DisplayName("releasePenaltyIfExpired: 패널티 기간이 지났다면 패널티를 해제하고 상태를 ACTIVE로 되돌린다")
-    void releasePenaltyIfExpiredWhenExpiredClearsPenaltyAndActivate() {
-        // given
-        Member member = Member.create("이성민");
-        LocalDateTime startsAt = LocalDateTime.of(2025, 11, 10, 10, 0);
-        LocalDateTime endsAt = LocalDateTime.of(2025, 11, 11, 10, 0);
-        Penalty penalty = Penalty.of(startsAt, endsAt, "연체 1일");
-        member.applyPenalty(penalty);
-
-        Clock afterPenaltyClock = fixedClock(LocalDateTime.of(2025, 11, 16, 10, 0));
-        // when
-        member.releasePenaltyIfExpired(afterPenaltyClock);
-        // then
-        assertThat(member.getMemberStatus()).isEqualTo(MemberStatus.ACTIVE);
-        assertThat(member.hasPenalty()).isFalse();
-    }
-
-    @Test
-    @DisplayName("releasePenaltyIfExpired: 패널티가 없으면 아무 변화도 일어나지 않는다")
-    void releasePenaltyWithoutPenaltyDoesNothing() {
-        // given
-        Member member = Member.create("이성민");
-        Clock clock = fixedClock(LocalDateTime.of(2025, 11, 16, 10, 0));
-        // when
-        member.releasePenaltyIfExpired(clock);
-        // then
-        assertThat(member.getMemberStatus()).isEqualTo(MemberStatus.ACTIVE);
-        assertThat(member.hasPenalty()).isFalse();
-    }
 }
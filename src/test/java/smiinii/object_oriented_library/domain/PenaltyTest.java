@@ -53,4 +53,19 @@ public class PenaltyTest {
         assertThat(before).isFalse();
         assertThat(after).isFalse();
     }
+
+    @Test
+    @DisplayName("forOverdue: 연체 일수만큼 now부터 패널티를 부과하고, 하루 미만 연체도 1일로 본다")
+    void forOverdue() {
+        // given
+        LocalDateTime dueDate = LocalDateTime.of(2025, 11, 10, 10, 0);
+        // when
+        Penalty threeDays = Penalty.forOverdue(dueDate, dueDate.plusDays(3).plusHours(2));
+        Penalty fewHours = Penalty.forOverdue(dueDate, dueDate.plusHours(2));
+        // then
+        assertThat(threeDays.getStartsAt()).isEqualTo(dueDate.plusDays(3).plusHours(2));
+        assertThat(threeDays.getEndsAt()).isEqualTo(dueDate.plusDays(6).plusHours(2));
+        assertThat(threeDays.getReason()).isEqualTo("연체 3일");
+        assertThat(fewHours.getReason()).isEqualTo("연체 1일");
+    }
 }
@@ -0,0 +1,95 @@
+package smiinii.object_oriented_library.domain.storedbook;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import smiinii.object_oriented_library.domain.Book;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class StoredBookCountsTest {
+
+    @Test
+    @DisplayName("move: 이전 상태 카운터는 줄고 다음 상태 카운터는 늘어난다")
+    void movesBetweenStatuses() {
+        // given
+        StoredBookCounts counts = new StoredBookCounts();
+        counts.increase(StoredBookStatus.AVAILABLE);
+        counts.increase(StoredBookStatus.AVAILABLE);
+        // when
+        counts.move(StoredBookStatus.AVAILABLE, StoredBookStatus.LOANED);
+        // then
+        assertThat(counts.getAvailableCount()).isEqualTo(1);
+        assertThat(counts.getLoanedCount()).isEqualTo(1);
+        assertThat(counts.total()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("allLoaned: 모든 소장본이 LOANED일 때만 true")
+    void allLoanedOnlyWhenEveryCopyLoaned() {
+        // given
+        StoredBookCounts counts = new StoredBookCounts();
+        counts.increase(StoredBookStatus.LOANED);
+        counts.increase(StoredBookStatus.ON_HOLD);
+        // when & then
+        assertThat(counts.allLoaned()).isFalse();
+        counts.move(StoredBookStatus.ON_HOLD, StoredBookStatus.LOANED);
+        assertThat(counts.allLoaned()).isTrue();
+    }
+
+    @Test
+    @DisplayName("allLoaned: 소장본이 없으면 예외처리")
+    void throwsWhenEmpty() {
+        // given
+        StoredBookCounts counts = new StoredBookCounts();
+        // when & then
+        assertThatThrownBy(counts::allLoaned)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("소장본이 비어있습니다.");
+    }
+
+    @Test
+    @DisplayName("StoredBook 상태 전이가 소속 Book의 카운터에 반영된다")
+    void storedBookTransitionsUpdateBookCounts() {
+        // given
+        Book book = Book.registerNew("클린 코드", "로버트 마틴", 2);
+        StoredBook first = book.getStoredBooks().getStoredBooks().get(0);
+        StoredBook second = book.getStoredBooks().getStoredBooks().get(1);
+        // when
+        first.loan();
+        second.toOnHold();
+        // then
+        StoredBookCounts counts = book.getStoredBookCounts();
+        assertThat(counts.getAvailableCount()).isZero();
+        assertThat(counts.getLoanedCount()).isEqualTo(1);
+        assertThat(counts.getOnHoldCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("drainChange: 로드 이후 쌓인 변화량을 돌려주고 비운다")
+    void drainsAccumulatedChange() {
+        // given
+        StoredBookCounts counts = new StoredBookCounts();
+        counts.increase(StoredBookStatus.AVAILABLE, 2);
+        counts.move(StoredBookStatus.AVAILABLE, StoredBookStatus.LOANED);
+        // when
+        StoredBookCountChange change = counts.drainChange();
+        // then
+        assertThat(change.getAvailableDelta()).isEqualTo(1);
+        assertThat(change.getLoanedDelta()).isEqualTo(1);
+        assertThat(change.getOnHoldDelta()).isZero();
+        assertThat(counts.drainChange().isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("registerNew: 새 도서의 카운터는 INSERT에 실리므로 상대 갱신할 변화량이 없다")
+    void newBookHasNoPendingChange() {
+        // given
+        Book book = Book.registerNew("클린 코드", "로버트 마틴", 2);
+        // when
+        StoredBookCountChange change = book.drainStoredBookCountChange();
+        // then
+        assertThat(change.isEmpty()).isTrue();
+        assertThat(book.getStoredBookCounts().getAvailableCount()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,227 @@
+package smiinii.object_oriented_library.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import smiinii.object_oriented_library.service.BookService;
+import smiinii.object_oriented_library.service.MemberService;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// ./gradlew loadTest -Dloadtest.clients=64 -Dloadtest.duration-seconds=60 -Dloadtest.mix=loan:40,return:30,reserve:15,books:15
+// 가상 스레드 모드 비교: -Dloadtest.virtual-threads=true
+@Tag("loadtest")
+@ActiveProfiles("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class LibraryLoadTest {
+
+    private static final int BOOKS = Integer.getInteger("loadtest.books", 200);
+    private static final int COPIES_PER_BOOK = Integer.getInteger("loadtest.copies", 3);
+    private static final int MEMBERS = Integer.getInteger("loadtest.members", 500);
+    private static final int CLIENTS = Integer.getInteger("loadtest.clients", 32);
+    private static final int DURATION_SECONDS = Integer.getInteger("loadtest.duration-seconds", 30);
+    private static final String MIX = System.getProperty("loadtest.mix", "loan:40,return:30,reserve:15,books:15");
+    private static final boolean VIRTUAL_THREADS = Boolean.getBoolean("loadtest.virtual-threads");
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final Queue<Long> activeLoanIds = new ConcurrentLinkedQueue<>();
+    private final LoadReport report = new LoadReport();
+
+    private List<Long> bookIds;
+    private List<Long> memberIds;
+
+    @DynamicPropertySource
+    static void threadMode(DynamicPropertyRegistry registry) {
+        registry.add("spring.threads.virtual.enabled", () -> VIRTUAL_THREADS);
+        registry.add("library.connection-budget.enabled", () -> VIRTUAL_THREADS);
+        registry.add("library.virtual-threads.pinning-monitor.enabled", () -> VIRTUAL_THREADS);
+    }
+
+    @Test
+    @DisplayName("대출/반납/예약/조회 혼합 부하에서 처리량, 지연 분포, 충돌/오류율을 보고한다")
+    void runMixedWorkload() throws InterruptedException {
+        seed();
+        OperationMix mix = OperationMix.parse(MIX);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(DURATION_SECONDS);
+
+        long startedAt = System.nanoTime();
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+        for (int i = 0; i < CLIENTS; i++) {
+            clients.submit(() -> {
+                while (System.nanoTime() < deadline) {
+                    execute(mix.next());
+                }
+            });
+        }
+        clients.shutdown();
+        clients.awaitTermination(DURATION_SECONDS + 60L, TimeUnit.SECONDS);
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+
+        System.out.println("thread mode: " + (VIRTUAL_THREADS ? "virtual" : "platform"));
+        System.out.print(report.render(elapsed,
+                sum("library.optimistic.conflicts"), sum("library.optimistic.exhausted")));
+        assertThat(report.total()).isPositive();
+    }
+
+    private void seed() {
+        bookIds = new ArrayList<>(BOOKS);
+        for (int i = 0; i < BOOKS; i++) {
+            bookIds.add(bookService.registerBook("부하 테스트 도서 " + i, "저자 " + i, COPIES_PER_BOOK));
+        }
+        memberIds = new ArrayList<>(MEMBERS);
+        for (int i = 0; i < MEMBERS; i++) {
+            memberIds.add(memberService.register("회원 " + i));
+        }
+    }
+
+    private void execute(String operation) {
+        switch (operation) {
+            case "loan" -> loan();
+            case "return" -> returnBook();
+            case "reserve" -> send("reserve", post("/api/reservations",
+                    "{\"memberId\":" + randomOf(memberIds) + ",\"bookId\":" + randomOf(bookIds) + "}"));
+            case "books" -> send("books", get(ThreadLocalRandom.current().nextBoolean()
+                    ? "/api/books/" + randomOf(bookIds)
+                    : "/api/books?size=20"));
+            default -> throw new IllegalArgumentException("알 수 없는 연산입니다: " + operation);
+        }
+    }
+
+    private void loan() {
+        HttpResponse<String> response = send("loan", post("/api/loans",
+                "{\"memberId\":" + randomOf(memberIds) + ",\"bookId\":" + randomOf(bookIds) + "}"));
+        if (response != null && response.statusCode() == 200) {
+            activeLoanIds.add(loanId(response.body()));
+        }
+    }
+
+    // 반납할 대출이 아직 없으면 대출로 대신해 혼합 비율이 크게 흔들리지 않게 한다.
+    private void returnBook() {
+        Long loanId = activeLoanIds.poll();
+        if (loanId == null) {
+            loan();
+            return;
+        }
+        send("return", post("/api/loans/" + loanId + "/return", ""));
+    }
+
+    private HttpResponse<String> send(String operation, HttpRequest request) {
+        long started = System.nanoTime();
+        try {
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            report.record(operation, response.statusCode(), System.nanoTime() - started);
+            return response;
+        } catch (IOException e) {
+            report.record(operation, -1, System.nanoTime() - started);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private HttpRequest post(String path, String body) {
+        return HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(uri(path)).GET().build();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private Long loanId(String body) {
+        try {
+            JsonNode node = objectMapper.readTree(body);
+            return node.get("loanId").asLong();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("대출 응답을 해석할 수 없습니다: " + body, e);
+        }
+    }
+
+    private double sum(String counterName) {
+        return meterRegistry.find(counterName).counters().stream()
+                .mapToDouble(Counter::count)
+                .sum();
+    }
+
+    private static Long randomOf(List<Long> ids) {
+        return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+    }
+
+    private record OperationMix(List<String> operations, int[] cumulativeWeights) {
+
+        static OperationMix parse(String mix) {
+            List<String> operations = new ArrayList<>();
+            List<Integer> weights = new ArrayList<>();
+            for (String entry : mix.split(",")) {
+                String[] pair = entry.trim().split(":");
+                operations.add(pair[0]);
+                weights.add(Integer.parseInt(pair[1]));
+            }
+            int[] cumulative = new int[weights.size()];
+            int sum = 0;
+            for (int i = 0; i < weights.size(); i++) {
+                sum += weights.get(i);
+                cumulative[i] = sum;
+            }
+            return new OperationMix(operations, cumulative);
+        }
+
+        String next() {
+            int pick = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+            for (int i = 0; i < cumulativeWeights.length; i++) {
+                if (pick < cumulativeWeights[i]) {
+                    return operations.get(i);
+                }
+            }
+            return operations.getLast();
+        }
+    }
+}
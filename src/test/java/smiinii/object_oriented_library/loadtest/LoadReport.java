@@ -0,0 +1,88 @@
+package smiinii.object_oriented_library.loadtest;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.CountAtBucket;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// 연산별 지연 분포와 응답 상태를 모아 처리량/지연/오류율 보고서를 만든다.
+class LoadReport {
+
+    private static final Duration[] BUCKETS = {
+            Duration.ofMillis(1), Duration.ofMillis(5), Duration.ofMillis(10), Duration.ofMillis(25),
+            Duration.ofMillis(50), Duration.ofMillis(100), Duration.ofMillis(250), Duration.ofMillis(500),
+            Duration.ofSeconds(1)
+    };
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final Map<String, Map<String, LongAdder>> statusCounts = new ConcurrentHashMap<>();
+
+    void record(String operation, int status, long elapsedNanos) {
+        timer(operation).record(elapsedNanos, TimeUnit.NANOSECONDS);
+        statusCounts.computeIfAbsent(operation, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(statusClass(status), key -> new LongAdder())
+                .increment();
+    }
+
+    long total() {
+        return statusCounts.values().stream()
+                .flatMap(counts -> counts.values().stream())
+                .mapToLong(LongAdder::sum)
+                .sum();
+    }
+
+    String render(Duration elapsed, double conflicts, double exhaustedRetries) {
+        StringBuilder report = new StringBuilder();
+        double seconds = elapsed.toMillis() / 1000.0;
+        report.append(String.format("== load test: %.1fs, %d requests, %.1f req/s, conflicts=%.0f, exhausted retries=%.0f%n",
+                seconds, total(), total() / seconds, conflicts, exhaustedRetries));
+        statusCounts.keySet().stream().sorted().forEach(operation -> {
+            HistogramSnapshot snapshot = timer(operation).takeSnapshot();
+            Map<String, LongAdder> counts = statusCounts.get(operation);
+            long calls = snapshot.count();
+            long failures = calls - count(counts, "2xx");
+            report.append(String.format("%-8s n=%d  %.1f req/s  error=%.2f%%  4xx=%d 5xx=%d  mean=%.2fms max=%.2fms%n",
+                    operation, calls, calls / seconds, calls == 0 ? 0.0 : failures * 100.0 / calls,
+                    count(counts, "4xx"), count(counts, "5xx"),
+                    snapshot.mean(TimeUnit.MILLISECONDS), snapshot.max(TimeUnit.MILLISECONDS)));
+            report.append("         ");
+            for (ValueAtPercentile percentile : snapshot.percentileValues()) {
+                report.append(String.format("p%.0f=%.2fms  ", percentile.percentile() * 100,
+                        percentile.value(TimeUnit.MILLISECONDS)));
+            }
+            report.append(System.lineSeparator()).append("         ");
+            for (CountAtBucket bucket : snapshot.histogramCounts()) {
+                report.append(String.format("<=%.0fms:%.0f  ", bucket.bucket(TimeUnit.MILLISECONDS), bucket.count()));
+            }
+            report.append(System.lineSeparator());
+        });
+        return report.toString();
+    }
+
+    private Timer timer(String operation) {
+        return Timer.builder("loadtest.latency")
+                .tag("operation", operation)
+                .publishPercentiles(0.5, 0.9, 0.95, 0.99)
+                .serviceLevelObjectives(BUCKETS)
+                .register(registry);
+    }
+
+    private static long count(Map<String, LongAdder> counts, String statusClass) {
+        LongAdder adder = counts.get(statusClass);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    private static String statusClass(int status) {
+        if (status < 0) {
+            return "io";
+        }
+        return (status / 100) + "xx";
+    }
+}
@@ -0,0 +1,114 @@
+package smiinii.object_oriented_library.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import smiinii.object_oriented_library.domain.OverdueNotice;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 반납과 연체 탐지가 엇갈려도 반납된 대출의 알림이 열린 채 남지 않는지 조건부 문장을 H2(MySQL 모드)에서 확인한다.
+class OverdueNoticeJdbcRepositoryTest {
+
+    private final LocalDateTime now = LocalDateTime.of(2025, 11, 18, 10, 0);
+
+    private JdbcTemplate jdbcTemplate;
+    private OverdueNoticeJdbcRepository overdueNoticeJdbcRepository;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:overdue-notice;MODE=MySQL;DATABASE_TO_LOWER=TRUE", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+        jdbcTemplate.execute("CREATE TABLE loan (id BIGINT PRIMARY KEY, returned_at TIMESTAMP)");
+        jdbcTemplate.execute("""
+                CREATE TABLE overdue_notice (
+                    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                    loan_id BIGINT NOT NULL UNIQUE,
+                    member_id BIGINT NOT NULL,
+                    due_date TIMESTAMP,
+                    overdue_days BIGINT NOT NULL,
+                    penalty_preview_ends_at TIMESTAMP,
+                    first_noticed_at TIMESTAMP,
+                    last_noticed_at TIMESTAMP,
+                    resolved_at TIMESTAMP
+                )
+                """);
+        jdbcTemplate.update("INSERT INTO loan (id) VALUES (1)");
+        overdueNoticeJdbcRepository = new OverdueNoticeJdbcRepository(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("insertOpen: 탐지가 읽은 뒤 반납된 대출에는 알림을 넣지 않는다")
+    void skipsLoanReturnedAfterDetection() {
+        // given
+        OverdueNotice notice = OverdueNotice.open(1L, 7L, now.minusDays(3), now);
+        returnLoan(1L, now.plusMinutes(1));
+        // when
+        List<OverdueNotice> inserted = overdueNoticeJdbcRepository.insertOpen(List.of(notice));
+        // then
+        assertThat(inserted).isEmpty();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM overdue_notice", Long.class)).isZero();
+    }
+
+    @Test
+    @DisplayName("insertOpen: 반납되지 않은 대출에는 알림을 넣는다")
+    void insertsNoticeForActiveLoan() {
+        // given
+        OverdueNotice notice = OverdueNotice.open(1L, 7L, now.minusDays(3), now);
+        // when
+        List<OverdueNotice> inserted = overdueNoticeJdbcRepository.insertOpen(List.of(notice));
+        // then
+        assertThat(inserted).containsExactly(notice);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT overdue_days FROM overdue_notice WHERE loan_id = 1", Long.class)).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("refreshOpen: 탐지가 읽은 뒤 반납으로 닫힌 알림은 다시 열지 않는다")
+    void keepsNoticeResolvedAfterDetection() {
+        // given
+        OverdueNotice notice = OverdueNotice.open(1L, 7L, now.minusDays(3), now.minusDays(1));
+        overdueNoticeJdbcRepository.insertOpen(List.of(notice));
+        returnLoan(1L, now.minusMinutes(1));
+        notice.refresh(notice.getDueDate(), now);
+        // when
+        int refreshed = overdueNoticeJdbcRepository.refreshOpen(List.of(notice));
+        // then
+        assertThat(refreshed).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT resolved_at FROM overdue_notice WHERE loan_id = 1", Timestamp.class))
+                .isEqualTo(Timestamp.valueOf(now.minusMinutes(1)));
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT overdue_days FROM overdue_notice WHERE loan_id = 1", Long.class)).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("refreshOpen: 열린 알림은 연체 일수와 미리보기만 갱신한다")
+    void refreshesOpenNotice() {
+        // given
+        OverdueNotice notice = OverdueNotice.open(1L, 7L, now.minusDays(3), now.minusDays(1));
+        overdueNoticeJdbcRepository.insertOpen(List.of(notice));
+        notice.refresh(notice.getDueDate(), now);
+        // when
+        int refreshed = overdueNoticeJdbcRepository.refreshOpen(List.of(notice));
+        // then
+        assertThat(refreshed).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT overdue_days FROM overdue_notice WHERE loan_id = 1", Long.class)).isEqualTo(3L);
+    }
+
+    // LoanService.returnBook이 남기는 두 쓰기: 대출의 returned_at과 OverdueNoticeRepository.resolve
+    private void returnLoan(Long loanId, LocalDateTime returnedAt) {
+        jdbcTemplate.update("UPDATE loan SET returned_at = ? WHERE id = ?", Timestamp.valueOf(returnedAt), loanId);
+        jdbcTemplate.update("UPDATE overdue_notice SET resolved_at = ? WHERE loan_id = ? AND resolved_at IS NULL",
+                Timestamp.valueOf(returnedAt), loanId);
+    }
+}
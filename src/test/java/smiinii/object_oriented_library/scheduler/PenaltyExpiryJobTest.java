@@ -0,0 +1,162 @@
+package smiinii.object_oriented_library.scheduler;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import smiinii.object_oriented_library.repository.PenaltyDeadline;
+import smiinii.object_oriented_library.service.PenaltyReleaseService;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PenaltyExpiryJobTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    @Mock
+    private PenaltyReleaseService penaltyReleaseService;
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2025-11-18T01:00:00Z"));
+    private SimpleMeterRegistry meterRegistry;
+    private PenaltyExpiryJob penaltyExpiryJob;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        penaltyExpiryJob = new PenaltyExpiryJob(penaltyReleaseService, meterRegistry, clock, 500, 20, 1000);
+    }
+
+    @Test
+    @DisplayName("sweep: 만료된 패널티를 batchSize씩 해제하고, 덜 찬 배치에서 멈춘다")
+    void sweepsUntilPartialBatch() {
+        // given
+        when(penaltyReleaseService.releaseExpired(500)).thenReturn(500, 120);
+        when(penaltyReleaseService.findEndingWithin(any(Duration.class))).thenReturn(List.of());
+        // when
+        penaltyExpiryJob.sweep();
+        // then
+        verify(penaltyReleaseService, times(2)).releaseExpired(500);
+        assertThat(meterRegistry.get("library.penalty.released").tag("source", "sweep").counter().count())
+                .isEqualTo(620.0);
+    }
+
+    @Test
+    @DisplayName("tick: 휠에 올린 패널티는 종료 시각이 지난 틱에서 해제한다")
+    void releasesScheduledPenaltyAtDeadline() {
+        // given
+        when(penaltyReleaseService.releaseExpired(500)).thenReturn(0);
+        when(penaltyReleaseService.findEndingWithin(any(Duration.class)))
+                .thenReturn(List.of(new TestPenaltyDeadline(7L, clock.localNow().plusSeconds(5))));
+        penaltyExpiryJob.sweep();
+        // when
+        clock.advance(Duration.ofSeconds(3));
+        penaltyExpiryJob.tick();
+        clock.advance(Duration.ofSeconds(3));
+        when(penaltyReleaseService.releaseExpired(List.of(7L))).thenReturn(1);
+        penaltyExpiryJob.tick();
+        // then
+        verify(penaltyReleaseService, times(1)).releaseExpired(anyList());
+        assertThat(wheelSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("sweep: 같은 회원의 종료 시각이 바뀌었으면 이전 예약을 취소하고 새 시각으로 다시 올린다")
+    void reschedulesChangedDeadline() {
+        // given
+        LocalDateTime start = clock.localNow();
+        when(penaltyReleaseService.releaseExpired(500)).thenReturn(0);
+        when(penaltyReleaseService.findEndingWithin(any(Duration.class)))
+                .thenReturn(List.of(new TestPenaltyDeadline(7L, start.plusSeconds(5))))
+                .thenReturn(List.of(new TestPenaltyDeadline(7L, start.plusSeconds(30))));
+        penaltyExpiryJob.sweep();
+        // when
+        penaltyExpiryJob.sweep();
+        clock.advance(Duration.ofSeconds(10));
+        penaltyExpiryJob.tick();
+        // then
+        verify(penaltyReleaseService, never()).releaseExpired(anyList());
+        assertThat(wheelSize()).isEqualTo(1);
+
+        clock.advance(Duration.ofSeconds(25));
+        penaltyExpiryJob.tick();
+        verify(penaltyReleaseService, times(1)).releaseExpired(List.of(7L));
+    }
+
+    @Test
+    @DisplayName("sweep: 같은 종료 시각을 다시 읽으면 휠에 중복으로 올리지 않는다")
+    void doesNotScheduleTwice() {
+        // given
+        LocalDateTime endsAt = clock.localNow().plusSeconds(5);
+        when(penaltyReleaseService.releaseExpired(500)).thenReturn(0);
+        when(penaltyReleaseService.findEndingWithin(any(Duration.class)))
+                .thenReturn(List.of(new TestPenaltyDeadline(7L, endsAt)));
+        // when
+        penaltyExpiryJob.sweep();
+        penaltyExpiryJob.sweep();
+        // then
+        assertThat(wheelSize()).isEqualTo(1);
+    }
+
+    private double wheelSize() {
+        return meterRegistry.get("library.penalty.wheel.size").gauge().value();
+    }
+
+    private record TestPenaltyDeadline(Long memberId, LocalDateTime endsAt) implements PenaltyDeadline {
+
+        @Override
+        public Long getMemberId() {
+            return memberId;
+        }
+
+        @Override
+        public LocalDateTime getEndsAt() {
+            return endsAt;
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        LocalDateTime localNow() {
+            return LocalDateTime.ofInstant(instant, ZONE);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZONE;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package smiinii.object_oriented_library.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import smiinii.object_oriented_library.domain.Book;
+import smiinii.object_oriented_library.domain.storedbook.StoredBookStatus;
+import smiinii.object_oriented_library.repository.BookJdbcRepository;
+import smiinii.object_oriented_library.repository.BookRepository;
+import smiinii.object_oriented_library.repository.StoredBookRepository;
+import smiinii.object_oriented_library.repository.StoredBookStatusCount;
+
+import java.lang.reflect.Field;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BookCountRepairServiceTest {
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @Mock
+    private StoredBookRepository storedBookRepository;
+
+    @Mock
+    private BookJdbcRepository bookJdbcRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private BookCountRepairService bookCountRepairService;
+
+    @BeforeEach
+    void setUp() {
+        bookCountRepairService = new BookCountRepairService(bookRepository, storedBookRepository,
+                new BookCountWriter(bookJdbcRepository, eventPublisher));
+    }
+
+    @Test
+    @DisplayName("repairChunk: stored_book 집계와 다른 카운터만 보정하고 불일치 건수를 반환한다")
+    void repairsOnlyDriftedBooks() throws Exception {
+        // given
+        Book consistent = bookWithId(1L, 2);
+        Book drifted = bookWithId(2L, 1);
+        when(bookRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any()))
+                .thenReturn(List.of(consistent, drifted));
+        when(storedBookRepository.countByStatusForBooks(List.of(1L, 2L))).thenReturn(List.of(
+                row(1L, StoredBookStatus.AVAILABLE, 2),
+                row(2L, StoredBookStatus.LOANED, 1)
+        ));
+        when(bookJdbcRepository.resetCounts(2L, 1, 0, 0, 0, 1, 0)).thenReturn(true);
+        // when
+        BookCountRepairResult result = bookCountRepairService.repairChunk(0L, 100);
+        // then
+        assertThat(result.getChecked()).isEqualTo(2);
+        assertThat(result.getDrifted()).isEqualTo(1);
+        assertThat(result.getLastBookId()).isEqualTo(2L);
+        assertThat(drifted.getStoredBookCounts().getAvailableCount()).isZero();
+        assertThat(drifted.getStoredBookCounts().getLoanedCount()).isEqualTo(1);
+        verify(bookJdbcRepository, never()).resetCounts(eq(1L), anyInt(), anyInt(), anyInt(), anyInt(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("repairChunk: 읽은 뒤 다른 트랜잭션이 카운터를 바꿨다면 덮어쓰지 않고 다음 주기로 미룬다")
+    void skipsBookChangedSinceRead() throws Exception {
+        // given
+        Book book = bookWithId(1L, 1);
+        when(bookRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any())).thenReturn(List.of(book));
+        when(storedBookRepository.countByStatusForBooks(List.of(1L))).thenReturn(List.of(
+                row(1L, StoredBookStatus.LOANED, 1)
+        ));
+        when(bookJdbcRepository.resetCounts(1L, 1, 0, 0, 0, 1, 0)).thenReturn(false);
+        // when
+        BookCountRepairResult result = bookCountRepairService.repairChunk(0L, 100);
+        // then
+        assertThat(result.getChecked()).isEqualTo(1);
+        assertThat(result.getDrifted()).isZero();
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("repairChunk: 더 이상 도서가 없으면 빈 결과를 반환한다")
+    void returnsEmptyResultWhenNoBooks() {
+        // given
+        when(bookRepository.findByIdGreaterThanOrderByIdAsc(eq(10L), any())).thenReturn(List.of());
+        // when
+        BookCountRepairResult result = bookCountRepairService.repairChunk(10L, 100);
+        // then
+        assertThat(result.getLastBookId()).isNull();
+        assertThat(result.getChecked()).isZero();
+        verifyNoInteractions(storedBookRepository);
+    }
+
+    private Book bookWithId(long id, int copies) throws Exception {
+        Book book = Book.registerNew("클린 코드", "로버트 마틴", copies);
+        Field idField = Book.class.getDeclaredField("id");
+        idField.setAccessible(true);
+        idField.set(book, id);
+        return book;
+    }
+
+    private StoredBookStatusCount row(Long bookId, StoredBookStatus status, long total) {
+        return new StoredBookStatusCount() {
+            @Override
+            public Long getBookId() {
+                return bookId;
+            }
+
+            @Override
+            public StoredBookStatus getStatus() {
+                return status;
+            }
+
+            @Override
+            public long getTotal() {
+                return total;
+            }
+        };
+    }
+}
@@ -0,0 +1,83 @@
+package smiinii.object_oriented_library.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import smiinii.object_oriented_library.domain.Book;
+import smiinii.object_oriented_library.domain.storedbook.StoredBook;
+import smiinii.object_oriented_library.domain.storedbook.StoredBookCountChange;
+import smiinii.object_oriented_library.repository.BookJdbcRepository;
+import smiinii.object_oriented_library.support.cache.BookChangedEvent;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BookCountWriterTest {
+
+    @Mock
+    private BookJdbcRepository bookJdbcRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private BookCountWriter bookCountWriter;
+
+    @BeforeEach
+    void setUp() {
+        bookCountWriter = new BookCountWriter(bookJdbcRepository, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("flush: 바뀐 도서의 변화량만 한 번씩 상대 갱신하고 변경 이벤트를 발행한다")
+    void appliesChangedBooksOnce() throws Exception {
+        // given
+        Book changed = bookWithId(1L, 2);
+        Book untouched = bookWithId(2L, 1);
+        StoredBook copy = changed.getStoredBooks().getStoredBooks().get(0);
+        copy.loan();
+        // when
+        bookCountWriter.flush(List.of(changed, untouched, changed));
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<Long, StoredBookCountChange>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(bookJdbcRepository).applyCountChanges(captor.capture());
+        Map<Long, StoredBookCountChange> changes = captor.getValue();
+        assertThat(changes).containsOnlyKeys(1L);
+        assertThat(changes.get(1L).getAvailableDelta()).isEqualTo(-1);
+        assertThat(changes.get(1L).getLoanedDelta()).isEqualTo(1);
+        verify(eventPublisher, times(1)).publishEvent(any(BookChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("flush: 이미 반영한 변화량은 다시 반영하지 않는다")
+    void doesNotApplyTwice() throws Exception {
+        // given
+        Book book = bookWithId(1L, 1);
+        book.getStoredBooks().getStoredBooks().get(0).loan();
+        bookCountWriter.flush(List.of(book));
+        // when
+        bookCountWriter.flush(List.of(book));
+        // then
+        verify(bookJdbcRepository).applyCountChanges(Map.of());
+        verify(eventPublisher, times(1)).publishEvent(any(BookChangedEvent.class));
+    }
+
+    private Book bookWithId(long id, int copies) throws Exception {
+        Book book = Book.registerNew("클린 코드", "로버트 마틴", copies);
+        Field idField = Book.class.getDeclaredField("id");
+        idField.setAccessible(true);
+        idField.set(book, id);
+        return book;
+    }
+}
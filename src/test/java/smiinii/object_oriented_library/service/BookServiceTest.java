@@ -7,9 +7,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
 import smiinii.object_oriented_library.domain.Book;
+import smiinii.object_oriented_library.dto.book.BookPageResponse;
 import smiinii.object_oriented_library.dto.book.BookResponse;
 import smiinii.object_oriented_library.repository.BookRepository;
+import smiinii.object_oriented_library.repository.StoredBookJdbcRepository;
+import smiinii.object_oriented_library.support.search.BookDocument;
+import smiinii.object_oriented_library.support.search.BookRegisteredEvent;
 
 import java.lang.reflect.Field;
 import java.util.List;
@@ -17,7 +23,9 @@ import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,11 +34,20 @@ class BookServiceTest {
     @Mock
     private BookRepository bookRepository;
 
+    @Mock
+    private StoredBookJdbcRepository storedBookJdbcRepository;
+
+    @Mock
+    private BookCountWriter bookCountWriter;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private BookService bookService;
 
     @BeforeEach
     void setUp() {
-        bookService = new BookService(bookRepository);
+        bookService = new BookService(bookRepository, storedBookJdbcRepository, bookCountWriter, eventPublisher);
     }
 
     @Test
@@ -63,7 +80,22 @@ class BookServiceTest {
     }
 
     @Test
-    @DisplayName("addStoredBooks: 기존 도서에 소장본을 추가하면 개수가 증가한다")
+    @DisplayName("registerBook: 등록한 도서를 검색 색인에 반영하도록 이벤트를 발행한다")
+    void publishesRegisteredEvent() {
+        // given
+        when(bookRepository.save(any(Book.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        // when
+        bookService.registerBook("클린 코드", "로버트 마틴", 1);
+        // then
+        ArgumentCaptor<BookRegisteredEvent> captor = ArgumentCaptor.forClass(BookRegisteredEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertThat(captor.getValue().getBooks())
+                .extracting(BookDocument::getTitle, BookDocument::getAuthor)
+                .containsExactly(tuple("클린 코드", "로버트 마틴"));
+    }
+
+    @Test
+    @DisplayName("addStoredBooks: 기존 도서에 소장본을 일괄 삽입하고 카운터를 증가시킨다")
     void increasesCopyCount() {
         // given
         Book book = Book.registerNew("클린 코드", "로버트 마틴", 1);
@@ -73,11 +105,27 @@ class BookServiceTest {
         // when
         bookService.addStoredBooks(bookId, 2);
         // then
-        assertThat(book.getStoredBooks().size()).isEqualTo(3);
+        assertThat(book.getStoredBookCounts().total()).isEqualTo(3);
+        assertThat(book.getStoredBookCounts().getAvailableCount()).isEqualTo(3);
+        verify(storedBookJdbcRepository, times(1)).insertAvailable(book.getId(), 2);
+        verify(bookCountWriter, times(1)).flush(List.of(book));
         verify(bookRepository, times(1)).findById(bookId);
         verify(bookRepository, never()).save(any());
     }
 
+    @Test
+    @DisplayName("addStoredBooks: 추가할 소장본 수가 0 이하면 예외를 던지고 삽입하지 않는다")
+    void throwsWhenCountNonPositive() {
+        // given
+        Book book = Book.registerNew("클린 코드", "로버트 마틴", 1);
+        when(bookRepository.findById(1L)).thenReturn(Optional.of(book));
+        // when & then
+        assertThatThrownBy(() -> bookService.addStoredBooks(1L, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("추가할 소장본 수는 1개 이상이어야 합니다.");
+        verifyNoInteractions(storedBookJdbcRepository);
+    }
+
     @Test
     @DisplayName("addStoredBooks: 존재하지 않는 도서 ID이면 예외를 던진다")
     void whenBookNotFoundThrowsException() {
@@ -120,23 +168,48 @@ class BookServiceTest {
     }
 
     @Test
-    @DisplayName("getBooks: 전체 도서 목록을 조회할 수 있다")
-    void returnsAllBooks() {
+    @DisplayName("getBooks: 커서 이후의 도서를 size만큼 조회하고 다음 커서를 돌려준다")
+    void returnsPageWithNextCursor() {
         // given
-        Book book1 = Book.registerNew("클린 코드", "로버트 마틴", 1);
-        Book book2 = Book.registerNew("리팩터링", "마틴 파울러", 2);
-        when(bookRepository.findAll()).thenReturn(List.of(book1, book2));
+        when(bookRepository.findPageAfter(eq(0L), any(Pageable.class))).thenReturn(List.of(
+                new BookResponse(1L, "클린 코드", "로버트 마틴", 1, 1),
+                new BookResponse(2L, "리팩터링", "마틴 파울러", 2, 1),
+                new BookResponse(3L, "오브젝트", "조영호", 1, 1)
+        ));
         // when
-        List<BookResponse> result = bookService.getBooks();
+        BookPageResponse result = bookService.getBooks(null, 2);
         // then
-        assertThat(result).hasSize(2);
-        assertThat(result)
+        assertThat(result.getBooks())
                 .extracting(BookResponse::getTitle)
                 .containsExactly("클린 코드", "리팩터링");
-        assertThat(result)
-                .extracting(BookResponse::getAuthor)
-                .containsExactly("로버트 마틴", "마틴 파울러");
+        assertThat(result.getNextCursor()).isEqualTo(2L);
+
+        ArgumentCaptor<Pageable> captor = ArgumentCaptor.forClass(Pageable.class);
+        verify(bookRepository).findPageAfter(eq(0L), captor.capture());
+        assertThat(captor.getValue().getPageSize()).isEqualTo(3);
+    }
 
-        verify(bookRepository, times(1)).findAll();
+    @Test
+    @DisplayName("getBooks: 마지막 페이지면 다음 커서가 없다")
+    void returnsLastPageWithoutCursor() {
+        // given
+        when(bookRepository.findPageAfter(eq(2L), any(Pageable.class))).thenReturn(List.of(
+                new BookResponse(3L, "오브젝트", "조영호", 1, 1)
+        ));
+        // when
+        BookPageResponse result = bookService.getBooks(2L, 2);
+        // then
+        assertThat(result.getBooks()).hasSize(1);
+        assertThat(result.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("getBooks: 페이지 크기가 허용 범위를 벗어나면 예외를 던진다")
+    void throwsWhenPageSizeOutOfRange() {
+        assertThatThrownBy(() -> bookService.getBooks(null, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> bookService.getBooks(null, 101))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(bookRepository);
     }
 }
@@ -0,0 +1,125 @@
+package smiinii.object_oriented_library.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogImportServiceTest {
+
+    @Mock
+    private CatalogBatchService catalogBatchService;
+
+    private CatalogImportService catalogImportService;
+
+    @BeforeEach
+    void setUp() {
+        catalogImportService = new CatalogImportService(catalogBatchService, new SimpleMeterRegistry(), 2, 100, 10, 1000);
+    }
+
+    @Test
+    @DisplayName("importCatalog: CSV를 batchSize 단위로 나눠 등록하고 헤더는 건너뛴다")
+    void importsCsvInBatches() {
+        // given
+        List<List<String>> batches = new ArrayList<>();
+        when(catalogBatchService.importBatch(anyList())).thenAnswer(invocation -> {
+            List<CatalogRecord> records = invocation.getArgument(0);
+            batches.add(records.stream().map(CatalogRecord::getTitle).toList());
+            return List.of();
+        });
+        String csv = """
+                title,author,copies
+                클린 코드,로버트 마틴,2
+                "리팩터링, 2판",마틴 파울러,1
+                오브젝트,조영호,3
+                """;
+        // when
+        CatalogImportReport report = catalogImportService.importCatalog(stream(csv), CatalogFormat.CSV);
+        // then
+        assertThat(batches).containsExactly(
+                List.of("클린 코드", "리팩터링, 2판"),
+                List.of("오브젝트")
+        );
+        assertThat(report.getImportedBooks()).isEqualTo(3);
+        assertThat(report.getImportedCopies()).isEqualTo(6);
+        assertThat(report.getRejected()).isZero();
+    }
+
+    @Test
+    @DisplayName("importCatalog: 도서 등록 규칙을 어긴 행은 줄 번호와 사유를 남기고 건너뛴다")
+    void rejectsInvalidRows() {
+        // given
+        String ndjson = """
+                {"title": "클린 코드", "author": "로버트 마틴", "copies": 1}
+                {"title": "", "author": "마틴 파울러", "copies": 1}
+                {"title": "오브젝트", "author": "조영호", "copies": 0}
+                {"title": "객체지향의 사실과 오해", "author": "조영호", "copies": "세 권"}
+                not json
+                """;
+        // when
+        CatalogImportReport report = catalogImportService.importCatalog(stream(ndjson), CatalogFormat.NDJSON);
+        // then
+        assertThat(report.getImportedBooks()).isEqualTo(1);
+        assertThat(report.getRejected()).isEqualTo(4);
+        assertThat(report.getRejectedRows())
+                .extracting(CatalogImportReport.RejectedRow::getLineNumber, CatalogImportReport.RejectedRow::getReason)
+                .containsExactly(
+                        tuple(2L, "제목이 필요합니다."),
+                        tuple(3L, "초기 소장본 수는 1개 이상이어야 합니다."),
+                        tuple(4L, "소장본 수가 숫자가 아닙니다."),
+                        tuple(5L, "JSON 형식이 올바르지 않습니다.")
+                );
+        verify(catalogBatchService, times(1)).importBatch(anyList());
+    }
+
+    @Test
+    @DisplayName("importCatalog: 필드 수가 맞지 않는 CSV 행은 거절한다")
+    void rejectsCsvWithWrongFieldCount() {
+        // given
+        String csv = """
+                클린 코드,로버트 마틴
+                오브젝트,조영호,1
+                """;
+        // when
+        CatalogImportReport report = catalogImportService.importCatalog(stream(csv), CatalogFormat.CSV);
+        // then
+        verify(catalogBatchService, times(1)).importBatch(anyList());
+        assertThat(report.getRejected()).isEqualTo(1);
+        assertThat(report.getRejectedRows().get(0).getLineNumber()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("importCatalog: 소장본 수가 행당 상한을 넘는 행은 거절한다")
+    void rejectsTooManyCopies() {
+        // given
+        String csv = """
+                클린 코드,로버트 마틴,101
+                오브젝트,조영호,100
+                """;
+        // when
+        CatalogImportReport report = catalogImportService.importCatalog(stream(csv), CatalogFormat.CSV);
+        // then
+        verify(catalogBatchService, times(1)).importBatch(anyList());
+        assertThat(report.getImportedCopies()).isEqualTo(100);
+        assertThat(report.getRejectedRows().get(0).getReason()).isEqualTo("소장본 수는 100개 이하여야 합니다.");
+    }
+
+    private InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
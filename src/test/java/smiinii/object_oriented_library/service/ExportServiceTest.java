@@ -0,0 +1,83 @@
+package smiinii.object_oriented_library.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import smiinii.object_oriented_library.dto.book.BookResponse;
+import smiinii.object_oriented_library.dto.loan.LoanExportRow;
+import smiinii.object_oriented_library.repository.ExportJdbcRepository;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ExportServiceTest {
+
+    @Mock
+    private ExportJdbcRepository exportJdbcRepository;
+
+    private ExportService exportService;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        exportService = new ExportService(exportJdbcRepository, objectMapper, 2);
+    }
+
+    @Test
+    @DisplayName("exportBooks: 마지막 id 이후로 청크를 이어 읽고 CSV로 쓴다")
+    void exportsBooksAsCsvByChunks() throws IOException {
+        // given
+        when(exportJdbcRepository.findBooksAfter(0L, 2)).thenReturn(List.of(
+                new BookResponse(1L, "클린 코드", "로버트 마틴", 3, 1),
+                new BookResponse(2L, "리팩터링, 2판", "마틴 파울러", 1, 1)
+        ));
+        when(exportJdbcRepository.findBooksAfter(2L, 2)).thenReturn(List.of(
+                new BookResponse(5L, "오브젝트", "조영호", 2, 0)
+        ));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        // when
+        long exported = exportService.exportBooks(out, ExportFormat.CSV);
+        // then
+        assertThat(exported).isEqualTo(3);
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("""
+                id,title,author,copyCount,availableCount
+                1,클린 코드,로버트 마틴,3,1
+                2,"리팩터링, 2판",마틴 파울러,1,1
+                5,오브젝트,조영호,2,0
+                """);
+        verify(exportJdbcRepository, never()).findBooksAfter(5L, 2);
+    }
+
+    @Test
+    @DisplayName("exportLoans: NDJSON은 한 줄에 대출 한 건을 쓰고 반납 전이면 returnedAt이 null이다")
+    void exportsLoansAsNdjson() throws IOException {
+        // given
+        LocalDateTime loanedAt = LocalDateTime.of(2025, 11, 1, 10, 0);
+        when(exportJdbcRepository.findLoansAfter(0L, 2)).thenReturn(List.of(
+                new LoanExportRow(7L, 1L, 3L, 11L, loanedAt, loanedAt.plusDays(14), null)
+        ));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        // when
+        long exported = exportService.exportLoans(out, ExportFormat.NDJSON);
+        // then
+        assertThat(exported).isEqualTo(1);
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "{\"id\":7,\"memberId\":1,\"bookId\":3,\"storedBookId\":11,"
+                        + "\"loanedAt\":\"2025-11-01T10:00:00\",\"dueDate\":\"2025-11-15T10:00:00\",\"returnedAt\":null}\n");
+    }
+}
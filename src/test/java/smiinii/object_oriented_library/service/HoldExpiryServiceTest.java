@@ -0,0 +1,135 @@
+package smiinii.object_oriented_library.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import smiinii.object_oriented_library.domain.Book;
+import smiinii.object_oriented_library.domain.reservation.Reservation;
+import smiinii.object_oriented_library.domain.reservation.ReservationStatus;
+import smiinii.object_oriented_library.domain.reservation_policy.ReservationPolicy;
+import smiinii.object_oriented_library.domain.storedbook.StoredBook;
+import smiinii.object_oriented_library.domain.storedbook.StoredBookStatus;
+import smiinii.object_oriented_library.repository.ReservationRepository;
+import smiinii.object_oriented_library.repository.StoredBookRepository;
+import smiinii.object_oriented_library.support.outbox.OutboxAppender;
+
+import java.time.*;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class HoldExpiryServiceTest {
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private StoredBookRepository storedBookRepository;
+
+    @Mock
+    private ReservationPolicy reservationPolicy;
+
+    @Mock
+    private OutboxAppender outboxAppender;
+
+    @Mock
+    private BookCountWriter bookCountWriter;
+
+    private final LocalDateTime now = LocalDateTime.of(2025, 11, 18, 10, 0);
+    private final Clock clock = Clock.fixed(now.toInstant(ZoneOffset.UTC), ZoneId.of("UTC"));
+
+    private HoldExpiryService holdExpiryService;
+
+    @BeforeEach
+    void setUp() {
+        holdExpiryService = new HoldExpiryService(
+                reservationRepository, storedBookRepository, reservationPolicy, outboxAppender, bookCountWriter, clock);
+    }
+
+    @Test
+    @DisplayName("expireHolds: 다음 대기자가 있으면 만료된 소장본의 보류를 다음 대기자에게 넘긴다")
+    void passesHoldToNextQueued() {
+        // given
+        Book book = Book.registerNew("클린 코드", "로버트 마틴", 1);
+        book.getStoredBooks().getStoredBooks().getFirst().loan();
+        book.tryReserve(1L, 3, clock);
+        book.tryReserve(2L, 3, clock);
+        Reservation expired = book.getReservations().get(0);
+        expired.prepareHold(10L, now.minusHours(1));
+        Reservation next = book.getReservations().get(1);
+
+        when(reservationRepository.findAllById(List.of(1L))).thenReturn(List.of(expired));
+        when(reservationPolicy.holdDuration()).thenReturn(Duration.ofDays(3));
+        // when
+        int processed = holdExpiryService.expireHolds(List.of(1L));
+        // then
+        assertThat(processed).isEqualTo(1);
+        assertThat(expired.getReservationStatus()).isEqualTo(ReservationStatus.EXPIRED);
+        assertThat(next.getReservationStatus()).isEqualTo(ReservationStatus.HOLD_READY);
+        assertThat(next.getHoldStoredBookId()).isEqualTo(10L);
+        assertThat(next.getHoldUntil()).isEqualTo(now.plusDays(3));
+        verify(storedBookRepository).findAllById(List.of());
+    }
+
+    @Test
+    @DisplayName("expireHolds: 다음 대기자가 없으면 소장본을 AVAILABLE로 되돌린다")
+    void restoresCopyWhenNoQueued() {
+        // given
+        Book book = Book.registerNew("클린 코드", "로버트 마틴", 1);
+        StoredBook storedBook = StoredBook.createOnHold(book);
+        Reservation expired = Reservation.create(book, 1L, now.minusDays(5));
+        expired.prepareHold(10L, now.minusHours(1));
+
+        when(reservationRepository.findAllById(List.of(1L))).thenReturn(List.of(expired));
+        when(storedBookRepository.findAllById(List.of(10L))).thenReturn(List.of(storedBook));
+        // when
+        int processed = holdExpiryService.expireHolds(List.of(1L));
+        // then
+        assertThat(processed).isEqualTo(1);
+        assertThat(expired.getReservationStatus()).isEqualTo(ReservationStatus.EXPIRED);
+        assertThat(storedBook.getStatus()).isEqualTo(StoredBookStatus.AVAILABLE);
+    }
+
+    @Test
+    @DisplayName("findOverdueHoldIds: 마감이 지난 보류 예약의 id만 마감 순서로 읽는다")
+    void findsOverdueHoldIds() {
+        // given
+        when(reservationRepository.findIdsByStatusAndHoldUntilBefore(
+                eq(ReservationStatus.HOLD_READY), eq(now), any()))
+                .thenReturn(List.of(3L, 1L));
+        // when
+        List<Long> overdueHoldIds = holdExpiryService.findOverdueHoldIds(100);
+        // then
+        assertThat(overdueHoldIds).containsExactly(3L, 1L);
+        verifyNoInteractions(outboxAppender, storedBookRepository);
+    }
+
+    @Test
+    @DisplayName("expireHolds: 휠이 알린 예약 중 마감이 지난 보류만 만료시킨다")
+    void expiresOnlyDueHoldsFromWheel() {
+        // given
+        Book book = Book.registerNew("클린 코드", "로버트 마틴", 1);
+        StoredBook storedBook = StoredBook.createOnHold(book);
+        Reservation due = Reservation.create(book, 1L, now.minusDays(5));
+        due.prepareHold(10L, now.minusSeconds(1));
+        Reservation extended = Reservation.create(book, 2L, now.minusDays(5));
+        extended.prepareHold(11L, now.plusDays(1));
+
+        when(reservationRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(due, extended));
+        when(storedBookRepository.findAllById(List.of(10L))).thenReturn(List.of(storedBook));
+        // when
+        int expired = holdExpiryService.expireHolds(List.of(1L, 2L));
+        // then
+        assertThat(expired).isEqualTo(1);
+        assertThat(due.getReservationStatus()).isEqualTo(ReservationStatus.EXPIRED);
+        assertThat(extended.getReservationStatus()).isEqualTo(ReservationStatus.HOLD_READY);
+        assertThat(storedBook.getStatus()).isEqualTo(StoredBookStatus.AVAILABLE);
+    }
+}
@@ -5,23 +5,33 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import smiinii.object_oriented_library.domain.*;
 import smiinii.object_oriented_library.domain.loan_policy.LoanPolicy;
+import smiinii.object_oriented_library.domain.reservation.Reservation;
 import smiinii.object_oriented_library.domain.reservation_policy.ReservationPolicy;
 import smiinii.object_oriented_library.domain.storedbook.StoredBook;
+import smiinii.object_oriented_library.dto.loan.LoanBatchItemResponse;
 import smiinii.object_oriented_library.repository.BookRepository;
 import smiinii.object_oriented_library.repository.LoanRepository;
 import smiinii.object_oriented_library.repository.MemberRepository;
+import smiinii.object_oriented_library.repository.OverdueNoticeRepository;
+import smiinii.object_oriented_library.repository.StoredBookRepository;
+import smiinii.object_oriented_library.support.outbox.OutboxAppender;
+import smiinii.object_oriented_library.support.outbox.OutboxEventType;
 
 import java.lang.reflect.Field;
 import java.time.*;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -36,20 +46,33 @@ class LoanServiceTest {
     @Mock
     private LoanRepository loanRepository;
 
+    @Mock
+    private StoredBookRepository storedBookRepository;
+
+    @Mock
+    private OverdueNoticeRepository overdueNoticeRepository;
+
     @Mock
     private ReservationPolicy reservationPolicy;
 
     @Mock
     private LoanPolicy loanPolicy;
 
+    @Mock
+    private OutboxAppender outboxAppender;
+
+    @Mock
+    private BookCountWriter bookCountWriter;
+
     @Mock
     private Clock clock;
+
     private LoanService loanService;
 
     @BeforeEach
     void setUp() {
-        loanService = new LoanService(memberRepository, bookRepository,
-                loanRepository, reservationPolicy, loanPolicy, clock);
+        loanService = new LoanService(memberRepository, bookRepository, loanRepository, storedBookRepository,
+                overdueNoticeRepository, reservationPolicy, loanPolicy, outboxAppender, bookCountWriter, clock);
     }
 
     private void mockClock(LocalDateTime now) {
@@ -73,6 +96,7 @@ class LoanServiceTest {
 
         when(memberRepository.findById(memberId)).thenReturn(Optional.of(member));
         when(bookRepository.findById(bookId)).thenReturn(Optional.of(book));
+        when(storedBookRepository.claimAvailable(bookId)).thenReturn(Optional.of(availableCopy));
 
         LocalDateTime dueDate = now.plusDays(7);
         when(loanPolicy.initialDueDate(now)).thenReturn(dueDate);
@@ -97,6 +121,7 @@ class LoanServiceTest {
         assertThat(savedLoan.getStoredBook()).isSameAs(availableCopy);
         assertThat(savedLoan.getLoanedAt()).isEqualTo(now);
         assertThat(savedLoan.getDueDate()).isEqualTo(dueDate);
+        verify(bookCountWriter, times(1)).flush(List.of(book));
     }
 
     @Test
@@ -138,12 +163,11 @@ class LoanServiceTest {
 
         Member member = Member.create("이성민");
         Book book = Book.registerNew("클린 코드", "로버트 마틴", 1);
-        // 유일한 소장본을 대출 상태로 바꿔서 AVAILABLE 없음 만들기
-        StoredBook storedBook = book.getStoredBooks().firstAvailable().orElseThrow();
-        storedBook.loan();
 
         when(memberRepository.findById(memberId)).thenReturn(Optional.of(member));
         when(bookRepository.findById(bookId)).thenReturn(Optional.of(book));
+        // 선점 가능한 AVAILABLE 소장본이 없는 상황
+        when(storedBookRepository.claimAvailable(bookId)).thenReturn(Optional.empty());
         // when & then
         assertThatThrownBy(() -> loanService.loan(memberId, bookId))
                 .isInstanceOf(IllegalStateException.class)
@@ -183,18 +207,45 @@ class LoanServiceTest {
         when(loan.getMember()).thenReturn(member);
         when(loan.getStoredBook()).thenReturn(storedBook);
         when(storedBook.getBook()).thenReturn(book);
-
-        Duration holdDuration = Duration.ofDays(3);
-        when(reservationPolicy.holdDuration()).thenReturn(holdDuration);
+        when(book.assignHoldToQueueHead(any(), any(), eq(clock))).thenReturn(Optional.empty());
         when(loan.isOverdue(now)).thenReturn(false);
         // when
         loanService.returnBook(loanId);
         // then
         verify(loan).returnBook(now, false);
-        verify(book).assignHoldIfReservationExists(holdDuration, clock);
         verify(member, never()).applyPenalty(any());
     }
 
+    @Test
+    @DisplayName("returnBook: 예약 대기열 선두가 있으면 반납된 소장본을 선두 예약자에게 보류한다")
+    void returnBookAssignsHoldToHeadQueued() {
+        // given
+        Long loanId = 1L;
+        LocalDateTime now = LocalDateTime.of(2025, 11, 18, 10, 0);
+        mockClock(now);
+
+        Loan loan = mock(Loan.class);
+        Member member = mock(Member.class);
+        StoredBook storedBook = mock(StoredBook.class);
+        Book book = mock(Book.class);
+        Reservation head = mock(Reservation.class);
+
+        when(loanRepository.findById(loanId)).thenReturn(Optional.of(loan));
+        when(loan.isActive()).thenReturn(true);
+        when(loan.getMember()).thenReturn(member);
+        when(loan.getStoredBook()).thenReturn(storedBook);
+        when(storedBook.getBook()).thenReturn(book);
+        when(storedBook.getId()).thenReturn(100L);
+        when(reservationPolicy.holdDuration()).thenReturn(Duration.ofDays(3));
+        when(book.assignHoldToQueueHead(100L, Duration.ofDays(3), clock)).thenReturn(Optional.of(head));
+        when(loan.isOverdue(now)).thenReturn(false);
+        // when
+        loanService.returnBook(loanId);
+        // then
+        verify(loan).returnBook(now, true);
+        verify(outboxAppender).append(eq(OutboxEventType.HOLD_PREPARED), any(), anyMap(), eq(now));
+    }
+
     @Test
     @DisplayName("returnBook: 연체된 대출 반납 시 패널티를 부여한다")
     void returnBookWithOverdueAppliesPenalty() {
@@ -213,9 +264,7 @@ class LoanServiceTest {
         when(loan.getMember()).thenReturn(member);
         when(loan.getStoredBook()).thenReturn(storedBook);
         when(storedBook.getBook()).thenReturn(book);
-
-        Duration holdDuration = Duration.ofDays(3);
-        when(reservationPolicy.holdDuration()).thenReturn(holdDuration);
+        when(book.assignHoldToQueueHead(any(), any(), eq(clock))).thenReturn(Optional.empty());
 
         LocalDateTime dueDate = now.minusDays(2);
         when(loan.getDueDate()).thenReturn(dueDate);
@@ -223,9 +272,14 @@ class LoanServiceTest {
         // when
         loanService.returnBook(loanId);
         // then
-        verify(loan).returnBook(now, false);
-        verify(book).assignHoldIfReservationExists(holdDuration, clock);
+        InOrder inOrder = inOrder(loan);
+        inOrder.verify(loan).isOverdue(now);
+        inOrder.verify(loan).returnBook(now, false);
         verify(member, times(1)).applyPenalty(any(Penalty.class));
+        verify(outboxAppender).append(eq(OutboxEventType.PENALTY_APPLIED), any(), anyMap(), eq(now));
+        InOrder closeOrder = inOrder(loanRepository, overdueNoticeRepository);
+        closeOrder.verify(loanRepository).flush();
+        closeOrder.verify(overdueNoticeRepository).resolve(loan.getId(), now);
     }
 
     @Test
@@ -274,4 +328,87 @@ class LoanServiceTest {
                 .isInstanceOf(IllegalStateException.class)
                 .hasMessageContaining("반납된 대출은 연장할 수 없습니다.");
     }
+
+    @Test
+    @DisplayName("loanAll: 회원은 한 번만 검증하고 도서별로 필요한 수만큼 소장본을 잡아 건별 결과를 반환한다")
+    void loanAllReturnsPerItemResults() {
+        // given
+        Long memberId = 1L;
+        LocalDateTime now = LocalDateTime.of(2025, 11, 18, 10, 0);
+        mockClock(now);
+
+        Member member = Member.create("이성민");
+        Book first = mock(Book.class);
+        Book second = mock(Book.class);
+        StoredBook firstCopy = mock(StoredBook.class);
+        StoredBook secondCopy = mock(StoredBook.class);
+        when(first.getId()).thenReturn(10L);
+        when(second.getId()).thenReturn(20L);
+
+        when(memberRepository.findById(memberId)).thenReturn(Optional.of(member));
+        when(bookRepository.findAllById(any())).thenReturn(List.of(first, second));
+        when(storedBookRepository.claimAvailable(10L, 2)).thenReturn(List.of(firstCopy));
+        when(storedBookRepository.claimAvailable(20L, 1)).thenReturn(List.of(secondCopy));
+        when(loanPolicy.initialDueDate(now)).thenReturn(now.plusDays(7));
+
+        AtomicLong sequence = new AtomicLong(100L);
+        when(loanRepository.save(any(Loan.class))).thenAnswer(invocation -> {
+            Loan loan = invocation.getArgument(0);
+            Field idField = Loan.class.getDeclaredField("id");
+            idField.setAccessible(true);
+            idField.set(loan, sequence.getAndIncrement());
+            return loan;
+        });
+        // when
+        List<LoanBatchItemResponse> results = loanService.loanAll(memberId, List.of(10L, 10L, 20L, 30L));
+        // then
+        assertThat(results).extracting(LoanBatchItemResponse::isSuccess)
+                .containsExactly(true, false, true, false);
+        assertThat(results).extracting(LoanBatchItemResponse::getLoanId)
+                .containsExactly(100L, null, 101L, null);
+        assertThat(results.get(1).getMessage()).isEqualTo("대출 가능한 소장본이 없습니다.");
+        assertThat(results.get(3).getMessage()).isEqualTo("존재하지 않는 도서입니다.");
+        verify(memberRepository, times(1)).findById(memberId);
+        verify(firstCopy).loan();
+        verify(secondCopy).loan();
+    }
+
+    @Test
+    @DisplayName("returnAll: 같은 도서를 여러 권 반납하면 대기열 순서대로 한 명씩 보류를 넘긴다")
+    void returnAllPassesHoldsInQueueOrder() {
+        // given
+        LocalDateTime now = LocalDateTime.of(2025, 11, 18, 10, 0);
+        mockClock(now);
+
+        Book book = Book.registerNew("클린 코드", "로버트 마틴", 2);
+        book.getStoredBooks().getStoredBooks().forEach(StoredBook::loan);
+        book.tryReserve(5L, 3, clock);
+        Reservation head = book.getReservations().get(0);
+        Loan firstLoan = activeLoan(1L, 100L, book);
+        Loan secondLoan = activeLoan(2L, 200L, book);
+
+        when(loanRepository.findAllForReturn(any())).thenReturn(List.of(firstLoan, secondLoan));
+        when(reservationPolicy.holdDuration()).thenReturn(Duration.ofDays(3));
+        // when
+        List<LoanBatchItemResponse> results = loanService.returnAll(List.of(1L, 2L, 3L));
+        // then
+        assertThat(results).extracting(LoanBatchItemResponse::isSuccess)
+                .containsExactly(true, true, false);
+        assertThat(results.get(2).getMessage()).isEqualTo("존재하지 않는 대출입니다.");
+        verify(firstLoan).returnBook(now, true);
+        assertThat(head.getHoldStoredBookId()).isEqualTo(100L);
+        assertThat(head.getHoldUntil()).isEqualTo(now.plusDays(3));
+        verify(secondLoan).returnBook(now, false);
+    }
+
+    private Loan activeLoan(long loanId, long storedBookId, Book book) {
+        Loan loan = mock(Loan.class);
+        StoredBook storedBook = mock(StoredBook.class);
+        when(loan.getId()).thenReturn(loanId);
+        when(loan.isActive()).thenReturn(true);
+        when(loan.getStoredBook()).thenReturn(storedBook);
+        when(storedBook.getBook()).thenReturn(book);
+        lenient().when(storedBook.getId()).thenReturn(storedBookId);
+        return loan;
+    }
 }
@@ -6,9 +6,17 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import smiinii.object_oriented_library.domain.Member;
+import smiinii.object_oriented_library.dto.loan.MemberLoanPageResponse;
+import smiinii.object_oriented_library.dto.loan.MemberLoanResponse;
+import smiinii.object_oriented_library.repository.LoanRepository;
 import smiinii.object_oriented_library.repository.MemberRepository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 
@@ -18,6 +26,9 @@ class MemberServiceTest {
     @Mock
     MemberRepository memberRepository;
 
+    @Mock
+    LoanRepository loanRepository;
+
     @InjectMocks
     MemberService memberService;
 
@@ -37,4 +48,65 @@ class MemberServiceTest {
         assertThat(id).isEqualTo(1L);
         verify(memberRepository).save(any(Member.class));
     }
+
+    @Test
+    @DisplayName("getLoans: 한 건을 더 조회해 다음 페이지가 있으면 마지막 행의 (대출 시각, ID)를 커서로 돌려준다")
+    void getLoansReturnsKeysetCursor() {
+        // given
+        LocalDateTime loanedAt = LocalDateTime.of(2025, 11, 10, 10, 0);
+        when(memberRepository.existsById(1L)).thenReturn(true);
+        when(loanRepository.findFirstPageByMember(eq(1L), any())).thenReturn(List.of(
+                loan(30L, loanedAt),
+                loan(20L, loanedAt.minusDays(1)),
+                loan(10L, loanedAt.minusDays(2))
+        ));
+        // when
+        MemberLoanPageResponse result = memberService.getLoans(1L, null, null, 2);
+        // then
+        assertThat(result.getLoans()).extracting(MemberLoanResponse::getLoanId).containsExactly(30L, 20L);
+        assertThat(result.getNextCursor()).isEqualTo("2025-11-09T10:00_20");
+    }
+
+    @Test
+    @DisplayName("getLoans: 커서와 active=true가 주어지면 그 이후의 대출 중인 건만 조회한다")
+    void getLoansContinuesFromCursor() {
+        // given
+        when(memberRepository.existsById(1L)).thenReturn(true);
+        when(loanRepository.findActivePageByMember(
+                eq(1L), eq(LocalDateTime.of(2025, 11, 9, 10, 0)), eq(20L), any()))
+                .thenReturn(List.of());
+        // when
+        MemberLoanPageResponse result = memberService.getLoans(1L, true, "2025-11-09T10:00_20", 2);
+        // then
+        assertThat(result.getLoans()).isEmpty();
+        assertThat(result.getNextCursor()).isNull();
+        verify(loanRepository, never()).findPageByMember(any(), any(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("getLoans: 형식이 맞지 않는 커서는 거절한다")
+    void getLoansRejectsMalformedCursor() {
+        // given
+        when(memberRepository.existsById(1L)).thenReturn(true);
+        // when & then
+        assertThatThrownBy(() -> memberService.getLoans(1L, null, "yesterday", 20))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("잘못된 커서입니다.");
+    }
+
+    @Test
+    @DisplayName("getLoans: 존재하지 않는 회원이면 예외를 던진다")
+    void getLoansThrowsWhenMemberNotFound() {
+        // given
+        when(memberRepository.existsById(1L)).thenReturn(false);
+        // when & then
+        assertThatThrownBy(() -> memberService.getLoans(1L, null, null, 20))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("존재하지 않는 회원입니다.");
+        verifyNoInteractions(loanRepository);
+    }
+
+    private MemberLoanResponse loan(Long loanId, LocalDateTime loanedAt) {
+        return new MemberLoanResponse(loanId, 1L, "클린 코드", 1L, loanedAt, loanedAt.plusDays(14), null);
+    }
 }
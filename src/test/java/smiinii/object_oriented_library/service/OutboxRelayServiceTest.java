@@ -0,0 +1,144 @@
+package smiinii.object_oriented_library.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import smiinii.object_oriented_library.repository.OutboxAggregate;
+import smiinii.object_oriented_library.repository.OutboxEventRepository;
+import smiinii.object_oriented_library.support.outbox.OutboxDispatcher;
+import smiinii.object_oriented_library.support.outbox.OutboxEvent;
+import smiinii.object_oriented_library.support.outbox.OutboxEventType;
+import smiinii.object_oriented_library.support.outbox.OutboxMessage;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayServiceTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private OutboxDispatcher outboxDispatcher;
+
+    private final LocalDateTime now = LocalDateTime.of(2025, 11, 18, 10, 0);
+
+    private OutboxRelayService outboxRelayService;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(now.atZone(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault());
+        outboxRelayService = new OutboxRelayService(outboxEventRepository, outboxDispatcher, clock, 3);
+    }
+
+    @Test
+    @DisplayName("relayBatch: 쌓인 순서대로 전달하고 전달 완료로 표시한다")
+    void relaysInOrder() {
+        // given
+        OutboxEvent returned = OutboxEvent.of(OutboxEventType.LOAN_RETURNED, 1L, "{}", now.minusSeconds(3));
+        OutboxEvent prepared = OutboxEvent.of(OutboxEventType.HOLD_PREPARED, 2L, "{}", now.minusSeconds(1));
+        when(outboxEventRepository.lockPending(10)).thenReturn(List.of(returned, prepared));
+        // when
+        OutboxRelayResult result = outboxRelayService.relayBatch(10);
+        // then
+        ArgumentCaptor<OutboxMessage> captor = ArgumentCaptor.forClass(OutboxMessage.class);
+        verify(outboxDispatcher, times(2)).dispatch(captor.capture());
+        assertThat(captor.getAllValues())
+                .extracting(OutboxMessage::getEventType)
+                .containsExactly(OutboxEventType.LOAN_RETURNED, OutboxEventType.HOLD_PREPARED);
+
+        assertThat(returned.getPublishedAt()).isEqualTo(now);
+        assertThat(prepared.getPublishedAt()).isEqualTo(now);
+        assertThat(result.isFailed()).isFalse();
+        assertThat(result.getDeliveryLags()).containsExactly(Duration.ofSeconds(3), Duration.ofSeconds(1));
+    }
+
+    @Test
+    @DisplayName("relayBatch: 소비자가 실패하면 같은 애그리거트의 뒤 이벤트만 다음 배치로 남기고 나머지는 전달한다")
+    void blocksOnlyFailedAggregate() {
+        // given
+        OutboxEvent failing = OutboxEvent.of(OutboxEventType.HOLD_PREPARED, 2L, "{}", now.minusSeconds(2));
+        OutboxEvent other = OutboxEvent.of(OutboxEventType.LOAN_RETURNED, 1L, "{}", now.minusSeconds(2));
+        OutboxEvent sameAggregate = OutboxEvent.of(OutboxEventType.HOLD_EXPIRED, 2L, "{}", now.minusSeconds(1));
+        when(outboxEventRepository.lockPending(10)).thenReturn(List.of(failing, other, sameAggregate));
+        doThrow(new IllegalStateException("소비자 실패"))
+                .doNothing()
+                .when(outboxDispatcher).dispatch(any(OutboxMessage.class));
+        // when
+        OutboxRelayResult result = outboxRelayService.relayBatch(10);
+        // then
+        assertThat(result.isFailed()).isTrue();
+        assertThat(result.getFetched()).isEqualTo(3);
+        assertThat(result.getDelivered()).isEqualTo(1);
+        assertThat(failing.getPublishedAt()).isNull();
+        assertThat(other.getPublishedAt()).isEqualTo(now);
+        assertThat(sameAggregate.getPublishedAt()).isNull();
+        assertThat(failing.getAttempts()).isEqualTo(1);
+        assertThat(failing.isParked()).isFalse();
+        assertThat(result.getParked()).isZero();
+        verify(outboxDispatcher, times(2)).dispatch(any(OutboxMessage.class));
+    }
+
+    @Test
+    @DisplayName("relayBatch: 정해진 횟수만큼 실패한 이벤트는 보류해 다음 배치부터 앞자리를 비운다")
+    void parksEventAfterMaxAttempts() {
+        // given
+        OutboxEvent failing = OutboxEvent.of(OutboxEventType.HOLD_PREPARED, 2L, "{}", now.minusMinutes(1));
+        failing.recordFailure(now.minusSeconds(2), 3);
+        failing.recordFailure(now.minusSeconds(1), 3);
+        when(outboxEventRepository.lockPending(10)).thenReturn(List.of(failing));
+        doThrow(new IllegalStateException("소비자 실패")).when(outboxDispatcher).dispatch(any(OutboxMessage.class));
+        // when
+        OutboxRelayResult result = outboxRelayService.relayBatch(10);
+        // then
+        assertThat(failing.getAttempts()).isEqualTo(3);
+        assertThat(failing.getParkedAt()).isEqualTo(now);
+        assertThat(failing.getPublishedAt()).isNull();
+        assertThat(result.getParked()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("relayBatch: 보류된 애그리거트의 뒤 이벤트는 전달하지 않고 함께 보류한다")
+    void parksLaterEventsOfParkedAggregate() {
+        // given
+        OutboxEvent expired = OutboxEvent.of(OutboxEventType.HOLD_EXPIRED, 2L, "{}", now.minusSeconds(2));
+        OutboxEvent other = OutboxEvent.of(OutboxEventType.LOAN_RETURNED, 1L, "{}", now.minusSeconds(1));
+        when(outboxEventRepository.lockPending(10)).thenReturn(List.of(expired, other));
+        when(outboxEventRepository.findParkedAggregates())
+                .thenReturn(List.of(new TestOutboxAggregate(OutboxEventType.HOLD_PREPARED, 2L)));
+        // when
+        OutboxRelayResult result = outboxRelayService.relayBatch(10);
+        // then
+        assertThat(expired.isParked()).isTrue();
+        assertThat(expired.getAttempts()).isZero();
+        assertThat(other.getPublishedAt()).isEqualTo(now);
+        assertThat(result.getParked()).isEqualTo(1);
+        assertThat(result.isFailed()).isFalse();
+        verify(outboxDispatcher, times(1)).dispatch(any(OutboxMessage.class));
+    }
+
+    private record TestOutboxAggregate(OutboxEventType eventType, Long aggregateId) implements OutboxAggregate {
+
+        @Override
+        public OutboxEventType getEventType() {
+            return eventType;
+        }
+
+        @Override
+        public Long getAggregateId() {
+            return aggregateId;
+        }
+    }
+}
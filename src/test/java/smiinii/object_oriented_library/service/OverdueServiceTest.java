@@ -0,0 +1,147 @@
+package smiinii.object_oriented_library.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import smiinii.object_oriented_library.domain.OverdueNotice;
+import smiinii.object_oriented_library.repository.LoanRepository;
+import smiinii.object_oriented_library.repository.OverdueLoan;
+import smiinii.object_oriented_library.repository.OverdueNoticeJdbcRepository;
+import smiinii.object_oriented_library.repository.OverdueNoticeRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OverdueServiceTest {
+
+    @Mock
+    private LoanRepository loanRepository;
+
+    @Mock
+    private OverdueNoticeRepository overdueNoticeRepository;
+
+    @Mock
+    private OverdueNoticeJdbcRepository overdueNoticeJdbcRepository;
+
+    private final LocalDateTime now = LocalDateTime.of(2025, 11, 18, 10, 0);
+
+    private OverdueService overdueService;
+
+    @BeforeEach
+    void setUp() {
+        overdueService = new OverdueService(loanRepository, overdueNoticeRepository, overdueNoticeJdbcRepository);
+    }
+
+    @Test
+    @DisplayName("recordNotices: 처음 탐지된 연체는 알림을 만들고 패널티 미리보기를 계산한다")
+    @SuppressWarnings("unchecked")
+    void opensNoticeForNewOverdue() {
+        // given
+        LocalDateTime dueDate = now.minusDays(3);
+        when(overdueNoticeRepository.findByLoanIdIn(anyCollection())).thenReturn(List.of());
+        when(overdueNoticeJdbcRepository.insertOpen(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        // when
+        OverdueChunkResult result = overdueService.recordNotices(List.of(new TestOverdueLoan(1L, 7L, dueDate)), now);
+        // then
+        assertThat(result.getOpenedDueDates()).containsExactly(dueDate);
+        assertThat(result.getRefreshed()).isZero();
+
+        ArgumentCaptor<List<OverdueNotice>> captor = ArgumentCaptor.forClass(List.class);
+        verify(overdueNoticeJdbcRepository).insertOpen(captor.capture());
+        OverdueNotice notice = captor.getValue().get(0);
+        assertThat(notice.getLoanId()).isEqualTo(1L);
+        assertThat(notice.getMemberId()).isEqualTo(7L);
+        assertThat(notice.getOverdueDays()).isEqualTo(3);
+        assertThat(notice.getPenaltyPreviewEndsAt()).isEqualTo(now.plusDays(3));
+    }
+
+    @Test
+    @DisplayName("recordNotices: 이미 알림이 있으면 연장된 반납 예정일 기준으로 다시 계산한다")
+    void refreshesExistingNotice() {
+        // given
+        OverdueNotice notice = OverdueNotice.open(1L, 7L, now.minusDays(5), now.minusDays(1));
+        when(overdueNoticeRepository.findByLoanIdIn(anyCollection())).thenReturn(List.of(notice));
+        when(overdueNoticeJdbcRepository.refreshOpen(List.of(notice))).thenReturn(1);
+        // when
+        OverdueChunkResult result = overdueService.recordNotices(
+                List.of(new TestOverdueLoan(1L, 7L, now.minusDays(2))), now);
+        // then
+        assertThat(result.getRefreshed()).isEqualTo(1);
+        assertThat(result.getOpenedDueDates()).isEmpty();
+        assertThat(notice.getDueDate()).isEqualTo(now.minusDays(2));
+        assertThat(notice.getOverdueDays()).isEqualTo(2);
+        assertThat(notice.getLastNoticedAt()).isEqualTo(now);
+        assertThat(notice.getFirstNoticedAt()).isEqualTo(now.minusDays(1));
+        verify(overdueNoticeJdbcRepository, never()).insertOpen(anyList());
+    }
+
+    @Test
+    @DisplayName("recordNotices: 조회 뒤 반납된 대출은 알림이 들어가지 않으므로 새 연체로 세지 않는다")
+    void skipsLoanReturnedBeforeInsert() {
+        // given
+        LocalDateTime dueDate = now.minusDays(3);
+        when(overdueNoticeRepository.findByLoanIdIn(anyCollection())).thenReturn(List.of());
+        when(overdueNoticeJdbcRepository.insertOpen(anyList())).thenReturn(List.of());
+        // when
+        OverdueChunkResult result = overdueService.recordNotices(List.of(new TestOverdueLoan(1L, 7L, dueDate)), now);
+        // then
+        assertThat(result.getOpenedDueDates()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("recordNotices: 조회 뒤 반납으로 닫힌 알림은 갱신되지 않으므로 갱신 건수에 넣지 않는다")
+    void skipsNoticeResolvedBeforeRefresh() {
+        // given
+        OverdueNotice notice = OverdueNotice.open(1L, 7L, now.minusDays(5), now.minusDays(1));
+        when(overdueNoticeRepository.findByLoanIdIn(anyCollection())).thenReturn(List.of(notice));
+        when(overdueNoticeJdbcRepository.refreshOpen(List.of(notice))).thenReturn(0);
+        // when
+        OverdueChunkResult result = overdueService.recordNotices(
+                List.of(new TestOverdueLoan(1L, 7L, now.minusDays(5))), now);
+        // then
+        assertThat(result.getRefreshed()).isZero();
+    }
+
+    @Test
+    @DisplayName("recordNotices: 같은 날 다시 탐지된 연체는 알림을 다시 쓰지 않는다")
+    void skipsUnchangedNotice() {
+        // given
+        LocalDateTime dueDate = now.minusDays(3).minusHours(5);
+        OverdueNotice notice = OverdueNotice.open(1L, 7L, dueDate, now.minusHours(2));
+        when(overdueNoticeRepository.findByLoanIdIn(anyCollection())).thenReturn(List.of(notice));
+        // when
+        OverdueChunkResult result = overdueService.recordNotices(List.of(new TestOverdueLoan(1L, 7L, dueDate)), now);
+        // then
+        assertThat(result.getRefreshed()).isZero();
+        assertThat(notice.getLastNoticedAt()).isEqualTo(now.minusHours(2));
+        verifyNoInteractions(overdueNoticeJdbcRepository);
+    }
+
+    private record TestOverdueLoan(Long loanId, Long memberId, LocalDateTime dueDate) implements OverdueLoan {
+
+        @Override
+        public Long getLoanId() {
+            return loanId;
+        }
+
+        @Override
+        public Long getMemberId() {
+            return memberId;
+        }
+
+        @Override
+        public LocalDateTime getDueDate() {
+            return dueDate;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package smiinii.object_oriented_library.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import smiinii.object_oriented_library.repository.MemberJdbcRepository;
+import smiinii.object_oriented_library.repository.MemberRepository;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PenaltyReleaseServiceTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private final LocalDateTime now = LocalDateTime.of(2025, 11, 18, 10, 0);
+
+    private PenaltyReleaseService penaltyReleaseService;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(now.atZone(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault());
+        penaltyReleaseService = new PenaltyReleaseService(memberRepository, new MemberJdbcRepository(jdbcTemplate), clock);
+    }
+
+    @Test
+    @DisplayName("releaseExpired: 만료된 패널티를 종료 시각 순으로 batchSize건까지 한 번의 UPDATE로 해제하고 version을 올린다")
+    void releasesExpiredInEndsAtOrder() {
+        // given
+        when(jdbcTemplate.update(anyString(), eq(Timestamp.valueOf(now)), eq(500))).thenReturn(3);
+        // when
+        int released = penaltyReleaseService.releaseExpired(500);
+        // then
+        assertThat(released).isEqualTo(3);
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate).update(sql.capture(), eq(Timestamp.valueOf(now)), eq(500));
+        assertThat(sql.getValue())
+                .contains("member_status = 'ACTIVE'")
+                .contains("version = version + 1")
+                .contains("WHERE member_status = 'SUSPENDED' AND ends_at <= ?")
+                .endsWith("ORDER BY ends_at LIMIT ?");
+    }
+
+    @Test
+    @DisplayName("releaseExpired: 휠에서 꺼낸 회원도 만료 조건을 다시 확인하며 해제한다")
+    void releasesGivenMembersOnlyIfStillExpired() {
+        // given
+        when(jdbcTemplate.update(anyString(), eq(1L), eq(2L), eq(Timestamp.valueOf(now)))).thenReturn(1);
+        // when
+        int released = penaltyReleaseService.releaseExpired(List.of(1L, 2L));
+        // then
+        assertThat(released).isEqualTo(1);
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate).update(sql.capture(), eq(1L), eq(2L), eq(Timestamp.valueOf(now)));
+        assertThat(sql.getValue())
+                .contains("version = version + 1")
+                .endsWith("WHERE id IN (?, ?) AND member_status = 'SUSPENDED' AND ends_at <= ?");
+    }
+
+    @Test
+    @DisplayName("releaseExpired: 해제할 회원이 없으면 UPDATE를 보내지 않는다")
+    void skipsEmptyMemberIds() {
+        // when
+        int released = penaltyReleaseService.releaseExpired(List.of());
+        // then
+        assertThat(released).isZero();
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
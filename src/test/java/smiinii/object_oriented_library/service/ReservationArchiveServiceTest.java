@@ -0,0 +1,83 @@
+package smiinii.object_oriented_library.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import smiinii.object_oriented_library.domain.Book;
+import smiinii.object_oriented_library.domain.reservation.Reservation;
+import smiinii.object_oriented_library.domain.reservation.ReservationHistory;
+import smiinii.object_oriented_library.domain.reservation.ReservationStatus;
+import smiinii.object_oriented_library.repository.ReservationHistoryJdbcRepository;
+import smiinii.object_oriented_library.repository.ReservationRepository;
+
+import java.time.*;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationArchiveServiceTest {
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private ReservationHistoryJdbcRepository reservationHistoryJdbcRepository;
+
+    private final LocalDateTime now = LocalDateTime.of(2025, 11, 18, 10, 0);
+    private final Clock clock = Clock.fixed(now.toInstant(ZoneOffset.UTC), ZoneId.of("UTC"));
+
+    private ReservationArchiveService reservationArchiveService;
+
+    @BeforeEach
+    void setUp() {
+        reservationArchiveService = new ReservationArchiveService(
+                reservationRepository, reservationHistoryJdbcRepository, clock);
+    }
+
+    @Test
+    @DisplayName("archiveChunk: 종료된 예약을 이력 테이블로 옮기고 원본을 삭제한다")
+    @SuppressWarnings("unchecked")
+    void movesTerminatedReservationsToHistory() {
+        // given
+        Book book = Book.registerNew("클린 코드", "로버트 마틴", 1);
+        Reservation expired = Reservation.create(book, 1L, now.minusDays(5));
+        expired.prepareHold(10L, now.minusDays(1));
+        expired.expireIfOverdue(now);
+
+        when(reservationRepository.findByReservationStatusInOrderByIdAsc(anyCollection(), any()))
+                .thenReturn(List.of(expired));
+        // when
+        int archived = reservationArchiveService.archiveChunk(500);
+        // then
+        assertThat(archived).isEqualTo(1);
+        ArgumentCaptor<List<ReservationHistory>> captor = ArgumentCaptor.forClass(List.class);
+        verify(reservationHistoryJdbcRepository).insertAll(captor.capture());
+        ReservationHistory history = captor.getValue().get(0);
+        assertThat(history.getReservationStatus()).isEqualTo(ReservationStatus.EXPIRED);
+        assertThat(history.getMemberId()).isEqualTo(1L);
+        assertThat(history.getArchivedAt()).isEqualTo(now);
+        verify(reservationRepository).deleteAllInBatch(List.of(expired));
+    }
+
+    @Test
+    @DisplayName("archiveChunk: 종료된 예약이 없으면 아무 것도 하지 않는다")
+    void doesNothingWhenNoTerminatedReservation() {
+        // given
+        when(reservationRepository.findByReservationStatusInOrderByIdAsc(anyCollection(), any()))
+                .thenReturn(List.of());
+        // when
+        int archived = reservationArchiveService.archiveChunk(500);
+        // then
+        assertThat(archived).isZero();
+        verifyNoInteractions(reservationHistoryJdbcRepository);
+        verify(reservationRepository, never()).deleteAllInBatch(any());
+    }
+}
@@ -10,8 +10,10 @@ import smiinii.object_oriented_library.domain.Book;
 import smiinii.object_oriented_library.domain.Member;
 import smiinii.object_oriented_library.domain.reservation.Reservation;
 import smiinii.object_oriented_library.domain.reservation_policy.ReservationPolicy;
+import smiinii.object_oriented_library.dto.reservation.ReservationHistoryPageResponse;
 import smiinii.object_oriented_library.repository.BookRepository;
 import smiinii.object_oriented_library.repository.MemberRepository;
+import smiinii.object_oriented_library.repository.ReservationHistoryRepository;
 
 import java.time.Clock;
 import java.util.List;
@@ -19,7 +21,9 @@ import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,6 +35,9 @@ class ReservationServiceTest {
     @Mock
     private BookRepository bookRepository;
 
+    @Mock
+    private ReservationHistoryRepository reservationHistoryRepository;
+
     @Mock
     private ReservationPolicy reservationPolicy;
 
@@ -44,6 +51,7 @@ class ReservationServiceTest {
         reservationService = new ReservationService(
                 memberRepository,
                 bookRepository,
+                reservationHistoryRepository,
                 reservationPolicy,
                 clock
         );
@@ -59,19 +67,18 @@ class ReservationServiceTest {
         Book book = mock(Book.class);
 
         when(memberRepository.findById(memberId)).thenReturn(Optional.of(member));
-        when(member.canBorrow()).thenReturn(true);
+        when(member.canBorrow(clock)).thenReturn(true);
 
-        when(bookRepository.findById(bookId)).thenReturn(Optional.of(book));
+        when(bookRepository.findByIdForReservation(bookId)).thenReturn(Optional.of(book));
         when(reservationPolicy.maxQueueSize()).thenReturn(3);
         when(book.tryReserve(memberId, 3, clock)).thenReturn(true);
         // when
         reservationService.reserve(memberId, bookId);
         // then
         verify(memberRepository, times(1)).findById(memberId);
-        verify(member, times(1)).releasePenaltyIfExpired(clock);
-        verify(member, times(1)).canBorrow();
+        verify(member, times(1)).canBorrow(clock);
 
-        verify(bookRepository, times(1)).findById(bookId);
+        verify(bookRepository, times(1)).findByIdForReservation(bookId);
         verify(book, times(1)).tryReserve(memberId, 3, clock);
     }
 
@@ -101,15 +108,14 @@ class ReservationServiceTest {
         Member member = mock(Member.class);
 
         when(memberRepository.findById(memberId)).thenReturn(Optional.of(member));
-        when(member.canBorrow()).thenReturn(false);
+        when(member.canBorrow(clock)).thenReturn(false);
         // when & then
         assertThatThrownBy(() -> reservationService.reserve(memberId, bookId))
                 .isInstanceOf(IllegalStateException.class)
                 .hasMessageContaining("현재 대출/예약이 불가능한 회원입니다.");
 
         verify(memberRepository, times(1)).findById(memberId);
-        verify(member, times(1)).releasePenaltyIfExpired(clock);
-        verify(member, times(1)).canBorrow();
+        verify(member, times(1)).canBorrow(clock);
         verifyNoInteractions(bookRepository);
     }
 
@@ -122,15 +128,15 @@ class ReservationServiceTest {
         Member member = mock(Member.class);
 
         when(memberRepository.findById(memberId)).thenReturn(Optional.of(member));
-        when(member.canBorrow()).thenReturn(true);
-        when(bookRepository.findById(bookId)).thenReturn(Optional.empty());
+        when(member.canBorrow(clock)).thenReturn(true);
+        when(bookRepository.findByIdForReservation(bookId)).thenReturn(Optional.empty());
         // when & then
         assertThatThrownBy(() -> reservationService.reserve(memberId, bookId))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("존재하지 않는 도서입니다.");
 
         verify(memberRepository, times(1)).findById(memberId);
-        verify(bookRepository, times(1)).findById(bookId);
+        verify(bookRepository, times(1)).findByIdForReservation(bookId);
     }
 
     @Test
@@ -143,9 +149,9 @@ class ReservationServiceTest {
         Book book = mock(Book.class);
 
         when(memberRepository.findById(memberId)).thenReturn(Optional.of(member));
-        when(member.canBorrow()).thenReturn(true);
+        when(member.canBorrow(clock)).thenReturn(true);
 
-        when(bookRepository.findById(bookId)).thenReturn(Optional.of(book));
+        when(bookRepository.findByIdForReservation(bookId)).thenReturn(Optional.of(book));
         when(reservationPolicy.maxQueueSize()).thenReturn(3);
         when(book.tryReserve(memberId, 3, clock)).thenReturn(false);
         // when & then
@@ -190,4 +196,32 @@ class ReservationServiceTest {
 
         verify(bookRepository, times(1)).findById(bookId);
     }
+
+    @Test
+    @DisplayName("getReservationHistory: 존재하지 않는 도서면 예외를 던진다")
+    void getReservationHistoryThrowsWhenBookNotFound() {
+        // given
+        Long bookId = 10L;
+        when(bookRepository.existsById(bookId)).thenReturn(false);
+        // when & then
+        assertThatThrownBy(() -> reservationService.getReservationHistory(bookId, null, 20))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("존재하지 않는 도서입니다.");
+        verifyNoInteractions(reservationHistoryRepository);
+    }
+
+    @Test
+    @DisplayName("getReservationHistory: 커서가 없으면 가장 최근 이력부터 조회한다")
+    void getReservationHistoryStartsFromLatest() {
+        // given
+        Long bookId = 10L;
+        when(bookRepository.existsById(bookId)).thenReturn(true);
+        when(reservationHistoryRepository.findPageByBook(eq(bookId), eq(Long.MAX_VALUE), any()))
+                .thenReturn(List.of());
+        // when
+        ReservationHistoryPageResponse result = reservationService.getReservationHistory(bookId, null, 20);
+        // then
+        assertThat(result.getHistories()).isEmpty();
+        assertThat(result.getNextCursor()).isNull();
+    }
 }
@@ -0,0 +1,71 @@
+package smiinii.object_oriented_library.support.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import smiinii.object_oriented_library.dto.book.BookPageResponse;
+import smiinii.object_oriented_library.dto.book.BookResponse;
+import smiinii.object_oriented_library.support.search.BookRegisteredEvent;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BookCacheEvictorTest {
+
+    private ConcurrentMapCacheManager cacheManager;
+    private BookCacheEvictor bookCacheEvictor;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager(CacheNames.BOOK, CacheNames.BOOK_PAGE);
+        bookCacheEvictor = new BookCacheEvictor(cacheManager);
+    }
+
+    @Test
+    @DisplayName("evict: 변경된 도서의 단건 캐시와 그 도서가 속한 목록 페이지만 비운다")
+    void evictsChangedBookAndItsPage() {
+        // given
+        Cache bookCache = cacheManager.getCache(CacheNames.BOOK);
+        Cache bookPageCache = cacheManager.getCache(CacheNames.BOOK_PAGE);
+        bookCache.put(3L, "changed");
+        bookCache.put(4L, "untouched");
+        bookPageCache.put("null:2", page(null, 1L, 2L));
+        bookPageCache.put("2:2", page(4L, 3L, 4L));
+        bookPageCache.put("4:2", page(null, 5L));
+        // when
+        bookCacheEvictor.evict(new BookChangedEvent(3L));
+        // then
+        assertThat(bookCache.get(3L)).isNull();
+        assertThat(bookCache.get(4L)).isNotNull();
+        assertThat(bookPageCache.get("2:2")).isNull();
+        assertThat(bookPageCache.get("null:2")).isNotNull();
+        assertThat(bookPageCache.get("4:2")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("evictLastPages: 새 도서가 등록되면 다음 커서가 없는 마지막 페이지만 비운다")
+    void evictsOnlyLastPagesOnRegistration() {
+        // given
+        Cache bookPageCache = cacheManager.getCache(CacheNames.BOOK_PAGE);
+        bookPageCache.put("null:2", page(2L, 1L, 2L));
+        bookPageCache.put("2:2", page(null, 3L));
+        bookPageCache.put("9:2", page(null));
+        // when
+        bookCacheEvictor.evictLastPages(BookRegisteredEvent.of(10L, "클린 코드", "로버트 마틴"));
+        // then
+        assertThat(bookPageCache.get("null:2")).isNotNull();
+        assertThat(bookPageCache.get("2:2")).isNull();
+        assertThat(bookPageCache.get("9:2")).isNull();
+    }
+
+    private BookPageResponse page(Long nextCursor, Long... bookIds) {
+        List<BookResponse> books = Arrays.stream(bookIds)
+                .map(id -> new BookResponse(id, "제목", "저자", 1, 1))
+                .toList();
+        return new BookPageResponse(books, nextCursor);
+    }
+}
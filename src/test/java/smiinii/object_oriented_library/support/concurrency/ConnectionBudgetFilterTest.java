@@ -0,0 +1,68 @@
+package smiinii.object_oriented_library.support.concurrency;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConnectionBudgetFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ConnectionBudgetFilter connectionBudgetFilter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        connectionBudgetFilter = new ConnectionBudgetFilter(meterRegistry, 1, 10);
+    }
+
+    @Test
+    @DisplayName("doFilter: 동기 요청은 처리가 끝나면 예산을 반납한다")
+    void releasesPermitAfterSyncRequest() throws Exception {
+        // given
+        FilterChain chain = (req, res) -> assertThat(availablePermits()).isZero();
+        // when
+        connectionBudgetFilter.doFilter(new MockHttpServletRequest("GET", "/api/books"), new MockHttpServletResponse(), chain);
+        // then
+        assertThat(availablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("doFilter: 비동기 요청은 본문을 다 쓰기 전이라도 핸들러가 돌아오면 예산을 반납한다")
+    void releasesPermitWhenAsyncHandlerReturns() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/books/export");
+        request.setAsyncSupported(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = (req, res) -> req.startAsync();
+        // when
+        connectionBudgetFilter.doFilter(request, response, chain);
+        // then
+        assertThat(request.isAsyncStarted()).isTrue();
+        assertThat(availablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("doFilter: 예산이 모두 쓰이고 있으면 503으로 거절한다")
+    void rejectsWhenBudgetExhausted() throws Exception {
+        // given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        // 첫 요청이 처리되는 동안 두 번째 요청이 들어온다.
+        FilterChain busy = (req, res) -> connectionBudgetFilter.doFilter(
+                new MockHttpServletRequest("GET", "/api/books"), response, (innerReq, innerRes) -> {});
+        // when
+        connectionBudgetFilter.doFilter(new MockHttpServletRequest("GET", "/api/loans"), new MockHttpServletResponse(), busy);
+        // then
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(meterRegistry.get("library.connection.budget.rejected").counter().count()).isEqualTo(1.0);
+    }
+
+    private double availablePermits() {
+        return meterRegistry.get("library.connection.budget.available").gauge().value();
+    }
+}
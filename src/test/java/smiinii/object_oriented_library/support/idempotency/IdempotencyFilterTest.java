@@ -0,0 +1,307 @@
+package smiinii.object_oriented_library.support.idempotency;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.TransactionExecution;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyFilterTest {
+
+    @Mock
+    private IdempotencyStore idempotencyStore;
+
+    private final CommitTracker commitTracker = new CommitTracker();
+
+    private IdempotencyFilter idempotencyFilter;
+
+    @BeforeEach
+    void setUp() {
+        idempotencyFilter = new IdempotencyFilter(idempotencyStore, commitTracker, new SimpleMeterRegistry(), 5_000, 64);
+    }
+
+    @Test
+    @DisplayName("doFilter: 처음 들어온 키는 요청을 실행하고 그 응답을 저장한다")
+    void executesAndStoresFirstResponse() throws Exception {
+        // given
+        when(idempotencyStore.claim(eq("key-1"), anyString())).thenReturn(IdempotencyClaim.claimed());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = (req, res) -> {
+            // 컨트롤러가 본문을 다시 읽을 수 있어야 한다.
+            assertThat(new String(req.getInputStream().readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("{\"bookId\":1}");
+            ((HttpServletResponse) res).setStatus(201);
+            res.setContentType("application/json");
+            res.getWriter().write("{\"loanId\":10}");
+        };
+        // when
+        idempotencyFilter.doFilter(loanRequest("key-1", "{\"bookId\":1}"), response, chain);
+        // then
+        ArgumentCaptor<StoredResponse> captor = ArgumentCaptor.forClass(StoredResponse.class);
+        verify(idempotencyStore).complete(eq("key-1"), anyString(), captor.capture());
+        assertThat(captor.getValue().getStatus()).isEqualTo(201);
+        assertThat(captor.getValue().getBody()).isEqualTo("{\"loanId\":10}");
+        assertThat(response.getStatus()).isEqualTo(201);
+        assertThat(response.getContentAsString()).isEqualTo("{\"loanId\":10}");
+    }
+
+    @Test
+    @DisplayName("doFilter: 이미 처리한 키는 요청을 다시 실행하지 않고 저장된 응답을 돌려준다")
+    void replaysStoredResponse() throws Exception {
+        // given
+        StoredResponse stored = new StoredResponse(201, "application/json", "{\"loanId\":10}");
+        when(idempotencyStore.claim(eq("key-1"), anyString())).thenReturn(IdempotencyClaim.replay(stored));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = mock(FilterChain.class);
+        // when
+        idempotencyFilter.doFilter(loanRequest("key-1", "{\"bookId\":1}"), response, chain);
+        // then
+        verifyNoInteractions(chain);
+        assertThat(response.getStatus()).isEqualTo(201);
+        assertThat(response.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(response.getContentAsString()).isEqualTo("{\"loanId\":10}");
+    }
+
+    @Test
+    @DisplayName("doFilter: 같은 키로 다른 본문을 보내면 422로 거절한다")
+    void rejectsMismatchedRequest() throws Exception {
+        // given
+        when(idempotencyStore.claim(eq("key-1"), anyString())).thenReturn(IdempotencyClaim.mismatch());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = mock(FilterChain.class);
+        // when
+        idempotencyFilter.doFilter(loanRequest("key-1", "{\"bookId\":2}"), response, chain);
+        // then
+        verifyNoInteractions(chain);
+        assertThat(response.getStatus()).isEqualTo(422);
+    }
+
+    @Test
+    @DisplayName("doFilter: 커밋 전에 끝난 서버 오류 응답은 저장하지 않고 선점을 푼다")
+    void releasesClaimOnServerError() throws Exception {
+        // given
+        when(idempotencyStore.claim(eq("key-1"), anyString())).thenReturn(IdempotencyClaim.claimed());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = (req, res) -> ((HttpServletResponse) res).setStatus(503);
+        // when
+        idempotencyFilter.doFilter(loanRequest("key-1", "{\"bookId\":1}"), response, chain);
+        // then
+        verify(idempotencyStore).release("key-1");
+        verify(idempotencyStore, never()).complete(anyString(), anyString(), any());
+        assertThat(response.getStatus()).isEqualTo(503);
+    }
+
+    @Test
+    @DisplayName("doFilter: 커밋 뒤의 서버 오류 응답은 선점을 풀지 않고 표시 응답을 저장한다")
+    void storesMarkerOnServerErrorAfterCommit() throws Exception {
+        // given
+        when(idempotencyStore.claim(eq("key-1"), anyString())).thenReturn(IdempotencyClaim.claimed());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = (req, res) -> {
+            commit(false);
+            ((HttpServletResponse) res).setStatus(500);
+        };
+        // when
+        idempotencyFilter.doFilter(loanRequest("key-1", "{\"bookId\":1}"), response, chain);
+        // then
+        ArgumentCaptor<StoredResponse> captor = ArgumentCaptor.forClass(StoredResponse.class);
+        verify(idempotencyStore).complete(eq("key-1"), anyString(), captor.capture());
+        verify(idempotencyStore, never()).release(anyString());
+        assertThat(captor.getValue().getStatus()).isEqualTo(500);
+        assertThat(captor.getValue().getBody()).contains("요청은 처리되었지만");
+        assertThat(response.getStatus()).isEqualTo(500);
+    }
+
+    @Test
+    @DisplayName("doFilter: 커밋 뒤에 예외가 나면 선점을 풀지 않고 표시 응답을 저장한 뒤 예외를 그대로 던진다")
+    void storesMarkerWhenHandlerThrowsAfterCommit() {
+        // given
+        when(idempotencyStore.claim(eq("key-1"), anyString())).thenReturn(IdempotencyClaim.claimed());
+        FilterChain chain = (req, res) -> {
+            commit(false);
+            throw new IllegalStateException("응답 직렬화 실패");
+        };
+        // when & then
+        assertThatThrownBy(() -> idempotencyFilter.doFilter(
+                loanRequest("key-1", "{\"bookId\":1}"), new MockHttpServletResponse(), chain))
+                .isInstanceOf(IllegalStateException.class);
+        ArgumentCaptor<StoredResponse> captor = ArgumentCaptor.forClass(StoredResponse.class);
+        verify(idempotencyStore).complete(eq("key-1"), anyString(), captor.capture());
+        verify(idempotencyStore, never()).release(anyString());
+        assertThat(captor.getValue().getStatus()).isEqualTo(500);
+    }
+
+    @Test
+    @DisplayName("doFilter: 쓰기 커밋 전에 예외가 나면 선점을 풀어 재시도가 다시 실행하게 한다")
+    void releasesClaimWhenHandlerThrowsBeforeCommit() {
+        // given
+        when(idempotencyStore.claim(eq("key-1"), anyString())).thenReturn(IdempotencyClaim.claimed());
+        FilterChain chain = (req, res) -> {
+            // 읽기 전용 트랜잭션의 커밋은 처리 완료로 보지 않는다.
+            commit(true);
+            throw new IllegalStateException("대출할 수 있는 소장본이 없습니다.");
+        };
+        // when & then
+        assertThatThrownBy(() -> idempotencyFilter.doFilter(
+                loanRequest("key-1", "{\"bookId\":1}"), new MockHttpServletResponse(), chain))
+                .isInstanceOf(IllegalStateException.class);
+        verify(idempotencyStore).release("key-1");
+        verify(idempotencyStore, never()).complete(anyString(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("doFilter: 커밋 뒤의 응답 본문이 저장 한도를 넘으면 상태만 살린 표시 응답을 저장한다")
+    void storesMarkerForOversizedResponseAfterCommit() throws Exception {
+        // given
+        when(idempotencyStore.claim(eq("key-1"), anyString())).thenReturn(IdempotencyClaim.claimed());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        String largeBody = "a".repeat(4001);
+        FilterChain chain = (req, res) -> {
+            commit(false);
+            ((HttpServletResponse) res).setStatus(201);
+            res.getWriter().write(largeBody);
+        };
+        // when
+        idempotencyFilter.doFilter(loanRequest("key-1", "{\"bookId\":1}"), response, chain);
+        // then
+        ArgumentCaptor<StoredResponse> captor = ArgumentCaptor.forClass(StoredResponse.class);
+        verify(idempotencyStore).complete(eq("key-1"), anyString(), captor.capture());
+        verify(idempotencyStore, never()).release(anyString());
+        assertThat(captor.getValue().getStatus()).isEqualTo(201);
+        assertThat(captor.getValue().getBody()).isNotEqualTo(largeBody);
+        assertThat(response.getContentAsString()).isEqualTo(largeBody);
+    }
+
+    @Test
+    @DisplayName("doFilter: 본문이 한도를 넘으면 선점하지 않고 413으로 거절한다")
+    void rejectsOversizedBody() throws Exception {
+        // given
+        MockHttpServletRequest declared = loanRequest("key-1", "{\"bookId\":1,\"memo\":\"" + "a".repeat(64) + "\"}");
+        // Content-Length 없이 들어온 본문도 한도까지만 읽고 거절한다.
+        MockHttpServletRequest undeclared = new MockHttpServletRequest("POST", "/api/loans") {
+            @Override
+            public long getContentLengthLong() {
+                return -1;
+            }
+        };
+        undeclared.addHeader(IdempotencyFilter.HEADER, "key-2");
+        undeclared.setContent("a".repeat(65).getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse declaredResponse = new MockHttpServletResponse();
+        MockHttpServletResponse undeclaredResponse = new MockHttpServletResponse();
+        FilterChain chain = mock(FilterChain.class);
+        // when
+        idempotencyFilter.doFilter(declared, declaredResponse, chain);
+        idempotencyFilter.doFilter(undeclared, undeclaredResponse, chain);
+        // then
+        verifyNoInteractions(chain, idempotencyStore);
+        assertThat(declaredResponse.getStatus()).isEqualTo(413);
+        assertThat(undeclaredResponse.getStatus()).isEqualTo(413);
+    }
+
+    @Test
+    @DisplayName("doFilter: 키가 없는 요청과 대상이 아닌 경로는 그대로 통과시킨다")
+    void passesThroughWithoutKey() throws Exception {
+        // given
+        MockHttpServletRequest withoutKey = new MockHttpServletRequest("POST", "/api/loans");
+        MockHttpServletRequest otherPath = new MockHttpServletRequest("POST", "/api/books");
+        otherPath.addHeader(IdempotencyFilter.HEADER, "key-1");
+        FilterChain chain = mock(FilterChain.class);
+        // when
+        idempotencyFilter.doFilter(withoutKey, new MockHttpServletResponse(), chain);
+        idempotencyFilter.doFilter(otherPath, new MockHttpServletResponse(), chain);
+        // then
+        verify(chain, times(2)).doFilter(any(), any());
+        verifyNoInteractions(idempotencyStore);
+    }
+
+    @Test
+    @DisplayName("doFilter: 같은 노드에 동시에 들어온 같은 키는 한 번만 실행하고 첫 응답을 함께 받는다")
+    void coalescesConcurrentDuplicates() throws Exception {
+        // given
+        when(idempotencyStore.claim(eq("key-1"), anyString())).thenReturn(IdempotencyClaim.claimed());
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch proceed = new CountDownLatch(1);
+        AtomicInteger executions = new AtomicInteger();
+        FilterChain chain = (req, res) -> {
+            executions.incrementAndGet();
+            entered.countDown();
+            try {
+                proceed.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            ((HttpServletResponse) res).setStatus(201);
+            res.getWriter().write("{\"loanId\":10}");
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        MockHttpServletResponse leaderResponse = new MockHttpServletResponse();
+        MockHttpServletResponse followerResponse = new MockHttpServletResponse();
+        // when
+        Future<?> leader = executor.submit(() -> {
+            idempotencyFilter.doFilter(loanRequest("key-1", "{\"bookId\":1}"), leaderResponse, chain);
+            return null;
+        });
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+        AtomicReference<Thread> followerThread = new AtomicReference<>();
+        Future<?> follower = executor.submit(() -> {
+            followerThread.set(Thread.currentThread());
+            idempotencyFilter.doFilter(loanRequest("key-1", "{\"bookId\":1}"), followerResponse, chain);
+            return null;
+        });
+        // 뒤따른 요청이 첫 요청의 결과를 기다리기 시작한 뒤에 첫 요청을 끝낸다.
+        long waitUntil = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while ((followerThread.get() == null || followerThread.get().getState() != Thread.State.TIMED_WAITING)
+                && System.nanoTime() < waitUntil) {
+            Thread.sleep(1);
+        }
+        proceed.countDown();
+        leader.get(5, TimeUnit.SECONDS);
+        follower.get(5, TimeUnit.SECONDS);
+        executor.shutdown();
+        // then
+        assertThat(executions.get()).isEqualTo(1);
+        verify(idempotencyStore, times(1)).claim(eq("key-1"), anyString());
+        assertThat(followerResponse.getStatus()).isEqualTo(201);
+        assertThat(followerResponse.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(followerResponse.getContentAsString()).isEqualTo("{\"loanId\":10}");
+    }
+
+    // 요청 처리 중 트랜잭션 매니저가 커밋을 알리는 것을 흉내 낸다.
+    private void commit(boolean readOnly) {
+        TransactionExecution transaction = mock(TransactionExecution.class);
+        when(transaction.isReadOnly()).thenReturn(readOnly);
+        commitTracker.afterCommit(transaction, null);
+    }
+
+    private MockHttpServletRequest loanRequest(String key, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/loans");
+        request.addHeader(IdempotencyFilter.HEADER, key);
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+}
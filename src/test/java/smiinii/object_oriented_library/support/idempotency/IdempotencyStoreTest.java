@@ -0,0 +1,79 @@
+package smiinii.object_oriented_library.support.idempotency;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import smiinii.object_oriented_library.repository.IdempotencyRecordJdbcRepository;
+import smiinii.object_oriented_library.repository.IdempotencyRecordRepository;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyStoreTest {
+
+    @Mock
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    @Mock
+    private IdempotencyRecordJdbcRepository idempotencyRecordJdbcRepository;
+
+    private final LocalDateTime now = LocalDateTime.of(2025, 11, 18, 10, 0);
+    private final Clock clock = Clock.fixed(now.toInstant(ZoneOffset.UTC), ZoneId.of("UTC"));
+
+    private IdempotencyStore idempotencyStore;
+
+    @BeforeEach
+    void setUp() {
+        idempotencyStore = new IdempotencyStore(
+                idempotencyRecordRepository, idempotencyRecordJdbcRepository, clock, 24, 120, 100);
+    }
+
+    @Test
+    @DisplayName("claim: 처음 보는 키는 INSERT 한 번으로 선점하고 기존 행을 읽지 않는다")
+    void claimsNewKeyWithInsert() {
+        // given
+        when(idempotencyRecordJdbcRepository.insertPending("key-1", "fp", now, now.plusSeconds(120))).thenReturn(true);
+        // when
+        IdempotencyClaim claim = idempotencyStore.claim("key-1", "fp");
+        // then
+        assertThat(claim.getOutcome()).isEqualTo(IdempotencyClaim.Outcome.CLAIMED);
+        verifyNoInteractions(idempotencyRecordRepository);
+        verify(idempotencyRecordJdbcRepository, never()).takeOverExpired(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("claim: 기간이 지난 키는 조건부 UPDATE로 가져간다")
+    void takesOverExpiredKey() {
+        // given
+        when(idempotencyRecordJdbcRepository.insertPending("key-1", "fp", now, now.plusSeconds(120))).thenReturn(false);
+        when(idempotencyRecordJdbcRepository.takeOverExpired("key-1", "fp", now, now.plusSeconds(120))).thenReturn(true);
+        // when
+        IdempotencyClaim claim = idempotencyStore.claim("key-1", "fp");
+        // then
+        assertThat(claim.getOutcome()).isEqualTo(IdempotencyClaim.Outcome.CLAIMED);
+        verifyNoInteractions(idempotencyRecordRepository);
+    }
+
+    @Test
+    @DisplayName("claim: 선점에 모두 실패했는데 행이 그 사이 지워졌다면 처리 중으로 답해 재시도하게 한다")
+    void answersInProgressWhenRecordVanished() {
+        // given
+        when(idempotencyRecordJdbcRepository.insertPending("key-1", "fp", now, now.plusSeconds(120))).thenReturn(false);
+        when(idempotencyRecordJdbcRepository.takeOverExpired("key-1", "fp", now, now.plusSeconds(120))).thenReturn(false);
+        when(idempotencyRecordRepository.findById("key-1")).thenReturn(Optional.empty());
+        // when
+        IdempotencyClaim claim = idempotencyStore.claim("key-1", "fp");
+        // then
+        assertThat(claim.getOutcome()).isEqualTo(IdempotencyClaim.Outcome.IN_PROGRESS);
+    }
+}
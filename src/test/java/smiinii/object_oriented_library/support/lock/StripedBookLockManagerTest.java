@@ -0,0 +1,134 @@
+package smiinii.object_oriented_library.support.lock;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StripedBookLockManagerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private StripedBookLockManager lockManager;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        lockManager = new StripedBookLockManager(meterRegistry, 16, 100);
+    }
+
+    @Test
+    @DisplayName("acquire: 같은 도서의 작업은 한 번에 하나씩만 실행된다")
+    void serializesSameBook() throws Exception {
+        // given
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        StripedBookLockManager patientLockManager = new StripedBookLockManager(new SimpleMeterRegistry(), 16, 5_000);
+        // when
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            futures.add(executor.submit(() -> {
+                try (BookLockManager.BookLock ignored = patientLockManager.acquire(1L)) {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    Thread.sleep(5);
+                    running.decrementAndGet();
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+        // then
+        assertThat(maxRunning.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("acquire: 제한 시간 안에 잠금을 얻지 못하면 예외를 던지고 스트라이프별 경합을 기록한다")
+    void throwsWhenWaitTimesOut() throws Exception {
+        // given
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(1);
+        Thread holder = new Thread(() -> {
+            try (BookLockManager.BookLock ignored = lockManager.acquire(1L)) {
+                locked.countDown();
+                done.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        holder.start();
+        locked.await();
+        // when & then
+        assertThatThrownBy(() -> lockManager.acquire(1L))
+                .isInstanceOf(IllegalStateException.class);
+        done.countDown();
+        holder.join();
+
+        String stripe = String.valueOf(lockManager.stripeOf(1L));
+        assertThat(meterRegistry.get("library.book.lock.contended").tag("stripe", stripe).counter().count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.get("library.book.lock.timeouts").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("acquireAll: 여러 도서를 한꺼번에 잠그고, 하나라도 얻지 못하면 이미 잡은 잠금을 모두 놓는다")
+    void acquiresAllOrNothing() throws Exception {
+        // given
+        long otherBookId = 2L;
+        while (lockManager.stripeOf(otherBookId) == lockManager.stripeOf(1L)) {
+            otherBookId++;
+        }
+        long busyBookId = otherBookId;
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(1);
+        Thread holder = new Thread(() -> {
+            try (BookLockManager.BookLock ignored = lockManager.acquire(busyBookId)) {
+                locked.countDown();
+                done.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        holder.start();
+        locked.await();
+        // when & then
+        assertThatThrownBy(() -> lockManager.acquireAll(List.of(1L, busyBookId)))
+                .isInstanceOf(IllegalStateException.class);
+        done.countDown();
+        holder.join();
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        // 실패한 쪽이 먼저 잡았던 잠금도 풀려 있어야 다른 스레드가 얻을 수 있다.
+        executor.submit(() -> lockManager.acquire(1L).close()).get(1, TimeUnit.SECONDS);
+        try (BookLockManager.BookLock ignored = lockManager.acquireAll(List.of(busyBookId, 1L))) {
+            assertThat(meterRegistry.get("library.book.lock.timeouts").counter().count()).isEqualTo(1.0);
+        }
+        executor.submit(() -> lockManager.acquireAll(List.of(1L, busyBookId)).close()).get(1, TimeUnit.SECONDS);
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("acquire: 같은 스레드는 이미 잡은 잠금을 다시 얻을 수 있다")
+    void isReentrant() {
+        // when
+        try (BookLockManager.BookLock outer = lockManager.acquire(1L);
+             BookLockManager.BookLock inner = lockManager.acquire(1L)) {
+            // then
+            assertThat(meterRegistry.get("library.book.lock.timeouts").counter().count()).isZero();
+        }
+    }
+}
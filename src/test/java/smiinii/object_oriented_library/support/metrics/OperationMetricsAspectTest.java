@@ -0,0 +1,105 @@
+package smiinii.object_oriented_library.support.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
+import smiinii.object_oriented_library.domain.NotFoundException;
+import smiinii.object_oriented_library.domain.RuleViolationException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OperationMetricsAspectTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("성공한 연산은 success 결과로 시간과 호출 수를 기록한다")
+    void recordsSuccess() {
+        // given
+        Operation operation = proxy(new Operation.Succeeding());
+        // when
+        operation.run();
+        // then
+        assertThat(meterRegistry.get("library.operation.duration")
+                .tag("outcome", "success")
+                .timer().count()).isEqualTo(1);
+        assertThat(calls("success")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("실패한 연산은 예외의 실패 사유로 기록하고 예외를 그대로 던진다")
+    void recordsFailureReason() {
+        // given
+        Operation operation = proxy(new Operation.Failing(new RuleViolationException(
+                RuleViolationException.Rule.NO_AVAILABLE_COPY, "대출 가능한 소장본이 없습니다.")));
+        // when & then
+        assertThatThrownBy(operation::run)
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(calls("no_available_copy")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("OperationOutcome.from: 메시지가 아니라 예외 타입과 규칙으로 실패 사유를 구분한다")
+    void mapsFailureToOutcome() {
+        assertThat(OperationOutcome.from(new OptimisticLockingFailureException("버전 충돌")))
+                .isEqualTo(OperationOutcome.CONFLICT);
+        assertThat(OperationOutcome.from(new NotFoundException("회원이 없습니다.")))
+                .isEqualTo(OperationOutcome.NOT_FOUND);
+        assertThat(OperationOutcome.from(new RuleViolationException(
+                RuleViolationException.Rule.OVERDUE_EXTENSION, "문구가 바뀐 메시지")))
+                .isEqualTo(OperationOutcome.OVERDUE_EXTENSION);
+        // 같은 문구라도 타입이 없으면 사유를 추측하지 않는다.
+        assertThat(OperationOutcome.from(new IllegalStateException("연체 중인 도서는 연장할 수 없습니다.")))
+                .isEqualTo(OperationOutcome.ERROR);
+    }
+
+    private Operation proxy(Operation target) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.addInterface(Operation.class);
+        factory.addAspect(new OperationMetricsAspect(meterRegistry));
+        return factory.getProxy();
+    }
+
+    private double calls(String outcome) {
+        return meterRegistry.get("library.operation.calls")
+                .tag("outcome", outcome)
+                .counter().count();
+    }
+
+    interface Operation {
+        String run();
+
+        class Succeeding implements Operation {
+
+            @Override
+            @TimedOperation
+            public String run() {
+                return "ok";
+            }
+        }
+
+        class Failing implements Operation {
+
+            private final RuntimeException failure;
+
+            Failing(RuntimeException failure) {
+                this.failure = failure;
+            }
+
+            @Override
+            @TimedOperation
+            public String run() {
+                throw failure;
+            }
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package smiinii.object_oriented_library.support.retry;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConflictRetryAspectTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("충돌이 상한 이내로 발생하면 재시도 끝에 성공하고 충돌/재시도 횟수를 기록한다")
+    void retriesUntilSuccess() {
+        // given
+        ConflictingOperation target = new ConflictingOperation(2);
+        Operation operation = proxy(target, 3);
+        // when
+        String result = operation.run();
+        // then
+        assertThat(result).isEqualTo("ok");
+        assertThat(target.calls).isEqualTo(3);
+        assertThat(count("library.optimistic.conflicts")).isEqualTo(2.0);
+        assertThat(count("library.optimistic.retries")).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("재시도 횟수를 모두 소진하면 마지막 충돌 예외를 그대로 던진다")
+    void throwsWhenAttemptsExhausted() {
+        // given
+        ConflictingOperation target = new ConflictingOperation(5);
+        Operation operation = proxy(target, 3);
+        // when & then
+        assertThatThrownBy(operation::run)
+                .isInstanceOf(OptimisticLockingFailureException.class);
+        assertThat(target.calls).isEqualTo(3);
+        assertThat(count("library.optimistic.exhausted")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("충돌이 아닌 예외는 재시도하지 않는다")
+    void doesNotRetryOtherExceptions() {
+        // given
+        FailingOperation target = new FailingOperation();
+        Operation operation = proxy(target, 3);
+        // when & then
+        assertThatThrownBy(operation::run)
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(target.calls).isEqualTo(1);
+        assertThat(meterRegistry.find("library.optimistic.conflicts").counter()).isNull();
+    }
+
+    private Operation proxy(Operation target, int maxAttempts) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.addInterface(Operation.class);
+        factory.addAspect(new ConflictRetryAspect(meterRegistry, maxAttempts, 0, 0));
+        return factory.getProxy();
+    }
+
+    private double count(String name) {
+        return meterRegistry.get(name).counter().count();
+    }
+
+    interface Operation {
+        String run();
+    }
+
+    static class ConflictingOperation implements Operation {
+
+        private final int conflicts;
+        private int calls;
+
+        ConflictingOperation(int conflicts) {
+            this.conflicts = conflicts;
+        }
+
+        @Override
+        @RetryOnConflict
+        public String run() {
+            calls++;
+            if (calls <= conflicts) {
+                throw new OptimisticLockingFailureException("버전 충돌");
+            }
+            return "ok";
+        }
+    }
+
+    static class FailingOperation implements Operation {
+
+        private int calls;
+
+        @Override
+        @RetryOnConflict
+        public String run() {
+            calls++;
+            throw new IllegalStateException("대출 가능한 소장본이 없습니다.");
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package smiinii.object_oriented_library.support.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import smiinii.object_oriented_library.dto.book.BookSearchResponse;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BookSearchIndexTest {
+
+    private BookSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new BookSearchIndex();
+        index.index(List.of(
+                new BookDocument(1L, "클린 코드", "로버트 마틴"),
+                new BookDocument(2L, "Clean Architecture", "Robert C. Martin"),
+                new BookDocument(3L, "오브젝트", "조영호"),
+                new BookDocument(4L, "객체지향의 사실과 오해", "조영호"),
+                new BookDocument(5L, "마틴 파울러의 리팩터링", "마틴 파울러")
+        ));
+    }
+
+    @Test
+    @DisplayName("tokenize: 한글은 음절 바이그램, 라틴 문자는 소문자 단어로 자른다")
+    void tokenizesHangulAndLatin() {
+        assertThat(BookTokenizer.tokenize("클린코드 Clean-Code 2판"))
+                .containsExactly("클린", "린코", "코드", "clean", "code", "2", "판");
+    }
+
+    @Test
+    @DisplayName("tokenizeForIndex: 색인할 때는 한글 바이그램에 음절 유니그램을 더한다")
+    void addsHangulUnigramsForIndex() {
+        assertThat(BookTokenizer.tokenizeForIndex("책 읽는 밤"))
+                .containsExactly("책읽", "읽는", "는밤", "책", "읽", "는", "밤");
+    }
+
+    @Test
+    @DisplayName("search: 한 글자 검색어는 그 음절이 들어간 제목을 모두 찾는다")
+    void findsSingleSyllableInLongerTitles() {
+        index.index(List.of(
+                new BookDocument(6L, "책 읽는 밤", "김작가"),
+                new BookDocument(7L, "책", "이작가"),
+                new BookDocument(8L, "꽃을 보듯 너를 본다", "나태주")
+        ));
+
+        assertThat(index.search("책", 10)).extracting(BookSearchResponse::getId).containsExactlyInAnyOrder(6L, 7L);
+        assertThat(index.search("꽃", 10)).extracting(BookSearchResponse::getId).containsExactly(8L);
+    }
+
+    @Test
+    @DisplayName("search: 띄어쓰기가 달라도 한글 바이그램이 모두 맞으면 찾는다")
+    void findsHangulRegardlessOfSpacing() {
+        List<BookSearchResponse> results = index.search("클린코드", 10);
+
+        assertThat(results).extracting(BookSearchResponse::getId).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("search: 라틴 문자는 대소문자를 구분하지 않고 모든 단어를 포함한 도서만 찾는다")
+    void matchesAllLatinTerms() {
+        assertThat(index.search("ROBERT martin", 10)).extracting(BookSearchResponse::getId).containsExactly(2L);
+        assertThat(index.search("robert fowler", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("search: 제목에 나온 토큰을 저자에만 나온 토큰보다 높게 순위를 매긴다")
+    void ranksTitleMatchesFirst() {
+        List<BookSearchResponse> results = index.search("마틴", 10);
+
+        assertThat(results).extracting(BookSearchResponse::getId).containsExactly(5L, 1L);
+    }
+
+    @Test
+    @DisplayName("index: 이미 색인된 도서는 다시 추가하지 않는다")
+    void ignoresDuplicates() {
+        index.index(List.of(new BookDocument(3L, "오브젝트", "조영호")));
+
+        assertThat(index.size()).isEqualTo(5);
+        assertThat(index.search("조영호", 10)).extracting(BookSearchResponse::getId).containsExactly(3L, 4L);
+    }
+}
@@ -0,0 +1,59 @@
+package smiinii.object_oriented_library.support.suggest;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TitleSuggestIndexTest {
+
+    private TitleSuggestIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TitleSuggestIndex(3);
+        TitleSuggestIndex.Rebuild rebuild = index.startRebuild();
+        rebuild.add(new TitleSuggestion(1L, "클린 코드", 10L));
+        rebuild.add(new TitleSuggestion(2L, "클린 아키텍처", 30L));
+        rebuild.add(new TitleSuggestion(3L, "크리스마스 캐럴", 5L));
+        rebuild.add(new TitleSuggestion(4L, "Clean Code", 20L));
+        rebuild.add(new TitleSuggestion(5L, "클래식 음악", 1L));
+        rebuild.commit();
+    }
+
+    @Test
+    @DisplayName("suggest: 접두어로 시작하는 제목을 대출 수 순으로 돌려준다")
+    void ordersByLoanCount() {
+        assertThat(index.suggest("클린", 10))
+                .extracting(TitleSuggestion::getBookId)
+                .containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("suggest: 입력 중인 음절과 호환 자모도 접두어로 본다")
+    void matchesComposingHangul() {
+        assertThat(index.suggest("클리", 10)).extracting(TitleSuggestion::getBookId).containsExactly(2L, 1L);
+        assertThat(index.suggest("ㅋ", 10)).extracting(TitleSuggestion::getBookId).containsExactly(2L, 1L, 3L);
+        // "크리..."를 치는 중에 받침으로 붙은 "클"
+        assertThat(index.suggest("클", 3)).extracting(TitleSuggestion::getBookId).containsExactly(2L, 1L, 3L);
+    }
+
+    @Test
+    @DisplayName("suggest: 라틴 문자는 대소문자를 구분하지 않는다")
+    void ignoresCase() {
+        assertThat(index.suggest("clean c", 10)).extracting(TitleSuggestion::getBookId).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("insert: 재구성 중 등록된 도서도 교체된 색인에 남고 중복되지 않는다")
+    void keepsInsertionsDuringRebuild() {
+        TitleSuggestIndex.Rebuild rebuild = index.startRebuild();
+        rebuild.add(new TitleSuggestion(1L, "클린 코드", 10L));
+        index.insert(new TitleSuggestion(6L, "클린 소프트웨어", 0L));
+        rebuild.add(new TitleSuggestion(6L, "클린 소프트웨어", 0L));
+        rebuild.commit();
+
+        assertThat(index.suggest("클린", 10)).extracting(TitleSuggestion::getBookId).containsExactly(1L, 6L);
+    }
+}
@@ -0,0 +1,63 @@
+package smiinii.object_oriented_library.support.timer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HierarchicalTimingWheelTest {
+
+    // 틱 1초, 60 x 60 = 1시간 범위
+    private final HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(1000, 60, 2, 0);
+
+    @Test
+    @DisplayName("advanceTo: 마감 시각이 지난 항목만 돌려준다")
+    void expiresOnlyDueItems() {
+        // given
+        wheel.schedule(1L, 5_000);
+        wheel.schedule(2L, 10_000);
+        // when & then
+        assertThat(wheel.advanceTo(4_999)).isEmpty();
+        assertThat(wheel.advanceTo(5_000)).containsExactly(1L);
+        assertThat(wheel.size()).isEqualTo(1);
+        assertThat(wheel.advanceTo(10_000)).containsExactly(2L);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("advanceTo: 상위 레벨에 있던 항목은 하위 레벨로 내려와 제 시각에 만료된다")
+    void cascadesFromUpperLevel() {
+        // given
+        wheel.schedule(1L, 1_800_500); // 30분 0.5초 뒤 -> 틱 올림으로 1801초
+        // when & then
+        assertThat(wheel.advanceTo(1_800_999)).isEmpty();
+        assertThat(wheel.advanceTo(1_801_000)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("schedule: 범위를 넘는 마감은 받지 않고, 이미 지난 마감은 다음 진행에서 바로 돌려준다")
+    void rejectsBeyondHorizonAndExpiresPastDeadline() {
+        // when
+        HierarchicalTimingWheel.Timeout<Long> beyond = wheel.schedule(1L, wheel.horizonMillis());
+        HierarchicalTimingWheel.Timeout<Long> past = wheel.schedule(2L, -1_000);
+        // then
+        assertThat(beyond).isNull();
+        assertThat(past).isNotNull();
+        assertThat(wheel.advanceTo(0)).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("cancel: 취소한 항목은 마감이 와도 돌려주지 않는다")
+    void cancelledItemDoesNotExpire() {
+        // given
+        HierarchicalTimingWheel.Timeout<Long> timeout = wheel.schedule(1L, 5_000);
+        wheel.schedule(2L, 5_000);
+        // when
+        boolean cancelled = timeout.cancel();
+        // then
+        assertThat(cancelled).isTrue();
+        assertThat(timeout.cancel()).isFalse();
+        assertThat(wheel.size()).isEqualTo(1);
+        assertThat(wheel.advanceTo(5_000)).containsExactly(2L);
+    }
+}